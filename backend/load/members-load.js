@@ -0,0 +1,67 @@
+// k6 load profile for comparing REST execution models: the classic and reactive stacks,
+// and in the classic stack virtual threads against the worker pool.
+//
+//   BASE_URL=http://localhost:8080 TOKEN=<admin bearer token> k6 run load/members-load.js
+//
+// Run it once against a build with -Dkitchensink.stack=classic and once with
+// -Dkitchensink.stack=reactive; compare http_reqs (throughput) and the p(99) of
+// http_req_duration in the end-of-test summary.
+//
+// SCENARIO=saturate raises the arrival rate until the server cannot keep up: the rate at
+// which dropped_iterations start and vus_max climb is the concurrency it sustains. Run it
+// with quarkus.virtual-threads.enabled=true and =false to compare the two thread models.
+// USER_TOKEN adds non-admin requests, which also go through RegistrationCheckFilter.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const USER_TOKEN = __ENV.USER_TOKEN;
+const MEMBER_ID = __ENV.MEMBER_ID;
+
+const scenarios = {
+  ramp: {
+    executor: 'ramping-vus',
+    startVUs: 10,
+    stages: [
+      { duration: '30s', target: Number(__ENV.MAX_VUS || 200) },
+      { duration: '2m', target: Number(__ENV.MAX_VUS || 200) },
+      { duration: '15s', target: 0 },
+    ],
+  },
+  saturate: {
+    executor: 'ramping-arrival-rate',
+    startRate: 50,
+    timeUnit: '1s',
+    preAllocatedVUs: 200,
+    maxVUs: Number(__ENV.MAX_VUS || 2000),
+    stages: [
+      { duration: '3m', target: Number(__ENV.MAX_RATE || 5000) },
+    ],
+  },
+};
+
+export const options = {
+  scenarios: {
+    members: scenarios[__ENV.SCENARIO || 'ramp'],
+  },
+  summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+const params = { headers: { Authorization: `Bearer ${TOKEN}` } };
+const userParams = { headers: { Authorization: `Bearer ${USER_TOKEN}` } };
+
+export default function () {
+  const list = http.get(`${BASE_URL}/api/members?size=20`, params);
+  check(list, { 'list 200': (r) => r.status === 200 });
+
+  if (MEMBER_ID) {
+    const single = http.get(`${BASE_URL}/api/members/${MEMBER_ID}`, params);
+    check(single, { 'get 200': (r) => r.status === 200 });
+  }
+
+  if (USER_TOKEN) {
+    const own = http.get(`${BASE_URL}/api/members`, userParams);
+    check(own, { 'own 200': (r) => r.status === 200 });
+  }
+}
@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+# Time to first request and resident memory of the JVM build against the native build.
+#
+#   ./mvnw package && ./mvnw package -Dnative
+#   load/startup-benchmark.sh [runs]
+#
+# Each run starts the application, polls until the first request succeeds and records the
+# elapsed time and VmRSS, then sends WARM_REQUESTS more requests and records VmRSS again.
+# The first request goes to /q/metrics, or to /api/members when TOKEN holds a bearer token,
+# which also covers the first Mongo round trip. Mongo settings come from the usual
+# environment, e.g. QUARKUS_MONGODB_CONNECTION_STRING. Linux only (reads /proc).
+#
+# Rows go to target/startup-benchmark.csv; the medians per build are printed at the end.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-8080}
+WARM_REQUESTS=${WARM_REQUESTS:-500}
+TOKEN=${TOKEN:-}
+JVM_CMD=${JVM_CMD:-"java -jar target/quarkus-app/quarkus-run.jar"}
+NATIVE_CMD=${NATIVE_CMD:-"$(ls target/*-runner 2>/dev/null | head -n 1)"}
+OUT=target/startup-benchmark.csv
+
+if [[ -n "$TOKEN" ]]; then
+  URL="http://localhost:${PORT}/api/members?size=20"
+  AUTH=(-H "Authorization: Bearer ${TOKEN}")
+else
+  URL="http://localhost:${PORT}/q/metrics"
+  AUTH=()
+fi
+
+rss_kb() {
+  awk '/^VmRSS/ {print $2}' "/proc/$1/status"
+}
+
+run_once() {
+  local build=$1 run=$2 cmd=$3
+  local start pid first_ms rss_first rss_warm
+
+  start=$(date +%s%N)
+  QUARKUS_HTTP_PORT=$PORT $cmd >"target/startup-${build}-${run}.log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "${AUTH[@]}" "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "$build run $run exited before serving a request, see target/startup-${build}-${run}.log" >&2
+      exit 1
+    fi
+    sleep 0.005
+  done
+  first_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+  rss_first=$(rss_kb "$pid")
+
+  for _ in $(seq "$WARM_REQUESTS"); do
+    curl -sf -o /dev/null "${AUTH[@]}" "$URL"
+  done
+  rss_warm=$(rss_kb "$pid")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$build,$run,$first_ms,$rss_first,$rss_warm" >>"$OUT"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+mkdir -p target
+echo "build,run,first_request_ms,rss_first_kb,rss_warm_kb" >"$OUT"
+
+builds=(jvm)
+[[ -n "$NATIVE_CMD" ]] && builds+=(native) || echo "No native runner in target/, measuring the JVM build only" >&2
+
+for build in "${builds[@]}"; do
+  cmd=$JVM_CMD
+  [[ $build == native ]] && cmd=$NATIVE_CMD
+  for run in $(seq "$RUNS"); do
+    run_once "$build" "$run" "$cmd"
+  done
+done
+
+printf '%-8s %18s %14s %14s\n' build first_request_ms rss_first_mb rss_warm_mb
+for build in "${builds[@]}"; do
+  rows=$(grep "^$build," "$OUT")
+  first=$(cut -d, -f3 <<<"$rows" | median)
+  rss_first=$(cut -d, -f4 <<<"$rows" | median)
+  rss_warm=$(cut -d, -f5 <<<"$rows" | median)
+  printf '%-8s %18s %14.1f %14.1f\n' "$build" "$first" "$(awk "BEGIN { print $rss_first / 1024 }")" "$(awk "BEGIN { print $rss_warm / 1024 }")"
+done
@@ -0,0 +1,113 @@
+package org.mongodb.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares a JMH JSON result with a recorded baseline and exits non-zero when a
+ * benchmark got slower, or allocates more per operation, by more than the threshold.
+ *
+ * <pre>./mvnw -Pbench exec:exec@baseline-report</pre>
+ *
+ * Arguments: {@code <baseline.json> <result.json> [threshold percent]}.
+ */
+public final class BaselineReport {
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private BaselineReport() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BaselineReport <baseline.json> <result.json> [threshold percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        if (!new File(args[0]).isFile()) {
+            System.err.println("no baseline at " + args[0] + ", record one first (see README)");
+            System.exit(2);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = index(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = index(mapper.readTree(new File(args[1])));
+
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-80s %14s %14s %9s %12s %12s %9s%n",
+                "benchmark", "baseline", "current", "delta", "B/op base", "B/op now", "delta");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-80s %14s %14.3f%n", entry.getKey(), "(new)", score(now));
+                continue;
+            }
+
+            // Throughput improves upwards, every time based mode improves downwards
+            boolean higherIsBetter = "thrpt".equals(now.path("mode").asText());
+            double scoreDelta = percentChange(score(before), score(now));
+            double worseBy = higherIsBetter ? -scoreDelta : scoreDelta;
+
+            Double allocBefore = allocation(before);
+            Double allocNow = allocation(now);
+            double allocDelta = allocBefore != null && allocNow != null ? percentChange(allocBefore, allocNow) : 0.0;
+
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%% %12s %12s %+8.1f%%%n",
+                    entry.getKey(), score(before), score(now), scoreDelta,
+                    format(allocBefore), format(allocNow), allocDelta);
+
+            if (worseBy > threshold) {
+                regressions.add(entry.getKey() + ": score " + String.format("%+.1f%%", scoreDelta));
+            }
+            if (allocDelta > threshold) {
+                regressions.add(entry.getKey() + ": allocation " + String.format("%+.1f%%", allocDelta));
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.out.println();
+            System.out.println("Regressions beyond " + threshold + "%:");
+            regressions.forEach(regression -> System.out.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> byKey = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(key.indexOf(":") < 0 ? ":" : ",").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static Double allocation(JsonNode result) {
+        JsonNode metric = result.path("secondaryMetrics").path(ALLOCATION);
+        return metric.isMissingNode() ? null : metric.path("score").asDouble();
+    }
+
+    private static double percentChange(double before, double now) {
+        return before == 0.0 ? 0.0 : (now - before) / before * 100.0;
+    }
+
+    private static String format(Double value) {
+        return value == null ? "-" : String.format("%.1f", value);
+    }
+}
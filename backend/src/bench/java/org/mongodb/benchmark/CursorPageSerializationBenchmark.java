@@ -0,0 +1,73 @@
+package org.mongodb.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Jackson serialization of a {@code GET /api/members} response body, for the full
+ * {@link Member} shape and for a projected {@link MemberView} page.
+ *
+ * <pre>./mvnw -Pbench test-compile exec:exec -Djmh.args="CursorPageSerializationBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CursorPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private CursorPage<Member> page;
+    private CursorPage<MemberView> projectedPage;
+
+    @Setup
+    public void setUp() {
+        writer = new ObjectMapper().writer();
+
+        List<Member> members = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            members.add(new Member(new ObjectId(), "user-" + i, "user" + i, "First" + i, "Last" + i,
+                    "user" + i + "@example.com", "1234567890"));
+        }
+        page = new CursorPage<>(members, members.get(pageSize - 1).id().toString());
+
+        MemberProjection projection = MemberProjection.parse("id,firstName,email");
+        projectedPage = page.map(member -> MemberView.of(member, projection));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeProjectedPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(projectedPage);
+    }
+}
@@ -0,0 +1,69 @@
+package org.mongodb.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberSort;
+import org.mongodb.repository.MemberQueries;
+import org.mongodb.repository.PageCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Turning the {@code cursor} query parameter into the listing filter, for legacy
+ * ObjectId cursors and opaque keyset cursors, including the cost of rejecting a malformed cursor.
+ *
+ * <pre>./mvnw -Pbench test-compile exec:exec -Djmh.args="CursorParsingBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CursorParsingBenchmark {
+    private final String validCursor = new ObjectId().toHexString();
+    private final String invalidCursor = "not-a-valid-object-id";
+    private final MemberSort byLastName = MemberSort.parse("lastName");
+    private final String opaqueCursor = PageCursor.after(
+            new Member(new ObjectId(), "user-id", "johndoe", "John", "Doe", "john.doe@example.com", "1234567890"),
+            byLastName).encode();
+
+    @Benchmark
+    public ObjectId parse() {
+        return new ObjectId(validCursor);
+    }
+
+    @Benchmark
+    public Bson parseAndBuildFilter() {
+        return MemberQueries.afterCursor(new ObjectId(validCursor)).toBsonDocument();
+    }
+
+    @Benchmark
+    public Bson decodeOpaqueCursorAndBuildFilter() {
+        return MemberQueries.after(PageCursor.decode(opaqueCursor, byLastName)).toBsonDocument();
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return ObjectId.isValid(validCursor);
+    }
+
+    @Benchmark
+    public Object rejectInvalid() {
+        try {
+            return new ObjectId(invalidCursor);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
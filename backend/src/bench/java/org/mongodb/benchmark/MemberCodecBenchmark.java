@@ -0,0 +1,89 @@
+package org.mongodb.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.mongodb.model.Member;
+import org.mongodb.repository.codec.MemberCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.MongoClientSettings;
+
+/**
+ * Compares {@link MemberCodec} with the reflective codec the driver resolves for
+ * {@link Member} when no dedicated codec is registered.
+ *
+ * <pre>./mvnw -Pbench test-compile exec:exec -Djmh.args="MemberCodecBenchmark -prof gc"</pre>
+ *
+ * With {@code -prof gc}, {@code gc.alloc.rate.norm} reports bytes allocated per document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberCodecBenchmark {
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    @Param({"generated", "reflective"})
+    public String codecType;
+
+    private Codec<Member> codec;
+    private Member member;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        if ("generated".equals(codecType)) {
+            codec = new MemberCodec();
+        } else {
+            CodecRegistry registry = CodecRegistries.fromRegistries(
+                MongoClientSettings.getDefaultCodecRegistry(),
+                CodecRegistries.fromProviders(PojoCodecProvider.builder().automatic(true).build())
+            );
+            codec = registry.get(Member.class);
+        }
+
+        member = new Member(new ObjectId(), "5d1f6a0e-2c4b-4f8e-9a57-3b0c1d2e4f60", "johndoe",
+                "John", "Doe", "john.doe@example.com", "1234567890");
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(256);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, member, ENCODER_CONTEXT);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public Member decode() {
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(encoded))) {
+            return codec.decode(reader, DECODER_CONTEXT);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.mongodb.benchmark;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.filter.RegistrationCheckFilter;
+import org.mongodb.repository.MemberRepo;
+import org.mongodb.service.MemberService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.UriInfo;
+
+/**
+ * The per-request decision made by {@link RegistrationCheckFilter}, with the
+ * database replaced by a stub so only the filter and cache are measured:
+ * <ul>
+ *     <li>{@code skipped}: a registration endpoint, no lookup at all</li>
+ *     <li>{@code cached}: a known member answered by the existence cache</li>
+ *     <li>{@code uncached}: a known member with caching disabled, so every request asks the repository</li>
+ *     <li>{@code unregistered}: an unknown member rejected with 401 from the negative cache</li>
+ * </ul>
+ *
+ * <pre>./mvnw -Pbench test-compile exec:exec -Djmh.args="RegistrationCheckFilterBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationCheckFilterBenchmark {
+
+    @Param({"skipped", "cached", "uncached", "unregistered"})
+    public String scenario;
+
+    private RegistrationCheckFilter filter;
+    private ContainerRequestContext request;
+
+    @Setup
+    public void setUp() {
+        boolean registered = !"unregistered".equals(scenario);
+        int cacheEntries = "uncached".equals(scenario) ? 0 : 10_000;
+        MemberExistenceCache cache = new MemberExistenceCache(cacheEntries, Duration.ofMinutes(10), Duration.ofMinutes(10));
+
+        MemberRepo repo = Stubs.of(MemberRepo.class, Map.of("existsByEmail", registered));
+        MemberService service = Stubs.of(MemberService.class, Map.of("registerIfAbsent", true));
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("sub", "5d1f6a0e-2c4b-4f8e-9a57-3b0c1d2e4f60");
+        claims.put("email", "john.doe@example.com");
+        claims.put("preferred_username", "johndoe");
+        claims.put("given_name", "John");
+        claims.put("family_name", "Doe");
+        JsonWebToken token = Stubs.token(claims);
+
+        filter = new RegistrationCheckFilter(() -> token, repo, !registered, service, cache);
+
+        String path = "skipped".equals(scenario) ? "/api/registration" : "/api/members";
+        UriInfo uriInfo = Stubs.of(UriInfo.class, Map.of("getPath", path));
+        Map<String, Object> answers = new HashMap<>();
+        answers.put("getUriInfo", uriInfo);
+        answers.put("getMethod", "GET");
+        answers.put("abortWith", null);
+        request = Stubs.of(ContainerRequestContext.class, answers);
+    }
+
+    @Benchmark
+    public ContainerRequestContext filter() {
+        filter.filter(request);
+        return request;
+    }
+}
@@ -0,0 +1,55 @@
+package org.mongodb.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Minimal interface stubs for benchmarks. A mocking library would put its own
+ * bookkeeping on the measured path, a JDK proxy answering from a fixed table does not.
+ */
+final class Stubs {
+    private Stubs() {}
+
+    /**
+     * Returns a proxy answering each method by name from {@code answers}. Methods
+     * missing from the table throw, so a benchmark cannot silently measure a path it did not stub.
+     */
+    static <T> T of(Class<T> type, Map<String, Object> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            String name = method.getName();
+            if (answers.containsKey(name)) {
+                return answers.get(name);
+            }
+            return switch (name) {
+                case "toString" -> type.getSimpleName() + " stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + name + " is not stubbed");
+            };
+        });
+        return type.cast(stub);
+    }
+
+    static JsonWebToken token(Map<String, Object> claims) {
+        return new JsonWebToken() {
+            @Override
+            public String getName() {
+                return (String) claims.get("preferred_username");
+            }
+
+            @Override
+            public Set<String> getClaimNames() {
+                return claims.keySet();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T getClaim(String claimName) {
+                return (T) claims.get(claimName);
+            }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package org.mongodb.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.mongodb.model.Member;
+import org.mongodb.repository.MemberUpdates;
+import org.mongodb.repository.MongoCollectionOps;
+import org.mongodb.resource.viewmodel.UpsertMemberViewModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link MongoCollectionOps#buildUpdateFromNonNullFields} for the update
+ * payload sent by {@code PUT /api/members/{id}}, with every field set and with
+ * only some of them set, against {@link MemberUpdates#update}, the reflection free
+ * update actually sent for a member (fields, search keys and version).
+ *
+ * <pre>./mvnw -Pbench test-compile exec:exec -Djmh.args="UpdateBuilderBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateBuilderBenchmark {
+
+    @Param({"full", "partial"})
+    public String payload;
+
+    private UpsertMemberViewModel update;
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        update = "full".equals(payload)
+                ? new UpsertMemberViewModel("user-id", "John", "Doe", "john.doe@example.com", "1234567890")
+                : new UpsertMemberViewModel(null, "John", null, null, "1234567890");
+        member = new Member(new ObjectId(), update.userId(), null, update.firstName(), update.lastName(), update.email(), update.phoneNumber());
+    }
+
+    @Benchmark
+    public Bson buildUpdate() {
+        return MongoCollectionOps.buildUpdateFromNonNullFields(update);
+    }
+
+    // Includes the conversion the driver performs before the update goes on the wire
+    @Benchmark
+    public BsonDocument buildUpdateAndRender() {
+        return MongoCollectionOps.buildUpdateFromNonNullFields(update).toBsonDocument();
+    }
+
+    @Benchmark
+    public BsonDocument memberUpdateAndRender() {
+        return MemberUpdates.update(member).toBsonDocument();
+    }
+}
@@ -0,0 +1,55 @@
+package org.mongodb.cache;
+
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Applies member changes made on any node to this node's caches. Fed by
+ * {@link MemberChangeWatcher}; a change whose old email is unknown drops every
+ * cached existence answer, since any of them could be the one that went stale.
+ */
+@ApplicationScoped
+public class MemberCacheRegistry {
+    private final MemberExistenceCache existenceCache;
+    private final MemberCountCache countCache;
+
+    public MemberCacheRegistry(MemberExistenceCache existenceCache, MemberCountCache countCache) {
+        this.existenceCache = existenceCache;
+        this.countCache = countCache;
+    }
+
+    public void memberInserted(String email) {
+        existenceCache.put(email, true);
+        countCache.invalidateAll();
+    }
+
+    /**
+     * The member's email changed, or may have. A null previous email means it is unknown.
+     */
+    public void emailChanged(String previousEmail, String email) {
+        if (previousEmail == null) {
+            existenceCache.invalidateAll();
+        } else {
+            existenceCache.invalidate(previousEmail);
+        }
+        existenceCache.put(email, true);
+    }
+
+    /**
+     * A member was deleted. A null email means it is unknown.
+     */
+    public void memberDeleted(String email) {
+        if (email == null) {
+            existenceCache.invalidateAll();
+        } else {
+            existenceCache.invalidate(email);
+        }
+        countCache.invalidateAll();
+    }
+
+    public void invalidateAll() {
+        Log.info("Cache: Invalidating all member caches");
+        existenceCache.invalidateAll();
+        countCache.invalidateAll();
+    }
+}
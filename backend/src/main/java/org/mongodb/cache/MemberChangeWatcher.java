@@ -0,0 +1,421 @@
+package org.mongodb.cache;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.model.MemberField;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Follows the members change stream and hands every change, from any node, to the
+ * {@link MemberCacheRegistry}. Pre-images give the old email of deletes and email
+ * changes, so only that email is invalidated. Each instance checkpoints its own resume
+ * token to Mongo so a restart picks up where that instance stopped. Whenever changes
+ * may have been missed (the stream broke, or fell more than the max lag behind) all
+ * member caches are dropped and their TTLs bound staleness until the stream is back.
+ */
+@ApplicationScoped
+public class MemberChangeWatcher {
+    static final String STATE_ID_PREFIX = "members:";
+    static final String TOKEN = "resumeToken";
+    static final String SAVED_AT = "savedAt";
+    // The resume point is no longer in the oplog, or is not a token of this stream
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final int INVALID_RESUME_TOKEN = 260;
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+    // Checkpoints of instances that are gone; a token this old has left the oplog anyway
+    private static final Duration CHECKPOINT_RETENTION = Duration.ofDays(1);
+
+    private final MongoClient mongoClient;
+    private final MemberCacheRegistry registry;
+    private final String databaseName;
+    private final String collectionName;
+    private final String stateCollectionName;
+    private final String stateId;
+    private final boolean preImages;
+    private final boolean enabled;
+    private final long maxLagMillis;
+    private final long checkpointIntervalMillis;
+    private final Duration retryBackoff;
+    private final LongSupplier clock;
+
+    private final LongAdder events = new LongAdder();
+    private final LongAdder restarts = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile boolean connected;
+    private volatile boolean lagging;
+    private volatile long lagMillis;
+
+    @Inject
+    public MemberChangeWatcher(
+        MongoClient mongoClient,
+        MemberCacheRegistry registry,
+        @ConfigProperty(name = "mongodb.database")
+        String databaseName,
+        @ConfigProperty(name = "mongodb.collection.members", defaultValue = "members")
+        String collectionName,
+        @ConfigProperty(name = "kitchensink.cache.coherence.enabled", defaultValue = "false")
+        boolean enabled,
+        @ConfigProperty(name = "kitchensink.cache.coherence.state-collection", defaultValue = "cache_state")
+        String stateCollectionName,
+        @ConfigProperty(name = "kitchensink.cache.coherence.instance-id")
+        Optional<String> instanceId,
+        @ConfigProperty(name = "kitchensink.cache.coherence.pre-images", defaultValue = "true")
+        boolean preImages,
+        @ConfigProperty(name = "kitchensink.cache.coherence.max-lag", defaultValue = "10S")
+        Duration maxLag,
+        @ConfigProperty(name = "kitchensink.cache.coherence.checkpoint-interval", defaultValue = "5S")
+        Duration checkpointInterval,
+        @ConfigProperty(name = "kitchensink.cache.coherence.retry-backoff", defaultValue = "1S")
+        Duration retryBackoff
+    ) {
+        this(mongoClient, registry, databaseName, collectionName, enabled, stateCollectionName,
+                instanceId.orElseGet(MemberChangeWatcher::hostName), preImages,
+                maxLag, checkpointInterval, retryBackoff, System::currentTimeMillis);
+    }
+
+    MemberChangeWatcher(
+        MongoClient mongoClient,
+        MemberCacheRegistry registry,
+        String databaseName,
+        String collectionName,
+        boolean enabled,
+        String stateCollectionName,
+        String instanceId,
+        boolean preImages,
+        Duration maxLag,
+        Duration checkpointInterval,
+        Duration retryBackoff,
+        LongSupplier clock
+    ) {
+        this.mongoClient = mongoClient;
+        this.registry = registry;
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+        this.enabled = enabled;
+        this.stateCollectionName = stateCollectionName;
+        this.stateId = STATE_ID_PREFIX + instanceId;
+        this.preImages = preImages;
+        this.maxLagMillis = maxLag.toMillis();
+        this.checkpointIntervalMillis = checkpointInterval.toMillis();
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (enabled) {
+            start();
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        stop();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("member-change-watcher").start(this::run);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        Thread current = worker;
+        if (current == null) {
+            return;
+        }
+        try {
+            // The stream polls at most a second at a time, so the worker notices quickly
+            current.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    public WatcherStats stats() {
+        return new WatcherStats(connected, lagging, lagMillis, events.sum(), restarts.sum());
+    }
+
+    private void run() {
+        if (!supportsChangeStreams()) {
+            Log.warn("Cache: Mongo is a standalone server without change streams, not watching " + collectionName
+                    + "; member caches rely on their TTLs");
+            running = false;
+            return;
+        }
+        prepare();
+        BsonDocument resumeToken = loadResumeToken();
+        int failures = 0;
+        while (running) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = open(resumeToken)) {
+                Log.info("Cache: Watching " + collectionName + " for changes" + (resumeToken != null ? ", resuming from checkpoint" : ""));
+                connected = true;
+                failures = 0;
+                resumeToken = follow(cursor, resumeToken);
+            } catch (MongoException e) {
+                if (!running) {
+                    break;
+                }
+                connected = false;
+                restarts.increment();
+                if (isLostResumePoint(e)) {
+                    Log.warn("Cache: Change stream cannot resume from its checkpoint, starting from now: " + e.getMessage());
+                    resumeToken = null;
+                    clearResumeToken();
+                } else {
+                    Log.warn("Cache: Change stream failed, retrying: " + e.getMessage());
+                }
+                // Changes made while the stream was down are never seen, fall back to TTL expiry
+                registry.invalidateAll();
+                pause(++failures);
+            } finally {
+                connected = false;
+            }
+        }
+        saveResumeToken(resumeToken);
+    }
+
+    /**
+     * Change streams need a replica set or a sharded cluster. When the server cannot be
+     * reached yet this answers true and the stream loop keeps retrying.
+     */
+    boolean supportsChangeStreams() {
+        try {
+            Document hello = mongoClient.getDatabase("admin").runCommand(new Document("hello", 1));
+            return hello.containsKey("setName") || "isdbgrid".equals(hello.getString("msg"));
+        } catch (MongoException e) {
+            return true;
+        }
+    }
+
+    private void prepare() {
+        try {
+            state().createIndex(Indexes.ascending(SAVED_AT),
+                    new IndexOptions().expireAfter(CHECKPOINT_RETENTION.toSeconds(), TimeUnit.SECONDS));
+        } catch (MongoException e) {
+            Log.warn("Cache: Could not create the checkpoint TTL index: " + e.getMessage());
+        }
+        if (!preImages) {
+            return;
+        }
+        try {
+            mongoClient.getDatabase(databaseName).runCommand(new Document("collMod", collectionName)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (MongoException e) {
+            // Events then carry no pre-image and deletes and email changes drop every existence answer
+            Log.warn("Cache: Could not enable pre-images on " + collectionName + ": " + e.getMessage());
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> open(BsonDocument resumeToken) {
+        ChangeStreamIterable<Document> stream = members().watch().maxAwaitTime(1, TimeUnit.SECONDS);
+        if (preImages) {
+            stream = stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
+        }
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+        return stream.cursor();
+    }
+
+    /**
+     * Applies changes until stopped or the stream is invalidated, and returns the
+     * token to resume from.
+     */
+    private BsonDocument follow(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor, BsonDocument resumeToken) {
+        long lastCheckpoint = clock.getAsLong();
+        BsonDocument saved = resumeToken;
+        while (running) {
+            ChangeStreamDocument<Document> event = cursor.tryNext();
+            if (event == null) {
+                // Nothing pending: caught up, and the post batch token is still a valid resume point
+                updateLag(0);
+            } else {
+                events.increment();
+                updateLag(lagOf(event));
+                if (!apply(event)) {
+                    clearResumeToken();
+                    return null;
+                }
+            }
+            BsonDocument token = cursor.getResumeToken();
+            if (token != null) {
+                resumeToken = token;
+            }
+            long now = clock.getAsLong();
+            if (resumeToken != saved && now - lastCheckpoint >= checkpointIntervalMillis) {
+                saveResumeToken(resumeToken);
+                saved = resumeToken;
+                lastCheckpoint = now;
+            }
+        }
+        return resumeToken;
+    }
+
+    /**
+     * Hands one change to the registry. Returns false when the stream was invalidated
+     * and has to be reopened from the current time.
+     */
+    boolean apply(ChangeStreamDocument<Document> event) {
+        String email = MemberField.EMAIL.bsonName();
+        switch (event.getOperationType()) {
+            case INSERT -> registry.memberInserted(emailOf(event.getFullDocument()));
+            // Without a pre-image the old email is unknown and the registry drops every existence answer
+            case REPLACE -> registry.emailChanged(emailOf(event.getFullDocumentBeforeChange()), emailOf(event.getFullDocument()));
+            case UPDATE -> {
+                // Only email changes matter to the existence cache
+                UpdateDescription update = event.getUpdateDescription();
+                boolean updated = update != null && update.getUpdatedFields() != null && update.getUpdatedFields().containsKey(email);
+                boolean removed = update != null && update.getRemovedFields() != null && update.getRemovedFields().contains(email);
+                if (updated || removed) {
+                    String current = updated && update.getUpdatedFields().isString(email)
+                            ? update.getUpdatedFields().getString(email).getValue()
+                            : null;
+                    registry.emailChanged(emailOf(event.getFullDocumentBeforeChange()), current);
+                }
+            }
+            case DELETE -> registry.memberDeleted(emailOf(event.getFullDocumentBeforeChange()));
+            case INVALIDATE -> {
+                registry.invalidateAll();
+                return false;
+            }
+            default -> registry.invalidateAll();
+        }
+        return true;
+    }
+
+    void updateLag(long lag) {
+        lagMillis = lag;
+        boolean behind = maxLagMillis > 0 && lag > maxLagMillis;
+        if (behind && !lagging) {
+            // Invalidations arrive too late to be trusted, so drop everything once and let TTLs take over
+            Log.warn("Cache: Change stream is " + lag + "ms behind, falling back to cache TTLs");
+            registry.invalidateAll();
+        } else if (!behind && lagging) {
+            Log.info("Cache: Change stream caught up");
+        }
+        lagging = behind;
+    }
+
+    private long lagOf(ChangeStreamDocument<Document> event) {
+        BsonTimestamp clusterTime = event.getClusterTime();
+        if (clusterTime == null) {
+            return 0;
+        }
+        return Math.max(0, clock.getAsLong() - TimeUnit.SECONDS.toMillis(clusterTime.getTime()));
+    }
+
+    private static String emailOf(Document member) {
+        return member == null ? null : member.getString(MemberField.EMAIL.bsonName());
+    }
+
+    private static boolean isLostResumePoint(MongoException e) {
+        return e instanceof MongoCommandException
+                && (e.getCode() == CHANGE_STREAM_HISTORY_LOST || e.getCode() == INVALID_RESUME_TOKEN);
+    }
+
+    private BsonDocument loadResumeToken() {
+        try {
+            Document state = state().find(Filters.eq("_id", stateId)).first();
+            if (state == null || state.get(TOKEN) == null) {
+                return null;
+            }
+            return state.get(TOKEN, Document.class).toBsonDocument();
+        } catch (MongoException e) {
+            Log.warn("Cache: Could not load change stream checkpoint: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveResumeToken(BsonDocument token) {
+        if (token == null) {
+            return;
+        }
+        try {
+            Document state = new Document("_id", stateId)
+                    .append(TOKEN, token)
+                    .append(SAVED_AT, Date.from(Instant.ofEpochMilli(clock.getAsLong())));
+            state().replaceOne(Filters.eq("_id", stateId), state, new ReplaceOptions().upsert(true));
+        } catch (MongoException e) {
+            Log.warn("Cache: Could not save change stream checkpoint: " + e.getMessage());
+        }
+    }
+
+    private void clearResumeToken() {
+        try {
+            state().deleteOne(Filters.eq("_id", stateId));
+        } catch (MongoException e) {
+            Log.warn("Cache: Could not clear change stream checkpoint: " + e.getMessage());
+        }
+    }
+
+    private void pause(int failures) {
+        long backoff = Math.min(MAX_BACKOFF.toMillis(), retryBackoff.toMillis() << Math.min(failures - 1, 16));
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "default";
+        }
+    }
+
+    private MongoCollection<Document> members() {
+        return mongoClient.getDatabase(databaseName).getCollection(collectionName);
+    }
+
+    private MongoCollection<Document> state() {
+        return mongoClient.getDatabase(databaseName).getCollection(stateCollectionName);
+    }
+
+    public record WatcherStats(
+        boolean connected,
+        boolean lagging,
+        long lagMillis,
+        long events,
+        long restarts
+    ) {}
+}
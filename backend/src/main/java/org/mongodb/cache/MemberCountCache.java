@@ -0,0 +1,62 @@
+package org.mongodb.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.model.CountMode;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Short lived cache of member counts, so listings that show totals do not run a
+ * count on every page load. Writes that add or remove members invalidate it.
+ */
+@ApplicationScoped
+public class MemberCountCache {
+    private final Map<CountMode, Entry> counts = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    @Inject
+    public MemberCountCache(
+        @ConfigProperty(name = "kitchensink.cache.member-count.ttl", defaultValue = "5S")
+        Duration ttl
+    ) {
+        this(ttl, System::nanoTime);
+    }
+
+    MemberCountCache(Duration ttl, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    public Optional<Long> lookup(CountMode mode) {
+        Entry entry = counts.get(mode);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt() - clock.getAsLong() <= 0) {
+            counts.remove(mode, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.count());
+    }
+
+    public void put(CountMode mode, long count) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        counts.put(mode, new Entry(count, clock.getAsLong() + ttlNanos));
+    }
+
+    public void invalidateAll() {
+        counts.clear();
+    }
+
+    private record Entry(long count, long expiresAt) {}
+}
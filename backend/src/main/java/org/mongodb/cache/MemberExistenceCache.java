@@ -0,0 +1,155 @@
+package org.mongodb.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Bounded, TTL based cache answering "is there a member with this email?".
+ * Positive and negative answers are kept in separate maps with their own TTL,
+ * so a short negative TTL never shortens how long known members stay cached.
+ */
+@ApplicationScoped
+public class MemberExistenceCache {
+    private final Map<String, Long> positive = new ConcurrentHashMap<>();
+    private final Map<String, Long> negative = new ConcurrentHashMap<>();
+
+    private final LongAdder positiveHits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final int maxEntries;
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final LongSupplier clock;
+
+    @Inject
+    public MemberExistenceCache(
+        @ConfigProperty(name = "kitchensink.cache.member-existence.max-entries", defaultValue = "10000")
+        int maxEntries,
+        @ConfigProperty(name = "kitchensink.cache.member-existence.positive-ttl", defaultValue = "10M")
+        Duration positiveTtl,
+        @ConfigProperty(name = "kitchensink.cache.member-existence.negative-ttl", defaultValue = "30S")
+        Duration negativeTtl
+    ) {
+        this(maxEntries, positiveTtl, negativeTtl, System::nanoTime);
+    }
+
+    MemberExistenceCache(int maxEntries, Duration positiveTtl, Duration negativeTtl, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.positiveTtlNanos = positiveTtl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached answer for the email, or empty if nothing usable is cached.
+     */
+    public Optional<Boolean> lookup(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        long now = clock.getAsLong();
+        if (isLive(positive, email, now)) {
+            positiveHits.increment();
+            return Optional.of(true);
+        }
+        if (isLive(negative, email, now)) {
+            negativeHits.increment();
+            return Optional.of(false);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Caches an answer. A negative answer never replaces a live positive one: it comes
+     * from a lookup that may have read the database before a concurrent registration
+     * stored its positive entry. Deletions go through {@link #invalidate} instead.
+     */
+    public void put(String email, boolean exists) {
+        if (email == null) {
+            return;
+        }
+        if (exists) {
+            negative.remove(email);
+            store(positive, email, positiveTtlNanos);
+        } else if (!isLive(positive, email, clock.getAsLong())) {
+            // Racing a registration in between leaves both entries, and lookup prefers the positive one
+            store(negative, email, negativeTtlNanos);
+        }
+    }
+
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        positive.remove(email);
+        negative.remove(email);
+    }
+
+    public void invalidateAll() {
+        positive.clear();
+        negative.clear();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(
+            positiveHits.sum(),
+            negativeHits.sum(),
+            misses.sum(),
+            positive.size(),
+            negative.size()
+        );
+    }
+
+    private boolean isLive(Map<String, Long> entries, String email, long now) {
+        Long expiresAt = entries.get(email);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - now <= 0) {
+            entries.remove(email, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void store(Map<String, Long> entries, String email, long ttlNanos) {
+        if (ttlNanos <= 0 || maxEntries <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (entries.size() >= maxEntries && !entries.containsKey(email)) {
+            evict(entries, now);
+        }
+        entries.put(email, now + ttlNanos);
+    }
+
+    private void evict(Map<String, Long> entries, long now) {
+        // Drop expired entries first, then make room by discarding an arbitrary one
+        entries.values().removeIf(expiresAt -> expiresAt - now <= 0);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    public record CacheStats(
+        long positiveHits,
+        long negativeHits,
+        long misses,
+        int positiveEntries,
+        int negativeEntries
+    ) {}
+}
@@ -0,0 +1,10 @@
+package org.mongodb.filter;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Body of the 403 returned by the registration check filters. Only ever wrapped in a
+ * Response, so Quarkus cannot register it for the native image itself.
+ */
+@RegisterForReflection
+record ErrorResponse(String message, String registrationUrl) {}
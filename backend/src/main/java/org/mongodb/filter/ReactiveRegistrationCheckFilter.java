@@ -0,0 +1,92 @@
+package org.mongodb.filter;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.resteasy.reactive.server.ServerRequestFilter;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.model.Member;
+import org.mongodb.repository.ReactiveMemberRepo;
+import org.mongodb.service.ReactiveMemberService;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Non-blocking variant of {@link RegistrationCheckFilter}, active with {@code kitchensink.stack=reactive}.
+ * Returning a null response lets the request continue.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "kitchensink.stack", stringValue = "reactive")
+public class ReactiveRegistrationCheckFilter {
+    private final jakarta.inject.Provider<JsonWebToken> jwtProvider;
+    private final ReactiveMemberRepo memberRepo;
+    private final boolean completeRegistrationEnabled;
+    private final ReactiveMemberService memberService;
+    private final MemberExistenceCache existenceCache;
+
+    public ReactiveRegistrationCheckFilter(
+        jakarta.inject.Provider<JsonWebToken> jwtProvider,
+        ReactiveMemberRepo memberRepo,
+        @ConfigProperty(name = "kitchensink.application.complete-registration.enabled")
+        boolean completeRegistrationEnabled,
+        ReactiveMemberService memberService,
+        MemberExistenceCache existenceCache
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.memberRepo = memberRepo;
+        this.completeRegistrationEnabled = completeRegistrationEnabled;
+        this.memberService = memberService;
+        this.existenceCache = existenceCache;
+    }
+
+    @ServerRequestFilter(preMatching = true)
+    public Uni<Response> filter(ContainerRequestContext requestContext) {
+        // Skip check for registration endpoints and OPTIONS requests
+        String path = requestContext.getUriInfo().getPath();
+        if (path.startsWith("/api/registration") ||
+            "OPTIONS".equals(requestContext.getMethod())) {
+            return Uni.createFrom().nullItem();
+        }
+
+        JsonWebToken jwt = jwtProvider.get();
+
+        String email = jwt.getClaim("email");
+        if (email == null) {
+            return Uni.createFrom().nullItem();
+        }
+
+        return isRegistered(email).chain(registered -> {
+            if (registered) {
+                return Uni.createFrom().nullItem();
+            }
+            if (completeRegistrationEnabled) {
+                return Uni.createFrom().item(Response
+                    .status(Response.Status.UNAUTHORIZED)
+                    .entity(new ErrorResponse("User registration required", "/auth/register"))
+                    .build());
+            }
+
+            Member member = new Member(
+                null,
+                jwt.getSubject(),
+                jwt.getClaim("preferred_username"),
+                jwt.getClaim("given_name"),
+                jwt.getClaim("family_name"),
+                email,
+                null
+            );
+            return memberService.registerIfAbsent(member).replaceWith((Response) null);
+        });
+    }
+
+    private Uni<Boolean> isRegistered(String email) {
+        return existenceCache.lookup(email)
+                .map(exists -> Uni.createFrom().item(exists))
+                // A miss is answered from the email index alone, so there is no member to hand to CurrentMember
+                .orElseGet(() -> memberRepo.existsByEmail(email)
+                        .invoke(exists -> existenceCache.put(email, exists)));
+    }
+}
@@ -4,36 +4,46 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
-import jakarta.ws.rs.container.PreMatching;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.Provider;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.mongodb.cache.MemberExistenceCache;
 import org.mongodb.model.Member;
 import org.mongodb.repository.MemberRepo;
 import org.mongodb.service.MemberService;
 
+import io.quarkus.arc.properties.IfBuildProperty;
+
+/**
+ * Registers callers on their first request. Not pre-matching on purpose: a matched
+ * request filter runs on the endpoint's thread, so its Mongo calls happen on a
+ * virtual thread (or a worker thread) rather than on the event loop.
+ */
 @Provider
-@PreMatching
 @ApplicationScoped
+@IfBuildProperty(name = "kitchensink.stack", stringValue = "classic", enableIfMissing = true)
 public class RegistrationCheckFilter implements ContainerRequestFilter {
     private final jakarta.inject.Provider<JsonWebToken> jwtProvider;
     private final MemberRepo memberRepo;
     private final boolean completeRegistrationEnabled;
     private final MemberService memberService;
+    private final MemberExistenceCache existenceCache;
 
     public RegistrationCheckFilter(
         jakarta.inject.Provider<JsonWebToken> jwtProvider,
         MemberRepo memberRepo,
         @ConfigProperty(name = "kitchensink.application.complete-registration.enabled")
         boolean completeRegistrationEnabled,
-        MemberService memberService
+        MemberService memberService,
+        MemberExistenceCache existenceCache
     ) {
         this.jwtProvider = jwtProvider;
         this.memberRepo = memberRepo;
         this.completeRegistrationEnabled = completeRegistrationEnabled;
         this.memberService = memberService;
+        this.existenceCache = existenceCache;
     }
 
 
@@ -49,7 +59,7 @@ public class RegistrationCheckFilter implements ContainerRequestFilter {
         JsonWebToken jwt = jwtProvider.get();
 
         String email = jwt.getClaim("email");
-        if (email != null && !memberRepo.findByEmail(email).isPresent()) {
+        if (email != null && !isRegistered(email)) {
             if (completeRegistrationEnabled) {
                 Response response = Response
                     .status(Response.Status.UNAUTHORIZED)
@@ -72,10 +82,17 @@ public class RegistrationCheckFilter implements ContainerRequestFilter {
                     null
                 );
                 
-                memberService.register(member);
+                memberService.registerIfAbsent(member);
             }
         }
     }
-}
 
-record ErrorResponse(String message, String registrationUrl) {}
+    private boolean isRegistered(String email) {
+        // A miss is answered from the email index alone, so there is no member to hand to CurrentMember
+        return existenceCache.lookup(email).orElseGet(() -> {
+            boolean exists = memberRepo.existsByEmail(email);
+            existenceCache.put(email, exists);
+            return exists;
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package org.mongodb.health;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.mongodb.metrics.ConnectionPoolStats;
+import org.mongodb.metrics.ConnectionPoolStats.PoolStats;
+
+import io.smallrye.health.api.Wellness;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Pool health on /q/health/well: requests currently waiting for a connection and the
+ * average checkout wait since the previous call. DOWN when that average exceeds
+ * {@code kitchensink.mongo.pool.max-wait}, the sign of a pool too small for the load.
+ * A wellness check, so a saturated pool is reported without taking the instance out of rotation.
+ */
+@Wellness
+@ApplicationScoped
+public class ConnectionPoolHealthCheck implements HealthCheck {
+    static final String NAME = "mongo-connection-pool";
+
+    private final ConnectionPoolStats poolStats;
+    private final double maxWaitMillis;
+    private PoolStats previous;
+
+    public ConnectionPoolHealthCheck(
+        ConnectionPoolStats poolStats,
+        @ConfigProperty(name = "kitchensink.mongo.pool.max-wait", defaultValue = "100ms")
+        Duration maxWait
+    ) {
+        this.poolStats = poolStats;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.previous = poolStats.snapshot();
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        PoolStats current = poolStats.snapshot();
+        double averageWaitMillis;
+        synchronized (this) {
+            averageWaitMillis = current.averageWaitMillisSince(previous);
+            previous = current;
+        }
+        return HealthCheckResponse.named(NAME)
+                .status(averageWaitMillis <= maxWaitMillis)
+                .withData("openConnections", current.openConnections())
+                .withData("waiting", current.waiting())
+                .withData("averageWaitMillis", String.format(Locale.ROOT, "%.3f", averageWaitMillis))
+                .withData("maxWaitMillis", (long) maxWaitMillis)
+                .withData("checkoutFailures", current.checkoutFailures())
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package org.mongodb.health;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.metrics.ConnectionPoolStats;
+import org.mongodb.repository.index.IndexManager;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+/**
+ * Prepares Mongo before the instance takes traffic: a ping, the index verification of
+ * {@link IndexManager}, one query on the members collection (loads the collection and its
+ * indexes into the server's cache), then waits for the pool to hold the configured number of
+ * connections, which the driver opens because {@link org.mongodb.metrics.MongoPoolCustomizer}
+ * raised the pool's minimum size. All of it runs off the startup thread and is retried until
+ * it succeeds; {@link WarmupReadinessCheck} reports DOWN until then. Disabling the warm-up
+ * skips everything but the index verification.
+ */
+@ApplicationScoped
+public class ConnectionWarmup {
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+    private static final long POLL_MILLIS = 50;
+
+    private final MongoClient mongoClient;
+    private final ConnectionPoolStats poolStats;
+    private final IndexManager indexManager;
+    private final String databaseName;
+    private final String collectionName;
+    private final boolean enabled;
+    private final int connections;
+    private final long timeoutMillis;
+    private final Duration retryBackoff;
+    private final LongSupplier clock;
+
+    private volatile boolean warm;
+    private volatile long durationMillis = -1;
+    private volatile String lastError;
+    private volatile Thread worker;
+
+    @Inject
+    public ConnectionWarmup(
+        MongoClient mongoClient,
+        ConnectionPoolStats poolStats,
+        IndexManager indexManager,
+        @ConfigProperty(name = "mongodb.database")
+        String databaseName,
+        @ConfigProperty(name = "mongodb.collection.members", defaultValue = "members")
+        String collectionName,
+        @ConfigProperty(name = "kitchensink.mongo.warmup.enabled", defaultValue = "true")
+        boolean enabled,
+        @ConfigProperty(name = "kitchensink.mongo.warmup.connections", defaultValue = "10")
+        int connections,
+        @ConfigProperty(name = "kitchensink.mongo.warmup.timeout", defaultValue = "30S")
+        Duration timeout,
+        @ConfigProperty(name = "kitchensink.mongo.warmup.retry-backoff", defaultValue = "1S")
+        Duration retryBackoff
+    ) {
+        this(mongoClient, poolStats, indexManager, databaseName, collectionName, enabled, connections, timeout, retryBackoff,
+                System::currentTimeMillis);
+    }
+
+    ConnectionWarmup(
+        MongoClient mongoClient,
+        ConnectionPoolStats poolStats,
+        IndexManager indexManager,
+        String databaseName,
+        String collectionName,
+        boolean enabled,
+        int connections,
+        Duration timeout,
+        Duration retryBackoff,
+        LongSupplier clock
+    ) {
+        this.mongoClient = mongoClient;
+        this.poolStats = poolStats;
+        this.indexManager = indexManager;
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+        this.enabled = enabled;
+        this.connections = Math.max(0, connections);
+        this.timeoutMillis = timeout.toMillis();
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        worker = Thread.ofVirtual().name("mongo-warmup").start(this::run);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    public boolean isWarm() {
+        return warm;
+    }
+
+    public WarmupStatus status() {
+        return new WarmupStatus(enabled, warm, connections, poolStats.snapshot().openConnections(), durationMillis, lastError);
+    }
+
+    void run() {
+        long started = clock.getAsLong();
+        Duration backoff = retryBackoff;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                warmUp();
+                durationMillis = clock.getAsLong() - started;
+                warm = true;
+                Log.info("Warmup: Mongo ready after " + durationMillis + "ms with "
+                        + poolStats.snapshot().openConnections() + " pooled connections");
+                return;
+            } catch (RuntimeException e) {
+                // Any failure is retried: a dead warm-up thread would leave readiness DOWN for good
+                lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+                if (e instanceof MongoException) {
+                    Log.warn("Warmup: Mongo not reachable, retrying in " + backoff.toMillis() + "ms: " + e.getMessage());
+                } else {
+                    Log.warn("Warmup: failed, retrying in " + backoff.toMillis() + "ms", e);
+                }
+                if (!sleep(backoff.toMillis())) {
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * One warm-up attempt; throws when Mongo cannot be reached or the indexes drifted with
+     * {@code kitchensink.indexes.on-drift=fail}. Not reaching the connection target in time
+     * only logs a warning, the pool keeps filling in the background.
+     */
+    void warmUp() {
+        if (!enabled) {
+            indexManager.verify();
+            lastError = null;
+            return;
+        }
+        MongoDatabase database = mongoClient.getDatabase(databaseName);
+        database.runCommand(new Document("ping", 1));
+        indexManager.verify();
+        database.getCollection(collectionName).find().limit(1).first();
+        lastError = null;
+
+        long deadline = clock.getAsLong() + timeoutMillis;
+        while (poolStats.snapshot().openConnections() < connections) {
+            if (clock.getAsLong() >= deadline || !sleep(POLL_MILLIS)) {
+                Log.warn("Warmup: " + poolStats.snapshot().openConnections() + " of " + connections
+                        + " pooled connections open after " + timeoutMillis + "ms, continuing");
+                return;
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public record WarmupStatus(
+        boolean enabled,
+        boolean warm,
+        int targetConnections,
+        int openConnections,
+        long durationMillis,
+        String lastError
+    ) {
+    }
+}
@@ -0,0 +1,42 @@
+package org.mongodb.health;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * DOWN on /q/health/ready until {@link ConnectionWarmup} has finished, so a load balancer
+ * or Kubernetes only routes requests to an instance whose indexes are verified and whose
+ * Mongo pool is already open.
+ */
+@Readiness
+@ApplicationScoped
+public class WarmupReadinessCheck implements HealthCheck {
+    static final String NAME = "mongo-warmup";
+
+    private final ConnectionWarmup warmup;
+
+    public WarmupReadinessCheck(ConnectionWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        ConnectionWarmup.WarmupStatus status = warmup.status();
+        HealthCheckResponseBuilder response = HealthCheckResponse.named(NAME)
+                .status(status.warm())
+                .withData("enabled", status.enabled())
+                .withData("targetConnections", status.targetConnections())
+                .withData("openConnections", status.openConnections());
+        if (status.durationMillis() >= 0) {
+            response.withData("durationMillis", status.durationMillis());
+        }
+        if (status.lastError() != null) {
+            response.withData("lastError", status.lastError());
+        }
+        return response.build();
+    }
+}
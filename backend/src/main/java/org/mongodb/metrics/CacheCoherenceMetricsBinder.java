@@ -0,0 +1,44 @@
+package org.mongodb.metrics;
+
+import org.mongodb.cache.MemberChangeWatcher;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes how far behind the members change stream is, which bounds how stale
+ * another node's writes can leave this node's caches.
+ */
+@Singleton
+public class CacheCoherenceMetricsBinder implements MeterBinder {
+    static final String LAG = "kitchensink.cache.coherence.lag";
+    static final String CONNECTED = "kitchensink.cache.coherence.connected";
+    static final String EVENTS = "kitchensink.cache.coherence.events";
+    static final String RESTARTS = "kitchensink.cache.coherence.restarts";
+
+    private final MemberChangeWatcher watcher;
+
+    public CacheCoherenceMetricsBinder(MemberChangeWatcher watcher) {
+        this.watcher = watcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(LAG, watcher, w -> w.stats().lagMillis() / 1000.0)
+                .baseUnit("seconds")
+                .description("Delay between a member change and this node seeing it")
+                .register(registry);
+        Gauge.builder(CONNECTED, watcher, w -> w.stats().connected() ? 1 : 0)
+                .description("1 while the members change stream is open")
+                .register(registry);
+        FunctionCounter.builder(EVENTS, watcher, w -> w.stats().events())
+                .description("Member changes applied to the caches")
+                .register(registry);
+        FunctionCounter.builder(RESTARTS, watcher, w -> w.stats().restarts())
+                .description("Times the members change stream failed and was reopened")
+                .register(registry);
+    }
+}
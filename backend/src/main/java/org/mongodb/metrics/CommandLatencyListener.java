@@ -0,0 +1,150 @@
+package org.mongodb.metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.repository.MemberQueries.QueryShape;
+import org.mongodb.repository.index.QueryPlanInspector;
+import org.mongodb.repository.index.QueryPlanReport;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.logging.Log;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+
+/**
+ * Times every command sent by the Mongo client, by command name, collection and
+ * filter shape ({@code kitchensink.mongo.commands}), and logs commands slower than
+ * the configured threshold. Optionally each slow shape is explained once, in the
+ * background, to show whether it used an index.
+ */
+@ApplicationScoped
+public class CommandLatencyListener implements CommandListener {
+    static final String TIMER = "kitchensink.mongo.commands";
+    static final String OTHER_SHAPE = "other";
+    // Handshakes and session bookkeeping, not worth a timer each
+    private static final Set<String> IGNORED_COMMANDS = Set.of(
+        "hello", "isMaster", "ismaster", "ping", "saslStart", "saslContinue", "endSessions", "buildInfo"
+    );
+
+    private final MeterRegistry registry;
+    private final Instance<QueryPlanInspector> queryPlanInspector;
+    private final long slowThresholdNanos;
+    private final boolean explainSlow;
+    private final int maxShapes;
+
+    private final Map<Integer, CommandShape> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final AtomicInteger shapeCount = new AtomicInteger();
+    private final Set<String> explainedShapes = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor explainer = new ThreadPoolExecutor(
+        1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), new ThreadPoolExecutor.DiscardPolicy()
+    );
+
+    public CommandLatencyListener(
+        MeterRegistry registry,
+        // Resolved lazily: the inspector needs the client this listener is registered on
+        Instance<QueryPlanInspector> queryPlanInspector,
+        @ConfigProperty(name = "kitchensink.mongo.commands.slow-threshold", defaultValue = "100ms")
+        Duration slowThreshold,
+        @ConfigProperty(name = "kitchensink.mongo.commands.explain-slow", defaultValue = "false")
+        boolean explainSlow,
+        @ConfigProperty(name = "kitchensink.mongo.commands.max-shapes", defaultValue = "200")
+        int maxShapes
+    ) {
+        this.registry = registry;
+        this.queryPlanInspector = queryPlanInspector;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.explainSlow = explainSlow;
+        this.maxShapes = maxShapes;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (IGNORED_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        inFlight.put(event.getRequestId(), CommandShape.of(event.getCommandName(), event.getCommand()));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), "success");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), "failure");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        explainer.shutdownNow();
+    }
+
+    private void finished(int requestId, long elapsedNanos, String outcome) {
+        CommandShape command = inFlight.remove(requestId);
+        if (command == null) {
+            return;
+        }
+        timer(command, outcome).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            Log.warn("Mongo: slow " + command.commandName() + " on " + command.collection()
+                    + " took " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms, shape " + command.shape());
+            if (explainSlow && command.hasFilter() && explainedShapes.add(command.shape())) {
+                explainer.execute(() -> explain(command));
+            }
+        }
+    }
+
+    private Timer timer(CommandShape command, String outcome) {
+        String shape = shapeTag(command.shape());
+        String key = command.commandName() + '|' + command.collection() + '|' + shape + '|' + outcome;
+        return timers.computeIfAbsent(key, ignored -> Timer.builder(TIMER)
+                .description("Mongo command latency by command, collection and filter shape")
+                .tag("command", command.commandName())
+                .tag("collection", command.collection())
+                .tag("shape", shape)
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+
+    // Bounds tag cardinality in case queries are built from user input. A new shape reserves
+    // its slot inside computeIfAbsent, so concurrent commands cannot overshoot the cap
+    private String shapeTag(String shape) {
+        String tag = shapes.computeIfAbsent(shape, ignored ->
+                shapeCount.getAndUpdate(count -> count < maxShapes ? count + 1 : count) < maxShapes ? shape : null);
+        return tag != null ? tag : OTHER_SHAPE;
+    }
+
+    private void explain(CommandShape command) {
+        try {
+            Bson sort = command.sort();
+            QueryShape shape = new QueryShape("slow " + command.commandName(), command.filter(), sort, null, command.limit());
+            QueryPlanReport report = queryPlanInspector.get().explain(shape);
+            Log.warn("Mongo: plan for slow " + command.commandName() + " shape " + command.shape()
+                    + ": stages=" + report.stages() + ", indexes=" + report.indexes() + ", sortedInMemory=" + report.sortedInMemory()
+                    + ", keysExamined=" + report.keysExamined() + ", docsExamined=" + report.docsExamined());
+        } catch (RuntimeException e) {
+            Log.warn("Mongo: failed to explain slow " + command.commandName() + ": " + e.getMessage());
+        }
+    }
+}
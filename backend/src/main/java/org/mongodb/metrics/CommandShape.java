@@ -0,0 +1,122 @@
+package org.mongodb.metrics;
+
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * What a Mongo command looked like with every literal value replaced by {@code ?}:
+ * the command name, the collection and the filter shape. Commands issued by the
+ * same repository method share one shape whatever values they were called with,
+ * and no member data ends up in metrics or logs.
+ *
+ * @param filter the command's original filter, kept for explain and never logged
+ */
+public record CommandShape(
+    String commandName,
+    String collection,
+    String shape,
+    BsonDocument filter,
+    BsonDocument sort,
+    int limit
+) {
+    static final String NONE = "none";
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+    // Commands whose first field names the collection they run against
+    private static final Set<String> COLLECTION_COMMANDS = Set.of(
+        "find", "insert", "update", "delete", "aggregate", "count", "distinct", "findAndModify", "createIndexes", "listIndexes"
+    );
+    private static final Set<String> LOGICAL_OPERATORS = Set.of("$and", "$or", "$nor");
+
+    public static CommandShape of(String commandName, BsonDocument command) {
+        String collection = collectionOf(commandName, command);
+        BsonDocument filter = filterOf(commandName, command);
+        BsonDocument sort = command.isDocument("sort") ? command.getDocument("sort") : null;
+        int limit = command.isNumber("limit") ? command.getNumber("limit").intValue() : 0;
+
+        String shape;
+        if ("aggregate".equals(commandName) && command.isArray("pipeline")) {
+            shape = new BsonDocument("pipeline", pipelineShape(command.getArray("pipeline"))).toJson();
+        } else if (filter != null) {
+            shape = mask(filter).toJson();
+        } else {
+            shape = NONE;
+        }
+        return new CommandShape(commandName, collection, shape, filter, sort, limit);
+    }
+
+    public boolean hasFilter() {
+        return filter != null;
+    }
+
+    private static String collectionOf(String commandName, BsonDocument command) {
+        if (COLLECTION_COMMANDS.contains(commandName) && command.isString(commandName)) {
+            return command.getString(commandName).getValue();
+        }
+        if ("getMore".equals(commandName) && command.isString("collection")) {
+            return command.getString("collection").getValue();
+        }
+        return NONE;
+    }
+
+    private static BsonDocument filterOf(String commandName, BsonDocument command) {
+        return switch (commandName) {
+            case "find", "count", "distinct" -> command.isDocument("filter") ? command.getDocument("filter")
+                    : command.isDocument("query") ? command.getDocument("query") : null;
+            case "findAndModify" -> command.isDocument("query") ? command.getDocument("query") : null;
+            // Only the first statement of a batched write is shaped; repository writes send one
+            case "update", "delete" -> firstStatementFilter(command.get(commandName + "s"));
+            default -> null;
+        };
+    }
+
+    private static BsonDocument firstStatementFilter(BsonValue statements) {
+        if (statements == null || !statements.isArray() || statements.asArray().isEmpty()) {
+            return null;
+        }
+        BsonValue first = statements.asArray().get(0);
+        return first.isDocument() && first.asDocument().isDocument("q") ? first.asDocument().getDocument("q") : null;
+    }
+
+    private static BsonArray pipelineShape(BsonArray pipeline) {
+        BsonArray stages = new BsonArray();
+        for (BsonValue stage : pipeline) {
+            if (!stage.isDocument() || stage.asDocument().isEmpty()) {
+                continue;
+            }
+            String name = stage.asDocument().getFirstKey();
+            BsonValue body = stage.asDocument().get(name);
+            stages.add(new BsonDocument(name, "$match".equals(name) && body.isDocument() ? mask(body.asDocument()) : PLACEHOLDER));
+        }
+        return stages;
+    }
+
+    static BsonDocument mask(BsonDocument document) {
+        BsonDocument masked = new BsonDocument();
+        for (var entry : document.entrySet()) {
+            masked.put(entry.getKey(), mask(entry.getKey(), entry.getValue()));
+        }
+        return masked;
+    }
+
+    private static BsonValue mask(String key, BsonValue value) {
+        if (LOGICAL_OPERATORS.contains(key) && value.isArray()) {
+            BsonArray branches = new BsonArray();
+            for (BsonValue branch : value.asArray()) {
+                branches.add(branch.isDocument() ? mask(branch.asDocument()) : PLACEHOLDER);
+            }
+            return branches;
+        }
+        // Keep operators such as {$gt: ?}, but not literal embedded documents
+        if (value.isDocument() && !value.asDocument().isEmpty() && value.asDocument().getFirstKey().startsWith("$")) {
+            return mask(value.asDocument());
+        }
+        if ("$exists".equals(key) || "$type".equals(key)) {
+            return value;
+        }
+        return PLACEHOLDER;
+    }
+}
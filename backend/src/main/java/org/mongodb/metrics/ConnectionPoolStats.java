@@ -0,0 +1,113 @@
+package org.mongodb.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.event.ConnectionReadyEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Connection pool activity seen by the Mongo clients: open connections, requests
+ * waiting for a connection and how long checkouts wait
+ * ({@code kitchensink.mongo.pool.wait}). The driver's own gauges only show the wait
+ * queue size, not how long a request spends in it.
+ */
+@ApplicationScoped
+public class ConnectionPoolStats {
+    static final String WAIT_TIMER = "kitchensink.mongo.pool.wait";
+
+    private final AtomicInteger open = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final Timer waitTimer;
+    // Not a bean itself, so the client only gets it through MongoPoolCustomizer, exactly once
+    private final ConnectionPoolListener listener = new Listener();
+
+    public ConnectionPoolStats(MeterRegistry registry) {
+        this.waitTimer = Timer.builder(WAIT_TIMER)
+                .description("Time a Mongo operation waits to check out a pooled connection")
+                .register(registry);
+    }
+
+    public ConnectionPoolListener listener() {
+        return listener;
+    }
+
+    public PoolStats snapshot() {
+        return new PoolStats(open.get(), waiting.get(), checkouts.sum(), failures.sum(), waitNanos.sum());
+    }
+
+    void checkedOut(long elapsedNanos) {
+        waiting.decrementAndGet();
+        checkouts.increment();
+        waitNanos.add(elapsedNanos);
+        waitTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void checkOutFailed(long elapsedNanos) {
+        waiting.decrementAndGet();
+        failures.increment();
+        waitNanos.add(elapsedNanos);
+        waitTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class Listener implements ConnectionPoolListener {
+        @Override
+        public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+            waiting.incrementAndGet();
+        }
+
+        @Override
+        public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+            checkedOut(event.getElapsedTime(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+            checkOutFailed(event.getElapsedTime(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public void connectionReady(ConnectionReadyEvent event) {
+            open.incrementAndGet();
+        }
+
+        @Override
+        public void connectionClosed(ConnectionClosedEvent event) {
+            open.decrementAndGet();
+        }
+    }
+
+    /**
+     * Counters are totals since startup; compare two snapshots for a rate or an average.
+     */
+    public record PoolStats(
+        int openConnections,
+        int waiting,
+        long checkouts,
+        long checkoutFailures,
+        long totalWaitNanos
+    ) {
+        /**
+         * Average checkout wait between an earlier snapshot and this one, zero without checkouts.
+         */
+        public double averageWaitMillisSince(PoolStats earlier) {
+            long count = (checkouts + checkoutFailures) - (earlier.checkouts + earlier.checkoutFailures);
+            if (count <= 0) {
+                return 0;
+            }
+            return (totalWaitNanos - earlier.totalWaitNanos) / (double) count / 1_000_000;
+        }
+    }
+}
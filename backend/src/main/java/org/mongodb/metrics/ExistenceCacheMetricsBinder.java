@@ -0,0 +1,49 @@
+package org.mongodb.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.cache.MemberExistenceCache.CacheStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes the registration existence cache hit rate and size, which decide how
+ * many requests reach Mongo from {@code RegistrationCheckFilter}.
+ */
+@Singleton
+public class ExistenceCacheMetricsBinder implements MeterBinder {
+    static final String LOOKUPS = "kitchensink.cache.member-existence.lookups";
+    static final String ENTRIES = "kitchensink.cache.member-existence.entries";
+
+    private final MemberExistenceCache cache;
+
+    public ExistenceCacheMetricsBinder(MemberExistenceCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        lookups(registry, "positive_hit", CacheStats::positiveHits);
+        lookups(registry, "negative_hit", CacheStats::negativeHits);
+        lookups(registry, "miss", CacheStats::misses);
+        entries(registry, "positive", CacheStats::positiveEntries);
+        entries(registry, "negative", CacheStats::negativeEntries);
+    }
+
+    private void lookups(MeterRegistry registry, String result, ToDoubleFunction<CacheStats> count) {
+        FunctionCounter.builder(LOOKUPS, cache, c -> count.applyAsDouble(c.stats()))
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private void entries(MeterRegistry registry, String kind, ToDoubleFunction<CacheStats> size) {
+        Gauge.builder(ENTRIES, cache, c -> size.applyAsDouble(c.stats()))
+                .tag("kind", kind)
+                .register(registry);
+    }
+}
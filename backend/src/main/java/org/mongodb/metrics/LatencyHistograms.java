@@ -0,0 +1,60 @@
+package org.mongodb.metrics;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+/**
+ * Publishes HTTP endpoint timers and the application's own timers as Prometheus
+ * histograms, so latency percentiles can be aggregated across instances.
+ * <p>
+ * The Mongo command timer is the exception: it has a series per command, collection,
+ * filter shape and outcome, so a full percentile histogram (about 70 buckets each) would
+ * multiply into thousands of series. It only gets a few fixed buckets around typical
+ * command latencies instead.
+ */
+@Singleton
+public class LatencyHistograms {
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    static final String APPLICATION_PREFIX = "kitchensink.";
+    static final double[] COMMAND_BUCKETS_NANOS = {
+        Duration.ofMillis(1).toNanos(),
+        Duration.ofMillis(5).toNanos(),
+        Duration.ofMillis(25).toNanos(),
+        Duration.ofMillis(100).toNanos(),
+        Duration.ofMillis(500).toNanos(),
+        Duration.ofSeconds(2).toNanos()
+    };
+
+    @Produces
+    @Singleton
+    public MeterFilter enableLatencyHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || !isLatency(id.getName())) {
+                    return config;
+                }
+                if (id.getName().equals(CommandLatencyListener.TIMER)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(false)
+                            .serviceLevelObjectives(COMMAND_BUCKETS_NANOS)
+                            .build()
+                            .merge(config);
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    static boolean isLatency(String name) {
+        return name.equals(HTTP_SERVER_REQUESTS) || name.startsWith(APPLICATION_PREFIX);
+    }
+}
@@ -0,0 +1,40 @@
+package org.mongodb.metrics;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
+
+import io.quarkus.mongodb.runtime.MongoClientCustomizer;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Adds {@link ConnectionPoolStats} to every Mongo client, next to the listener Quarkus
+ * registers for the {@code mongodb.driver.pool.*} gauges. Also raises the pool's minimum
+ * size to the warm-up connection count, so the driver opens those connections in the
+ * background at startup and keeps them open, instead of the first requests opening them.
+ */
+@ApplicationScoped
+public class MongoPoolCustomizer implements MongoClientCustomizer {
+    private final ConnectionPoolStats poolStats;
+    private final int warmConnections;
+
+    public MongoPoolCustomizer(
+        ConnectionPoolStats poolStats,
+        @ConfigProperty(name = "kitchensink.mongo.warmup.connections", defaultValue = "10")
+        int warmConnections
+    ) {
+        this.poolStats = poolStats;
+        this.warmConnections = warmConnections;
+    }
+
+    @Override
+    public MongoClientSettings.Builder customize(MongoClientSettings.Builder builder) {
+        return builder.applyToConnectionPoolSettings(pool -> {
+            pool.addConnectionPoolListener(poolStats.listener());
+            ConnectionPoolSettings current = pool.build();
+            int minSize = Math.min(Math.max(current.getMinSize(), warmConnections), current.getMaxSize());
+            pool.minSize(minSize);
+        });
+    }
+}
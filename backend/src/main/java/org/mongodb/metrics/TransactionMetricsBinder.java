@@ -0,0 +1,43 @@
+package org.mongodb.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+import org.mongodb.repository.TransactionMetrics;
+import org.mongodb.repository.TransactionMetrics.TransactionStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.inject.Singleton;
+
+/**
+ * Exposes {@link TransactionMetrics} as {@code kitchensink.transactions} counters,
+ * tagged by outcome.
+ */
+@Singleton
+public class TransactionMetricsBinder implements MeterBinder {
+    static final String NAME = "kitchensink.transactions";
+
+    private final TransactionMetrics transactionMetrics;
+
+    public TransactionMetricsBinder(TransactionMetrics transactionMetrics) {
+        this.transactionMetrics = transactionMetrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        register(registry, "attempt", TransactionStats::attempts);
+        register(registry, "commit", TransactionStats::commits);
+        register(registry, "abort", TransactionStats::aborts);
+        register(registry, "conflict", TransactionStats::conflicts);
+        register(registry, "commit_retry", TransactionStats::commitRetries);
+        register(registry, "failure", TransactionStats::failures);
+    }
+
+    private void register(MeterRegistry registry, String outcome, ToDoubleFunction<TransactionStats> count) {
+        FunctionCounter.builder(NAME, transactionMetrics, metrics -> count.applyAsDouble(metrics.stats()))
+                .tag("outcome", outcome)
+                .description("Mongo transactions by outcome")
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package org.mongodb.model;
+
+/**
+ * Whether and how a listing reports its total: {@code ESTIMATED} reads the collection
+ * metadata count, {@code EXACT} counts the documents matching the listing's filter.
+ */
+public enum CountMode {
+    NONE,
+    ESTIMATED,
+    EXACT;
+
+    /**
+     * Parses the {@code count} query parameter: absent or {@code false} means no count,
+     * {@code true} or {@code estimated} the metadata count, {@code exact} an exact count.
+     */
+    public static CountMode parse(String count) {
+        if (count == null || count.isBlank() || "false".equalsIgnoreCase(count)) {
+            return NONE;
+        }
+        return switch (count.trim().toLowerCase()) {
+            case "true", "estimated" -> ESTIMATED;
+            case "exact" -> EXACT;
+            default -> throw new IllegalArgumentException("Unknown count mode: " + count);
+        };
+    }
+}
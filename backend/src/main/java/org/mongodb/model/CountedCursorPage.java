@@ -0,0 +1,18 @@
+package org.mongodb.model;
+
+import java.util.List;
+
+/**
+ * A {@link CursorPage} with the total number of members and pages of the listing.
+ */
+public record CountedCursorPage<T>(
+    List<T> data,
+    String nextCursor,
+    long totalCount,
+    long pageCount
+) {
+    public static <T> CountedCursorPage<T> of(CursorPage<T> page, long totalCount, int pageSize) {
+        long pageCount = pageSize <= 0 ? 0 : (totalCount + pageSize - 1) / pageSize;
+        return new CountedCursorPage<T>(page.data(), page.nextCursor(), totalCount, pageCount);
+    }
+}
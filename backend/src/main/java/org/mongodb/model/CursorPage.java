@@ -1,6 +1,7 @@
 package org.mongodb.model;
 
 import java.util.List;
+import java.util.function.Function;
 
 public record CursorPage<T>(
     List<T> data,
@@ -9,4 +10,8 @@ public record CursorPage<T>(
     public static <T> CursorPage<T> empty() {
         return new CursorPage<T>(List.of(), null);
     }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<R>(data.stream().map(mapper).toList(), nextCursor);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package org.mongodb.model;
+
+import java.util.List;
+
+public record ImportError(
+    long line,
+    List<String> errors
+) {}
@@ -0,0 +1,11 @@
+package org.mongodb.model;
+
+import java.util.List;
+
+public record ImportReport(
+    long received,
+    long inserted,
+    long failed,
+    List<ImportError> errors,
+    boolean errorsTruncated
+) {}
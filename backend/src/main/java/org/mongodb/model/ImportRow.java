@@ -0,0 +1,19 @@
+package org.mongodb.model;
+
+/**
+ * One parsed line of a bulk import. Either {@code member} is set, or {@code error}
+ * explains why the line could not be parsed.
+ */
+public record ImportRow(
+    long line,
+    Member member,
+    String error
+) {
+    public static ImportRow parsed(long line, Member member) {
+        return new ImportRow(line, member, null);
+    }
+
+    public static ImportRow failed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
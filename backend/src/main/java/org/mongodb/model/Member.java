@@ -3,6 +3,7 @@ package org.mongodb.model;
 import org.bson.codecs.pojo.annotations.BsonId;
 import org.bson.types.ObjectId;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
@@ -33,5 +34,32 @@ public record Member(
 
     @NotBlank(message = "Phone number cannot be blank")
     @Pattern(regexp = "^[0-9]{10}$", message = "Phone number must be 10 digits")
-    String phoneNumber
-) {}
+    String phoneNumber,
+
+    // Bumped by every write and exposed through ETags only; null until read from the database
+    @JsonIgnore
+    Long version
+) {
+    public Member(
+        ObjectId id,
+        String userId,
+        String username,
+        String firstName,
+        String lastName,
+        String email,
+        String phoneNumber
+    ) {
+        this(id, userId, username, firstName, lastName, email, phoneNumber, null);
+    }
+
+    public Member withVersion(Long version) {
+        return new Member(id, userId, username, firstName, lastName, email, phoneNumber, version);
+    }
+
+    /**
+     * The stored version, where documents written before versioning count as 0.
+     */
+    public long versionOrZero() {
+        return version == null ? 0 : version;
+    }
+}
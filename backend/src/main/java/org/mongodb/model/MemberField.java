@@ -0,0 +1,48 @@
+package org.mongodb.model;
+
+public enum MemberField {
+    ID("id", "_id"),
+    USER_ID("userId", "userId"),
+    USERNAME("username", "username"),
+    FIRST_NAME("firstName", "firstName"),
+    LAST_NAME("lastName", "lastName"),
+    EMAIL("email", "email"),
+    PHONE_NUMBER("phoneNumber", "phoneNumber");
+
+    private final String jsonName;
+    private final String bsonName;
+
+    MemberField(String jsonName, String bsonName) {
+        this.jsonName = jsonName;
+        this.bsonName = bsonName;
+    }
+
+    public String jsonName() {
+        return jsonName;
+    }
+
+    public String bsonName() {
+        return bsonName;
+    }
+
+    public Object valueOf(Member member) {
+        return switch (this) {
+            case ID -> member.id();
+            case USER_ID -> member.userId();
+            case USERNAME -> member.username();
+            case FIRST_NAME -> member.firstName();
+            case LAST_NAME -> member.lastName();
+            case EMAIL -> member.email();
+            case PHONE_NUMBER -> member.phoneNumber();
+        };
+    }
+
+    public static MemberField fromJsonName(String name) {
+        for (MemberField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown member field: " + name);
+    }
+}
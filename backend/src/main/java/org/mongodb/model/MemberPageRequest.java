@@ -0,0 +1,21 @@
+package org.mongodb.model;
+
+/**
+ * One page of a member listing: how many, where to continue from, which fields
+ * to return and in what order.
+ */
+public record MemberPageRequest(
+    int size,
+    String cursor,
+    MemberProjection projection,
+    MemberSort sort
+) {
+    public MemberPageRequest {
+        projection = projection == null ? MemberProjection.ALL : projection;
+        sort = sort == null ? MemberSort.DEFAULT : sort;
+    }
+
+    public static MemberPageRequest of(int size, String cursor) {
+        return new MemberPageRequest(size, cursor, MemberProjection.ALL, MemberSort.DEFAULT);
+    }
+}
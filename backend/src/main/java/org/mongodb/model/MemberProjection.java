@@ -0,0 +1,77 @@
+package org.mongodb.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.Projections;
+
+/**
+ * The member fields a caller asked for. {@code _id} is always fetched because
+ * paging cursors are built from it, but it is only returned when requested.
+ */
+public record MemberProjection(Set<MemberField> fields) {
+    public static final String VERSION_FIELD = "version";
+    public static final MemberProjection ALL = new MemberProjection(EnumSet.allOf(MemberField.class));
+    // Just enough to tell whether a member changed, for conditional requests
+    public static final MemberProjection VERSION = new MemberProjection(EnumSet.of(MemberField.ID));
+
+    public MemberProjection {
+        fields = Collections.unmodifiableSet(EnumSet.copyOf(fields));
+    }
+
+    /**
+     * Parses a comma separated list of JSON field names, e.g. {@code firstName,email}.
+     * A null or blank list means all fields.
+     */
+    public static MemberProjection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<MemberField> selected = EnumSet.noneOf(MemberField.class);
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(MemberField.fromJsonName(name.trim()));
+            }
+        }
+        return selected.isEmpty() ? ALL : new MemberProjection(selected);
+    }
+
+    public boolean isAll() {
+        return fields.size() == MemberField.values().length;
+    }
+
+    public boolean includes(MemberField field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * This projection plus the given field, e.g. the sort key a paging cursor is built from.
+     */
+    public MemberProjection including(MemberField field) {
+        if (includes(field)) {
+            return this;
+        }
+        EnumSet<MemberField> widened = EnumSet.copyOf(fields);
+        widened.add(field);
+        return new MemberProjection(widened);
+    }
+
+    /**
+     * The projection to push down to the server, or null when every field is wanted.
+     * The version is always fetched, since response ETags are built from it.
+     */
+    public Bson toBson() {
+        if (isAll()) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(fields.size() + 1);
+        fields.forEach(field -> names.add(field.bsonName()));
+        names.add(VERSION_FIELD);
+        return Projections.include(names);
+    }
+}
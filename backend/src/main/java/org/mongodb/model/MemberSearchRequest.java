@@ -0,0 +1,45 @@
+package org.mongodb.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * One page of a prefix search over first name, last name and email. The prefix is
+ * normalized the same way as the stored search keys, so matching is case and accent
+ * insensitive. Results are ordered by the lowest matching key, then by id.
+ */
+public record MemberSearchRequest(
+    String prefix,
+    int size,
+    String cursor,
+    MemberProjection projection
+) {
+    // Shorter prefixes match too much of the collection to be useful for type-ahead
+    public static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    public MemberSearchRequest {
+        prefix = normalize(prefix);
+        if (prefix == null || prefix.length() < MIN_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("Search prefix must be at least " + MIN_PREFIX_LENGTH + " characters");
+        }
+        projection = projection == null ? MemberProjection.ALL : projection;
+    }
+
+    public static MemberSearchRequest of(String prefix, int size, String cursor) {
+        return new MemberSearchRequest(prefix, size, cursor, MemberProjection.ALL);
+    }
+
+    /**
+     * Trims, lower cases and strips accents, so an accented letter matches its plain form.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+package org.mongodb.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Sort order of a member listing: one sortable field, ascending or descending.
+ * Keys that are not unique are tie-broken on {@code _id} in the same direction, so
+ * every member has a distinct position to page from.
+ */
+public record MemberSort(MemberField field, boolean descending) {
+    // Each has a supporting index, see MemberIndexes
+    private static final Set<MemberField> SORTABLE = EnumSet.of(MemberField.ID, MemberField.LAST_NAME, MemberField.EMAIL);
+    private static final Set<MemberField> UNIQUE = EnumSet.of(MemberField.ID, MemberField.EMAIL);
+
+    // Declared after the sets above, which the constructor reads during class initialization
+    public static final MemberSort DEFAULT = new MemberSort(MemberField.ID, false);
+
+    public MemberSort {
+        if (!SORTABLE.contains(field)) {
+            throw new IllegalArgumentException("Members cannot be sorted by " + field.jsonName());
+        }
+    }
+
+    /**
+     * Parses a JSON field name, prefixed with {@code -} for descending order, e.g. {@code -lastName}.
+     * A null or blank value means the default order, by id ascending.
+     */
+    public static MemberSort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return DEFAULT;
+        }
+        String name = sort.trim();
+        boolean descending = name.startsWith("-");
+        return new MemberSort(MemberField.fromJsonName(descending ? name.substring(1) : name), descending);
+    }
+
+    public boolean needsTiebreak() {
+        return !UNIQUE.contains(field);
+    }
+
+    public String toParameter() {
+        return (descending ? "-" : "") + field.jsonName();
+    }
+}
@@ -0,0 +1,34 @@
+package org.mongodb.model;
+
+import org.bson.types.ObjectId;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * Lightweight response type for projected reads: fields that were not requested are left out of the JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MemberView(
+    @JsonSerialize(using = ToStringSerializer.class)
+    ObjectId id,
+    String userId,
+    String username,
+    String firstName,
+    String lastName,
+    String email,
+    String phoneNumber
+) {
+    public static MemberView of(Member member, MemberProjection projection) {
+        return new MemberView(
+            projection.includes(MemberField.ID) ? member.id() : null,
+            projection.includes(MemberField.USER_ID) ? member.userId() : null,
+            projection.includes(MemberField.USERNAME) ? member.username() : null,
+            projection.includes(MemberField.FIRST_NAME) ? member.firstName() : null,
+            projection.includes(MemberField.LAST_NAME) ? member.lastName() : null,
+            projection.includes(MemberField.EMAIL) ? member.email() : null,
+            projection.includes(MemberField.PHONE_NUMBER) ? member.phoneNumber() : null
+        );
+    }
+}
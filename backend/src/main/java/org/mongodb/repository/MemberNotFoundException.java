@@ -0,0 +1,19 @@
+package org.mongodb.repository;
+
+/**
+ * Thrown when an update finds no member with the given id, e.g. because it was deleted.
+ */
+public class MemberNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+
+    public MemberNotFoundException(String id) {
+        super("Member " + id + " not found");
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+}
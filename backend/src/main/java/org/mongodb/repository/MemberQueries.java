@@ -0,0 +1,147 @@
+package org.mongodb.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.conversions.Bson;
+import org.bson.BsonString;
+import org.bson.types.ObjectId;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberSort;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+
+/**
+ * Filters and sorts used by the member repositories. Keeping them in one place lets
+ * {@code QueryPlanInspector} explain exactly the shapes the repositories send.
+ */
+public final class MemberQueries {
+    public static final Bson LISTING_SORT = Sorts.ascending("_id");
+    // Leaves out _id, which email_unique does not hold, so existsByEmail is a covered query
+    public static final Bson EMAIL_ONLY = Projections.fields(Projections.excludeId(), Projections.include("email"));
+
+    private MemberQueries() {}
+
+    public static Bson byId(ObjectId id) {
+        return Filters.eq("_id", id);
+    }
+
+    /**
+     * The member only if it is still at the given version. Documents written before
+     * versioning have no version field and count as version 0.
+     */
+    public static Bson byIdAndVersion(ObjectId id, long version) {
+        Bson atVersion = version == 0
+                ? Filters.or(Filters.eq(MemberUpdates.VERSION, 0L), Filters.exists(MemberUpdates.VERSION, false))
+                : Filters.eq(MemberUpdates.VERSION, version);
+        return Filters.and(byId(id), atVersion);
+    }
+
+    public static Bson byEmail(String email) {
+        return Filters.eq("email", email);
+    }
+
+    public static Bson byUserId(String userId) {
+        return Filters.eq("userId", userId);
+    }
+
+    public static Bson afterCursor(ObjectId cursor) {
+        return Filters.gt("_id", cursor);
+    }
+
+    /**
+     * Members whose search key starts with the normalized prefix, after the position
+     * already read when there is one. A single range on the key, so with
+     * {@link #searchSort(SearchKey)} the server reads its {@code (key, _id)} index in order.
+     */
+    public static Bson searchBranch(SearchKey key, String prefix, SearchCursor.Position after) {
+        // A range rather than an anchored regex, so the prefix needs no escaping
+        Bson upTo = Filters.lt(key.path(), prefix + Character.MAX_VALUE);
+        if (after == null) {
+            return Filters.and(Filters.gte(key.path(), prefix), upTo);
+        }
+        // Members sharing the position's key that were already read are left out by _id
+        Bson alreadyRead = Filters.and(Filters.eq(key.path(), after.key()), Filters.lte("_id", after.id()));
+        return Filters.and(Filters.gte(key.path(), after.key()), upTo, Filters.nor(alreadyRead));
+    }
+
+    public static Bson searchSort(SearchKey key) {
+        return Sorts.ascending(key.path(), "_id");
+    }
+
+    public static Bson listingSort(MemberSort sort) {
+        String key = sort.field().bsonName();
+        if (!sort.needsTiebreak()) {
+            return sort.descending() ? Sorts.descending(key) : Sorts.ascending(key);
+        }
+        // The _id tiebreak runs in the same direction, so one compound index serves both orders
+        return sort.descending() ? Sorts.descending(key, "_id") : Sorts.ascending(key, "_id");
+    }
+
+    /**
+     * Everything strictly after the cursor in its sort order. Members without the sort
+     * key sort before every value, ordered among themselves by {@code _id}. A range such as
+     * {@code $gt: null} never matches a string, so null and missing keys get their own branches.
+     */
+    public static Bson after(PageCursor cursor) {
+        MemberSort sort = cursor.sort();
+        if (sort.field() == MemberField.ID) {
+            return sort.descending() ? Filters.lt("_id", cursor.id()) : Filters.gt("_id", cursor.id());
+        }
+
+        String key = sort.field().bsonName();
+        Bson beyondId = sort.descending() ? Filters.lt("_id", cursor.id()) : Filters.gt("_id", cursor.id());
+        // Matches a null key as well as a missing one
+        Bson withoutKey = Filters.eq(key, null);
+        if (cursor.value().isNull()) {
+            Bson laterWithoutKey = Filters.and(withoutKey, beyondId);
+            // Ascending, every member with a value is still ahead; descending, none is
+            return sort.descending() ? laterWithoutKey : Filters.or(laterWithoutKey, Filters.ne(key, null));
+        }
+
+        List<Bson> branches = new ArrayList<>(3);
+        branches.add(sort.descending() ? Filters.lt(key, cursor.value()) : Filters.gt(key, cursor.value()));
+        if (sort.needsTiebreak()) {
+            branches.add(Filters.and(Filters.eq(key, cursor.value()), beyondId));
+        }
+        if (sort.descending()) {
+            branches.add(withoutKey);
+        }
+        return branches.size() == 1 ? branches.get(0) : Filters.or(branches);
+    }
+
+    /**
+     * One representative query per repository method, with placeholder values.
+     */
+    public static List<QueryShape> shapes() {
+        ObjectId sampleId = new ObjectId("000000000000000000000000");
+        String sampleEmail = "diagnostics@example.com";
+        MemberSort byLastName = new MemberSort(MemberField.LAST_NAME, false);
+        SearchCursor.Position samplePosition = new SearchCursor.Position("diagnostics", sampleId);
+        return List.of(
+            new QueryShape("findById", byId(sampleId), null, null, 1),
+            new QueryShape("findByEmail", byEmail(sampleEmail), null, null, 1),
+            new QueryShape("existsByEmail", byEmail(sampleEmail), null, EMAIL_ONLY, 1),
+            new QueryShape("findByUserId", byUserId("diagnostics"), null, null, 1),
+            new QueryShape("listMembersPage", afterCursor(sampleId), LISTING_SORT, null, 11),
+            new QueryShape("listMembersPageByLastName", after(new PageCursor(byLastName, new BsonString("Doe"), sampleId)),
+                    listingSort(byLastName), null, 11),
+            new QueryShape("searchMembersByFirstName", searchBranch(SearchKey.FIRST_NAME, "diagnostics", samplePosition),
+                    searchSort(SearchKey.FIRST_NAME), null, 11),
+            new QueryShape("searchMembersByLastName", searchBranch(SearchKey.LAST_NAME, "diagnostics", samplePosition),
+                    searchSort(SearchKey.LAST_NAME), null, 11),
+            new QueryShape("searchMembersByEmail", searchBranch(SearchKey.EMAIL, "diagnostics", samplePosition),
+                    searchSort(SearchKey.EMAIL), null, 11)
+        );
+    }
+
+    public record QueryShape(
+        String name,
+        Bson filter,
+        Bson sort,
+        Bson projection,
+        int limit
+    ) {}
+}
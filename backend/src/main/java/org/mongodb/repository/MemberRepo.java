@@ -1,16 +1,31 @@
 package org.mongodb.repository;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.mongodb.model.CountMode;
 import org.mongodb.model.CursorPage;
 import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
 
 public interface MemberRepo {
     Optional<Member> findById(String id);
+    Optional<Member> findById(String id, MemberProjection projection);
     Optional<Member> findByEmail(String email);
+    boolean existsByEmail(String email);
     Optional<Member> findByUserId(String userId);
     CursorPage<Member> listMembersPage(int size, String cursor);
+    CursorPage<Member> listMembersPage(MemberPageRequest request);
+    CursorPage<Member> searchMembers(MemberSearchRequest request);
+    long countMembers(CountMode mode);
+    Stream<Member> streamAll();
     void register(Member member);
+    boolean registerIfAbsent(Member member);
+    Map<Integer, String> insertMany(List<Member> members);
     void update(Member member);
     void deleteById(String id);
 }
@@ -0,0 +1,57 @@
+package org.mongodb.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.conversions.Bson;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberSearchRequest;
+
+import com.mongodb.client.model.Updates;
+
+/**
+ * Normalized copies of the searchable member fields, kept in a {@code search}
+ * subdocument next to the originals and indexed for prefix matching. Every write
+ * path stores them: the codec on inserts, {@link MemberUpdates} on updates and upserts.
+ */
+public final class MemberSearchKeys {
+    public static final String FIELD = "search";
+    public static final String FIRST_NAME = FIELD + ".firstName";
+    public static final String LAST_NAME = FIELD + ".lastName";
+    public static final String EMAIL = FIELD + ".email";
+
+    private MemberSearchKeys() {}
+
+    /**
+     * {@code $set} of the search keys derived from the non-null fields.
+     */
+    public static Bson set(Member member) {
+        return keys(member, Updates::set);
+    }
+
+    /**
+     * {@code $setOnInsert} of the search keys derived from the non-null fields.
+     */
+    public static Bson setOnInsert(Member member) {
+        return keys(member, Updates::setOnInsert);
+    }
+
+    private static Bson keys(Member member, Operator operator) {
+        List<Bson> keys = new ArrayList<>(3);
+        add(keys, operator, FIRST_NAME, member.firstName());
+        add(keys, operator, LAST_NAME, member.lastName());
+        add(keys, operator, EMAIL, member.email());
+        return Updates.combine(keys);
+    }
+
+    private static void add(List<Bson> keys, Operator operator, String field, String value) {
+        if (value != null) {
+            keys.add(operator.apply(field, MemberSearchRequest.normalize(value)));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operator {
+        Bson apply(String field, String value);
+    }
+}
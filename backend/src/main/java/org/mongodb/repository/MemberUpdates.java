@@ -0,0 +1,70 @@
+package org.mongodb.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.bson.conversions.Bson;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberProjection;
+
+import com.mongodb.client.model.Updates;
+
+/**
+ * Update documents for member writes. Besides the fields themselves they keep the
+ * derived data in step: the search keys, and the version that every write bumps.
+ * Fields are read through {@link MemberField} rather than {@link RecordUpdatePlan},
+ * so member writes need no reflection and work unchanged in a native image.
+ */
+public final class MemberUpdates {
+    public static final String VERSION = MemberProjection.VERSION_FIELD;
+    public static final long INITIAL_VERSION = 1;
+
+    private MemberUpdates() {}
+
+    /**
+     * {@code $set} of the non-null fields and their search keys, and a version increment.
+     */
+    public static Bson update(Member member) {
+        // The version only ever moves forward through $inc, never from the caller's value
+        return Updates.combine(
+            fields(member, false, Updates::set),
+            MemberSearchKeys.set(member),
+            Updates.inc(VERSION, 1L)
+        );
+    }
+
+    /**
+     * {@code $setOnInsert} of the non-null fields, their search keys and the initial version, for upserts.
+     */
+    public static Bson insert(Member member) {
+        return Updates.combine(
+            fields(member, true, Updates::setOnInsert),
+            MemberSearchKeys.setOnInsert(member),
+            Updates.setOnInsert(VERSION, INITIAL_VERSION)
+        );
+    }
+
+    /**
+     * The member as it is first stored, at the initial version.
+     */
+    public static Member initial(Member member) {
+        return member.withVersion(INITIAL_VERSION);
+    }
+
+    // The non-null fields, _id only when asked for since it is immutable once stored
+    private static Bson fields(Member member, boolean includeId, BiFunction<String, Object, Bson> operator) {
+        List<Bson> fields = new ArrayList<>(MemberField.values().length);
+        for (MemberField field : MemberField.values()) {
+            if (field == MemberField.ID && !includeId) {
+                continue;
+            }
+            Object value = field.valueOf(member);
+            if (value != null) {
+                fields.add(operator.apply(field.bsonName(), value));
+            }
+        }
+        return Updates.combine(fields);
+    }
+}
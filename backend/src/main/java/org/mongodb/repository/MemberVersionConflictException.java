@@ -0,0 +1,26 @@
+package org.mongodb.repository;
+
+/**
+ * Thrown when a compare-and-set update finds the member at a different version than
+ * the caller read, i.e. someone else changed it in the meantime.
+ */
+public class MemberVersionConflictException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+    private final long expectedVersion;
+
+    public MemberVersionConflictException(String id, long expectedVersion) {
+        super("Member " + id + " was modified since version " + expectedVersion);
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public long expectedVersion() {
+        return expectedVersion;
+    }
+}
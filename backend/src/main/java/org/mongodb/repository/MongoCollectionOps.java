@@ -1,19 +1,23 @@
 package org.mongodb.repository;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
+import org.bson.Document;
 import org.bson.conversions.Bson;
 
+import com.mongodb.ReadConcern;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -22,67 +26,147 @@ import jakarta.enterprise.context.ApplicationScoped;
 @ApplicationScoped
 public class MongoCollectionOps {
     private final MongoTransactionManager transactionManager;
+    private final ReadRouting readRouting;
 
-    public MongoCollectionOps(MongoTransactionManager transactionManager) {
+    public MongoCollectionOps(MongoTransactionManager transactionManager, ReadRouting readRouting) {
         this.transactionManager = transactionManager;
+        this.readRouting = readRouting;
     }
 
     public <T> FindIterable<T> find(MongoCollection<T> collection, Optional<Bson> filter) {
-        return ifInTransactionThenGetOrElseGet(
-            session -> collection.find(session, filter.orElse(Filters.empty())),
-            () -> collection.find(filter.orElse(Filters.empty()))
+        return find(collection, filter, ReadProfile.PRIMARY);
+    }
+
+    public <T> FindIterable<T> find(MongoCollection<T> collection, Optional<Bson> filter, ReadProfile profile) {
+        Bson query = filter.orElse(Filters.empty());
+        return read(collection, profile,
+            (target, session) -> target.find(session, query),
+            target -> target.find(query)
         );
     }
 
-    public <T> InsertOneResult insertOne(MongoCollection<T> collection, T document) {
-        return ifInTransactionThenGetOrElseGet(
-            session -> collection.insertOne(session, document),
-            () -> collection.insertOne(document)
+    public <T> boolean exists(MongoCollection<T> collection, Bson filter) {
+        // Only the _id is projected so no full document has to be decoded
+        return exists(collection, filter, Projections.include("_id"));
+    }
+
+    /**
+     * Like {@link #exists(MongoCollection, Bson)}, with a projection limited to indexed
+     * fields so the index alone answers it.
+     */
+    public <T> boolean exists(MongoCollection<T> collection, Bson filter, Bson projection) {
+        MongoCollection<Document> documents = collection.withDocumentClass(Document.class);
+        return find(documents, Optional.of(filter))
+                .projection(projection)
+                .limit(1)
+                .first() != null;
+    }
+
+    public <T> long countDocuments(MongoCollection<T> collection, Optional<Bson> filter) {
+        return countDocuments(collection, filter, ReadProfile.PRIMARY);
+    }
+
+    public <T> long countDocuments(MongoCollection<T> collection, Optional<Bson> filter, ReadProfile profile) {
+        Bson query = filter.orElse(Filters.empty());
+        return read(collection, profile,
+            (target, session) -> target.countDocuments(session, query),
+            target -> target.countDocuments(query)
         );
     }
 
+    /**
+     * Count from the collection metadata, without scanning. Not allowed inside a
+     * transaction, so it never joins the request's session.
+     */
+    public <T> long estimatedDocumentCount(MongoCollection<T> collection) {
+        return estimatedDocumentCount(collection, ReadProfile.PRIMARY);
+    }
+
+    public <T> long estimatedDocumentCount(MongoCollection<T> collection, ReadProfile profile) {
+        return routed(collection, profile).estimatedDocumentCount();
+    }
+
+    public <T> InsertOneResult insertOne(MongoCollection<T> collection, T document) {
+        return write(session -> collection.insertOne(session, document));
+    }
+
+    public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<? extends T> documents, InsertManyOptions options) {
+        return write(session -> collection.insertMany(session, documents, options));
+    }
+
     public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson filter) {
-        return ifInTransactionThenGetOrElseGet(
-            session -> collection.deleteOne(session, filter),
-            () -> collection.deleteOne(filter)
-        );
+        return write(session -> collection.deleteOne(session, filter));
     }
 
     public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson filter, T document) {
-        Bson update = buildUpdateFromNonNullFields(document);
+        return updateOne(collection, filter, buildUpdateFromNonNullFields(document));
+    }
 
-        return ifInTransactionThenGetOrElseGet(
-            session -> collection.updateOne(session, filter, update),
-            () -> collection.updateOne(filter, update)
-        );
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson filter, Bson update) {
+        return write(session -> collection.updateOne(session, filter, update));
+    }
+
+    /**
+     * Inserts the document only if nothing matches the filter, as a single atomic upsert.
+     * Existing documents are left untouched; the result's upserted id tells whether a write happened.
+     */
+    public <T> UpdateResult insertIfAbsent(MongoCollection<T> collection, Bson filter, T document) {
+        return insertIfAbsent(collection, filter, RecordUpdatePlan.forType(document.getClass()).setOnInsert(document));
     }
 
-    private <T> T ifInTransactionThenGetOrElseGet(
-            Function<ClientSession, T> performInTransaction,
-            Supplier<T> performWithoutTransaction) {
+    /**
+     * Upserts with a prebuilt update, which should only use {@code $setOnInsert}.
+     */
+    public <T> UpdateResult insertIfAbsent(MongoCollection<T> collection, Bson filter, Bson update) {
+        UpdateOptions options = new UpdateOptions().upsert(true);
 
-        RuntimeException transactionFailedException = new RuntimeException("Transaction failed");
+        return write(session -> collection.updateOne(session, filter, update, options));
+    }
 
-        if (transactionManager.getClientSession().isEmpty()) {
-            return performWithoutTransaction.get();
+    /**
+     * Runs a read with the given profile. A transaction always reads from the primary,
+     * so inside one the profile is ignored. Outside one, a relaxed read in a request
+     * that already wrote through its session stays on that causally consistent session
+     * with majority read concern: a secondary then waits until it has the request's own
+     * writes before answering, so read-your-writes holds wherever the read lands.
+     */
+    private <T, R> R read(
+            MongoCollection<T> collection,
+            ReadProfile profile,
+            BiFunction<MongoCollection<T>, ClientSession, R> performInSession,
+            Function<MongoCollection<T>, R> performWithoutSession) {
+
+        Optional<ClientSession> session = transactionManager.getClientSession();
+        if (session.isPresent() && session.get().hasActiveTransaction()) {
+            return performInSession.apply(collection, session.get());
         }
+        if (profile == ReadProfile.PRIMARY) {
+            return performWithoutSession.apply(collection);
+        }
+
+        MongoCollection<T> target = routed(collection, profile);
+        if (session.isPresent()) {
+            return performInSession.apply(target.withReadConcern(ReadConcern.MAJORITY), session.get());
+        }
+        return performWithoutSession.apply(target);
+    }
 
-        return transactionManager.execute(performInTransaction)
-                .orElseThrow(() -> transactionFailedException);
+    private <T> MongoCollection<T> routed(MongoCollection<T> collection, ReadProfile profile) {
+        return profile == ReadProfile.PRIMARY
+                ? collection
+                : collection.withReadPreference(readRouting.preference(profile));
+    }
+
+    /**
+     * Runs a write on the request's session: inside a transaction it joins it, outside one
+     * it is a single atomic operation. Never starts a transaction; going through the causally
+     * consistent session is what lets a relaxed read later in the request see the write.
+     */
+    private <T> T write(Function<ClientSession, T> perform) {
+        return perform.apply(transactionManager.session());
     }
 
     public static Bson buildUpdateFromNonNullFields(Object record) {
-        List<Bson> updates = new ArrayList<>();
-        for (var component : record.getClass().getRecordComponents()) {
-            try {
-                Object value = component.getAccessor().invoke(record);
-                if (value != null) {
-                    updates.add(Updates.set(component.getName(), value));
-                }
-            } catch (Exception e) {
-                throw new RuntimeException("error while building bson document to update", e);
-            }
-        }
-        return Updates.combine(updates);
+        return RecordUpdatePlan.forType(record.getClass()).set(record);
     }
 }
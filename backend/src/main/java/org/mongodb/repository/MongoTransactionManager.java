@@ -1,8 +1,12 @@
 package org.mongodb.repository;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
 import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.TransactionOptions;
@@ -10,23 +14,39 @@ import com.mongodb.WriteConcern;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 
+import io.quarkus.logging.Log;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.RequestScoped;
 
 @RequestScoped
 public class MongoTransactionManager {
     private final MongoClient mongoClient;
+    private final TransactionRetryPolicy retryPolicy;
+    private final TransactionMetrics metrics;
     private Optional<ClientSession> clientSession;
+    // Actions waiting for the outermost transaction to commit, null outside execute
+    private List<Runnable> pendingAfterCommit;
 
-    // Transaction options for all transactions
+    // Transactions can only read from the primary; reads outside them are routed by ReadProfile
     private static final TransactionOptions TXN_OPTIONS = TransactionOptions.builder()
             .readPreference(ReadPreference.primary())
             .readConcern(ReadConcern.MAJORITY)
             .writeConcern(WriteConcern.MAJORITY)
             .build();
 
-    public MongoTransactionManager(MongoClient mongoClient) {
+    // Causally consistent, so relaxed reads later in the request still see its writes
+    private static final ClientSessionOptions SESSION_OPTIONS = ClientSessionOptions.builder()
+            .causallyConsistent(true)
+            .build();
+
+    public MongoTransactionManager(
+        MongoClient mongoClient,
+        TransactionRetryPolicy retryPolicy,
+        TransactionMetrics metrics
+    ) {
         this.mongoClient = mongoClient;
+        this.retryPolicy = retryPolicy;
+        this.metrics = metrics;
         this.clientSession = Optional.empty();
     }
 
@@ -34,30 +54,107 @@ public class MongoTransactionManager {
         return clientSession;
     }
 
+    /**
+     * Runs the callback in a transaction. Transactions failing with a
+     * TransientTransactionError are rolled back and retried with jittered backoff;
+     * a commit with an unknown result is retried on its own. A call made while a
+     * transaction is already active joins it, and the outer call owns commit and retries.
+     */
     public <T> Optional<T> execute(Function<ClientSession, T> callback) {
-        Optional<T> result = Optional.empty();
-        boolean transactionActive = clientSession.isPresent() && clientSession.get().hasActiveTransaction();
-        if (!clientSession.isPresent()) {
-            // Start a new session
-            this.clientSession = Optional.of(mongoClient.startSession());
+        ClientSession session = session();
+        if (session.hasActiveTransaction()) {
+            return Optional.ofNullable(callback.apply(session));
         }
-        ClientSession session = this.clientSession.get();
-        if (!transactionActive) {
-            // If no active transaction, start a new one
+
+        for (int attempt = 1; ; attempt++) {
+            metrics.attempt();
             session.startTransaction(TXN_OPTIONS);
+            // A retried callback registers its actions again
+            pendingAfterCommit = new ArrayList<>();
+            boolean committing = false;
+            T result;
+            try {
+                result = callback.apply(session);
+                committing = true;
+                commit(session);
+                metrics.commit();
+            } catch (RuntimeException e) {
+                pendingAfterCommit = null;
+                // A failed commit has already ended the transaction, only a failed callback leaves it open
+                if (!committing) {
+                    abortQuietly(session);
+                }
+                if (!retryPolicy.isTransient(e)) {
+                    metrics.failure();
+                    throw new RuntimeException("Transaction failed, rolled back", e);
+                }
+                metrics.conflict();
+                if (attempt >= retryPolicy.maxAttempts()) {
+                    metrics.failure();
+                    throw new TransactionConflictException(attempt, e);
+                }
+                Log.info("Repo: Transient transaction error on attempt " + attempt + ", retrying: " + e.getMessage());
+                retryPolicy.pause(attempt);
+                continue;
+            }
+            runAfterCommit();
+            return Optional.ofNullable(result);
         }
-        try {
-            result = Optional.of(callback.apply(session));
-            if (!transactionActive) {
-                // If we started a new transaction, commit it
+    }
+
+    /**
+     * Runs the action once the transaction opened by {@link #execute} has committed, or
+     * right away outside one. Use it for side effects that must not be visible before
+     * the data is, such as dropping cache entries: dropped earlier, a concurrent read
+     * could cache the old state again before the commit.
+     */
+    public void afterCommit(Runnable action) {
+        if (pendingAfterCommit != null) {
+            pendingAfterCommit.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    private void runAfterCommit() {
+        List<Runnable> actions = pendingAfterCommit;
+        pendingAfterCommit = null;
+        actions.forEach(Runnable::run);
+    }
+
+    /**
+     * The request's causally consistent session, started on first use and reused for
+     * the rest of the request. Writes outside a transaction run on it too, so relaxed
+     * reads later in the request can wait for them, see {@link MongoCollectionOps}.
+     */
+    public ClientSession session() {
+        if (clientSession.isEmpty()) {
+            clientSession = Optional.of(mongoClient.startSession(SESSION_OPTIONS));
+        }
+        return clientSession.get();
+    }
+
+    private void commit(ClientSession session) {
+        for (int attempt = 1; ; attempt++) {
+            try {
                 session.commitTransaction();
+                return;
+            } catch (MongoException e) {
+                if (!retryPolicy.isUnknownCommitResult(e) || attempt >= retryPolicy.maxAttempts()) {
+                    throw e;
+                }
+                metrics.commitRetry();
             }
-        } catch (Exception e) {
-            session.abortTransaction();
-            throw new RuntimeException("Transaction failed, rolled back", e);
         }
+    }
 
-        return result;
+    private void abortQuietly(ClientSession session) {
+        metrics.abort();
+        try {
+            session.abortTransaction();
+        } catch (RuntimeException e) {
+            Log.warn("Repo: Failed to abort transaction: " + e.getMessage());
+        }
     }
 
     @PreDestroy
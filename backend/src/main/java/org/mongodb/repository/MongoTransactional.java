@@ -0,0 +1,24 @@
+package org.mongodb.repository;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Runs the annotated method in one Mongo transaction: every {@link MongoCollectionOps}
+ * call made inside it joins the same session and transaction, which is committed
+ * once when the method returns. Nested annotated methods join the outer transaction.
+ * <p>
+ * On a transient error the whole method is run again, so it should not have side
+ * effects outside the database that cannot be repeated.
+ */
+@Inherited
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface MongoTransactional {
+}
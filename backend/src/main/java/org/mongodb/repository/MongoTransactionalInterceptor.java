@@ -0,0 +1,61 @@
+package org.mongodb.repository;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@MongoTransactional
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 200)
+public class MongoTransactionalInterceptor {
+    private final MongoTransactionManager transactionManager;
+
+    public MongoTransactionalInterceptor(MongoTransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+    @AroundInvoke
+    Object inTransaction(InvocationContext context) throws Exception {
+        Exception[] failure = new Exception[1];
+        try {
+            return transactionManager.execute(session -> {
+                failure[0] = null;
+                try {
+                    return context.proceed();
+                } catch (RuntimeException e) {
+                    failure[0] = e;
+                    throw e;
+                } catch (Exception e) {
+                    failure[0] = e;
+                    throw new MethodFailedException(e);
+                }
+            }).orElse(null);
+        } catch (TransactionConflictException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // Callers see what the method threw, not the transaction manager's wrapper
+            if (failure[0] != null && (e == failure[0] || isCausedBy(e, failure[0]))) {
+                throw failure[0];
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isCausedBy(Throwable error, Exception failure) {
+        for (Throwable cause = error.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause == failure) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class MethodFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        MethodFailedException(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.mongodb.repository;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.ObjectId;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberSort;
+
+/**
+ * Position in a keyset paged member listing: the sort key value and {@code _id} of
+ * the last member returned. Clients get it as an opaque URL safe token, which
+ * also records the sort order so it cannot be replayed against a different one.
+ */
+public record PageCursor(MemberSort sort, BsonValue value, ObjectId id) {
+    private static final String SORT = "s";
+    private static final String VALUE = "v";
+    private static final String ID = "i";
+
+    public static PageCursor after(Member last, MemberSort sort) {
+        BsonValue value = sort.field() == MemberField.ID ? BsonNull.VALUE : toBson(sort.field().valueOf(last));
+        return new PageCursor(sort, value, last.id());
+    }
+
+    /**
+     * Builds a page from up to {@code size + 1} members: the extra one only tells
+     * whether there is a next page and is not returned.
+     */
+    public static CursorPage<Member> page(List<Member> fetched, int size, MemberSort sort) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<Member> data = new ArrayList<>(fetched.subList(0, size));
+        return new CursorPage<>(data, after(data.get(size - 1), sort).encode());
+    }
+
+    public String encode() {
+        BsonDocument document = new BsonDocument(SORT, new BsonString(sort.toParameter()))
+                .append(VALUE, value)
+                .append(ID, new BsonObjectId(id));
+        RawBsonDocument raw = new RawBsonDocument(document, new BsonDocumentCodec());
+        ByteBuffer bytes = raw.getByteBuffer().asNIO();
+        byte[] encoded = new byte[bytes.remaining()];
+        bytes.get(encoded);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(encoded);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()} for the given sort order. A bare
+     * ObjectId, as returned before cursors were opaque, is still accepted for the default order.
+     *
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort order
+     */
+    public static PageCursor decode(String token, MemberSort sort) {
+        if (ObjectId.isValid(token) && sort.equals(MemberSort.DEFAULT)) {
+            return new PageCursor(sort, BsonNull.VALUE, new ObjectId(token));
+        }
+
+        BsonDocument document;
+        try {
+            document = new RawBsonDocument(Base64.getUrlDecoder().decode(token)).toBsonDocument();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (!document.isString(SORT) || !document.containsKey(VALUE) || !document.isObjectId(ID)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!document.getString(SORT).getValue().equals(sort.toParameter())) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + document.getString(SORT).getValue());
+        }
+        return new PageCursor(sort, document.get(VALUE), document.getObjectId(ID).getValue());
+    }
+
+    private static BsonValue toBson(Object value) {
+        if (value == null) {
+            return BsonNull.VALUE;
+        }
+        if (value instanceof ObjectId objectId) {
+            return new BsonObjectId(objectId);
+        }
+        return new BsonString(value.toString());
+    }
+}
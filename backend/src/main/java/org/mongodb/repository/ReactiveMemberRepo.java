@@ -0,0 +1,29 @@
+package org.mongodb.repository;
+
+import org.mongodb.model.CountMode;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+// Lookups emit a null item when no member matches
+public interface ReactiveMemberRepo {
+    Uni<Member> findById(String id);
+    Uni<Member> findById(String id, MemberProjection projection);
+    Uni<Member> findByEmail(String email);
+    Uni<Boolean> existsByEmail(String email);
+    Uni<Member> findByUserId(String userId);
+    Uni<CursorPage<Member>> listMembersPage(int size, String cursor);
+    Uni<CursorPage<Member>> listMembersPage(MemberPageRequest request);
+    Uni<CursorPage<Member>> searchMembers(MemberSearchRequest request);
+    Uni<Long> countMembers(CountMode mode);
+    Multi<Member> streamAll();
+    Uni<Void> register(Member member);
+    Uni<Boolean> registerIfAbsent(Member member);
+    Uni<Void> update(Member member);
+    Uni<Void> deleteById(String id);
+}
@@ -0,0 +1,188 @@
+package org.mongodb.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadConcern;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.reactive.ReactiveMongoClient;
+import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import mutiny.zero.flow.adapters.AdaptersToFlow;
+
+/**
+ * Non-blocking counterpart of {@link MongoCollectionOps}: every operation joins the
+ * request's reactive transaction when one is open and runs standalone otherwise.
+ */
+@ApplicationScoped
+public class ReactiveMongoCollectionOps {
+    private final ReactiveMongoTransactionManager transactionManager;
+    private final ReadRouting readRouting;
+    private final ReactiveMongoClient mongoClient;
+
+    public ReactiveMongoCollectionOps(
+        ReactiveMongoTransactionManager transactionManager,
+        ReadRouting readRouting,
+        ReactiveMongoClient mongoClient
+    ) {
+        this.transactionManager = transactionManager;
+        this.readRouting = readRouting;
+        this.mongoClient = mongoClient;
+    }
+
+    public <T> Uni<List<T>> find(ReactiveMongoCollection<T> collection, Optional<Bson> filter, FindOptions options) {
+        return find(collection, filter, options, ReadProfile.PRIMARY);
+    }
+
+    public <T> Uni<List<T>> find(ReactiveMongoCollection<T> collection, Optional<Bson> filter, FindOptions options, ReadProfile profile) {
+        Bson query = filter.orElse(Filters.empty());
+        return read(collection, profile,
+            (target, session) -> target.find(session, query, options).collect().asList(),
+            target -> target.find(query, options).collect().asList(),
+            (target, session) -> Multi.createFrom()
+                    .publisher(AdaptersToFlow.publisher(options.apply(target.find(session, query))))
+                    .collect().asList()
+        );
+    }
+
+    /**
+     * Streams matching documents from a single cursor; demand from the subscriber
+     * drives how many batches are fetched. Streams never join the request transaction.
+     */
+    public <T> Multi<T> stream(ReactiveMongoCollection<T> collection, Optional<Bson> filter, FindOptions options) {
+        return collection.find(filter.orElse(Filters.empty()), options);
+    }
+
+    public <T> Uni<T> findFirst(ReactiveMongoCollection<T> collection, Bson filter) {
+        return findFirst(collection, filter, new FindOptions());
+    }
+
+    public <T> Uni<T> findFirst(ReactiveMongoCollection<T> collection, Bson filter, FindOptions options) {
+        return find(collection, Optional.of(filter), options.limit(1))
+                .map(results -> results.isEmpty() ? null : results.get(0));
+    }
+
+    public <T> Uni<Boolean> exists(ReactiveMongoCollection<T> collection, Bson filter) {
+        // Only the _id is projected so no full document has to be decoded
+        return exists(collection, filter, Projections.include("_id"));
+    }
+
+    /**
+     * Like {@link #exists(ReactiveMongoCollection, Bson)}, with a projection limited to
+     * indexed fields so the index alone answers it.
+     */
+    public <T> Uni<Boolean> exists(ReactiveMongoCollection<T> collection, Bson filter, Bson projection) {
+        ReactiveMongoCollection<Document> documents = collection.withDocumentClass(Document.class);
+        FindOptions options = new FindOptions().projection(projection).limit(1);
+        return find(documents, Optional.of(filter), options).map(results -> !results.isEmpty());
+    }
+
+    public <T> Uni<Long> countDocuments(ReactiveMongoCollection<T> collection, Optional<Bson> filter) {
+        return countDocuments(collection, filter, ReadProfile.PRIMARY);
+    }
+
+    public <T> Uni<Long> countDocuments(ReactiveMongoCollection<T> collection, Optional<Bson> filter, ReadProfile profile) {
+        Bson query = filter.orElse(Filters.empty());
+        return read(collection, profile,
+            (target, session) -> target.countDocuments(session, query),
+            target -> target.countDocuments(query),
+            (target, session) -> Uni.createFrom().publisher(AdaptersToFlow.publisher(target.countDocuments(session, query)))
+        );
+    }
+
+    // Not allowed inside a transaction, so it never joins the request's session
+    public <T> Uni<Long> estimatedDocumentCount(ReactiveMongoCollection<T> collection) {
+        return estimatedDocumentCount(collection, ReadProfile.PRIMARY);
+    }
+
+    public <T> Uni<Long> estimatedDocumentCount(ReactiveMongoCollection<T> collection, ReadProfile profile) {
+        return routed(collection, profile).estimatedDocumentCount();
+    }
+
+    public <T> Uni<InsertOneResult> insertOne(ReactiveMongoCollection<T> collection, T document) {
+        return write(session -> collection.insertOne(session, document));
+    }
+
+    public <T> Uni<DeleteResult> deleteOne(ReactiveMongoCollection<T> collection, Bson filter) {
+        return write(session -> collection.deleteOne(session, filter));
+    }
+
+    public <T> Uni<UpdateResult> updateOne(ReactiveMongoCollection<T> collection, Bson filter, T document) {
+        return updateOne(collection, filter, RecordUpdatePlan.forType(document.getClass()).set(document));
+    }
+
+    public <T> Uni<UpdateResult> updateOne(ReactiveMongoCollection<T> collection, Bson filter, Bson update) {
+        return write(session -> collection.updateOne(session, filter, update));
+    }
+
+    public <T> Uni<UpdateResult> insertIfAbsent(ReactiveMongoCollection<T> collection, Bson filter, T document) {
+        return insertIfAbsent(collection, filter, RecordUpdatePlan.forType(document.getClass()).setOnInsert(document));
+    }
+
+    public <T> Uni<UpdateResult> insertIfAbsent(ReactiveMongoCollection<T> collection, Bson filter, Bson update) {
+        UpdateOptions options = new UpdateOptions().upsert(true);
+
+        return write(session -> collection.updateOne(session, filter, update, options));
+    }
+
+    /**
+     * Same routing as MongoCollectionOps#read. The Quarkus collection cannot set a read
+     * concern, so causal relaxed reads go through the driver collection underneath it.
+     */
+    private <T, R> Uni<R> read(
+            ReactiveMongoCollection<T> collection,
+            ReadProfile profile,
+            BiFunction<ReactiveMongoCollection<T>, ClientSession, Uni<R>> performInSession,
+            Function<ReactiveMongoCollection<T>, Uni<R>> performWithoutSession,
+            BiFunction<MongoCollection<T>, ClientSession, Uni<R>> performCausally) {
+
+        Optional<ClientSession> session = transactionManager.getClientSession();
+        if (session.isPresent() && session.get().hasActiveTransaction()) {
+            return performInSession.apply(collection, session.get());
+        }
+        if (profile == ReadProfile.PRIMARY) {
+            return performWithoutSession.apply(collection);
+        }
+        if (session.isPresent()) {
+            return performCausally.apply(majorityRead(collection, profile), session.get());
+        }
+        return performWithoutSession.apply(routed(collection, profile));
+    }
+
+    private <T> MongoCollection<T> majorityRead(ReactiveMongoCollection<T> collection, ReadProfile profile) {
+        MongoNamespace namespace = collection.getNamespace();
+        return mongoClient.unwrap()
+                .getDatabase(namespace.getDatabaseName())
+                .getCollection(namespace.getCollectionName(), collection.getDocumentClass())
+                .withReadPreference(readRouting.preference(profile))
+                .withReadConcern(ReadConcern.MAJORITY);
+    }
+
+    private <T> ReactiveMongoCollection<T> routed(ReactiveMongoCollection<T> collection, ReadProfile profile) {
+        return profile == ReadProfile.PRIMARY
+                ? collection
+                : collection.withReadPreference(readRouting.preference(profile));
+    }
+
+    // Same as MongoCollectionOps#write: always on the request's causally consistent session
+    private <T> Uni<T> write(Function<ClientSession, Uni<T>> perform) {
+        return transactionManager.session().chain(session -> perform.apply(session));
+    }
+}
@@ -0,0 +1,129 @@
+package org.mongodb.repository;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.TransactionOptions;
+import com.mongodb.WriteConcern;
+import com.mongodb.reactivestreams.client.ClientSession;
+
+import io.quarkus.mongodb.reactive.ReactiveMongoClient;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.RequestScoped;
+import mutiny.zero.flow.adapters.AdaptersToFlow;
+
+@RequestScoped
+public class ReactiveMongoTransactionManager {
+    private final ReactiveMongoClient mongoClient;
+    private final TransactionRetryPolicy retryPolicy;
+    private final TransactionMetrics metrics;
+    private Optional<ClientSession> clientSession;
+
+    // Transactions can only read from the primary; reads outside them are routed by ReadProfile
+    private static final TransactionOptions TXN_OPTIONS = TransactionOptions.builder()
+            .readPreference(ReadPreference.primary())
+            .readConcern(ReadConcern.MAJORITY)
+            .writeConcern(WriteConcern.MAJORITY)
+            .build();
+
+    // Causally consistent, so relaxed reads later in the request still see its writes
+    private static final ClientSessionOptions SESSION_OPTIONS = ClientSessionOptions.builder()
+            .causallyConsistent(true)
+            .build();
+
+    public ReactiveMongoTransactionManager(
+        ReactiveMongoClient mongoClient,
+        TransactionRetryPolicy retryPolicy,
+        TransactionMetrics metrics
+    ) {
+        this.mongoClient = mongoClient;
+        this.retryPolicy = retryPolicy;
+        this.metrics = metrics;
+        this.clientSession = Optional.empty();
+    }
+
+    public Optional<ClientSession> getClientSession() {
+        return clientSession;
+    }
+
+    /**
+     * Reactive counterpart of {@link MongoTransactionManager#execute}, with the same
+     * retry rules: transient errors re-run the whole transaction with jittered backoff,
+     * an unknown commit result re-runs only the commit.
+     */
+    public <T> Uni<T> execute(Function<ClientSession, Uni<T>> callback) {
+        return session().chain(s -> {
+            if (s.hasActiveTransaction()) {
+                // Joined an outer transaction, which owns commit and retries
+                return callback.apply(s);
+            }
+            int maxAttempts = retryPolicy.maxAttempts();
+            Uni<T> transaction = Uni.createFrom().deferred(() -> attempt(s, callback))
+                    .onFailure(retryPolicy::isTransient).invoke(metrics::conflict);
+            if (maxAttempts > 1) {
+                transaction = transaction.onFailure(retryPolicy::isTransient).retry()
+                        .withBackOff(retryPolicy.initialBackoff(), retryPolicy.maxBackoff())
+                        .withJitter(1.0)
+                        .atMost(maxAttempts - 1);
+            }
+            return transaction
+                    .invoke(metrics::commit)
+                    .onFailure().invoke(metrics::failure)
+                    .onFailure().transform(e -> retryPolicy.isTransient(e)
+                            ? new TransactionConflictException(maxAttempts, e)
+                            : new RuntimeException("Transaction failed, rolled back", e));
+        });
+    }
+
+    /**
+     * Reactive counterpart of {@link MongoTransactionManager#session}.
+     */
+    public Uni<ClientSession> session() {
+        return clientSession
+                .map(existing -> Uni.createFrom().item(existing))
+                // Started on first use and reused for the rest of the request
+                .orElseGet(() -> mongoClient.startSession(SESSION_OPTIONS).invoke(started -> clientSession = Optional.of(started)));
+    }
+
+    private <T> Uni<T> attempt(ClientSession session, Function<ClientSession, Uni<T>> callback) {
+        metrics.attempt();
+        session.startTransaction(TXN_OPTIONS);
+        return callback.apply(session)
+                // Only a failed callback leaves the transaction open, a failed commit has already ended it
+                .onFailure().invoke(metrics::abort)
+                .onFailure().call(() -> Uni.createFrom().publisher(AdaptersToFlow.publisher(session.abortTransaction()))
+                        .onFailure().recoverWithNull())
+                .call(() -> commit(session));
+    }
+
+    private Uni<Void> commit(ClientSession session) {
+        Uni<Void> commit = Uni.createFrom()
+                .deferred(() -> Uni.createFrom().publisher(AdaptersToFlow.publisher(session.commitTransaction())))
+                .replaceWithVoid();
+        if (retryPolicy.maxAttempts() == 1) {
+            return commit;
+        }
+        return commit
+                .onFailure(retryPolicy::isUnknownCommitResult).invoke(metrics::commitRetry)
+                .onFailure(retryPolicy::isUnknownCommitResult).retry().atMost(retryPolicy.maxAttempts() - 1);
+    }
+
+    @PreDestroy
+    void cleanup() {
+        // Ensure the session is always closed when the request ends
+        clientSession.ifPresent(session -> {
+            if (session.hasActiveTransaction()) {
+                // Rollback any uncommitted transaction
+                Uni.createFrom().publisher(AdaptersToFlow.publisher(session.abortTransaction()))
+                        .onTermination().invoke(session::close)
+                        .subscribe().with(ignored -> {}, ignored -> {});
+            } else {
+                session.close();
+            }
+        });
+    }
+}
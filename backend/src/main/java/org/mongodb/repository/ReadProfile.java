@@ -0,0 +1,17 @@
+package org.mongodb.repository;
+
+/**
+ * Consistency a read needs, which decides where {@link MongoCollectionOps} sends it.
+ */
+public enum ReadProfile {
+    /**
+     * Reads from the primary, so whatever was written before is always visible.
+     * Used by registration, update and any read that decides a write.
+     */
+    PRIMARY,
+    /**
+     * Reads that tolerate bounded staleness, such as admin listings, counts and search.
+     * Routed with the read preference configured in {@link ReadRouting}.
+     */
+    RELAXED
+}
@@ -0,0 +1,52 @@
+package org.mongodb.repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.mongodb.ReadPreference;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Maps each {@link ReadProfile} to a read preference. {@link ReadProfile#PRIMARY} is
+ * always the primary; {@link ReadProfile#RELAXED} uses the configured mode, bounded by
+ * a max staleness so a lagging secondary is skipped rather than read from.
+ */
+@ApplicationScoped
+public class ReadRouting {
+    // The server rejects smaller values: staleness is only measured every heartbeat
+    static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+    private final ReadPreference relaxed;
+
+    @Inject
+    public ReadRouting(
+        @ConfigProperty(name = "kitchensink.mongo.relaxed-reads.read-preference", defaultValue = "primary")
+        String readPreference,
+        @ConfigProperty(name = "kitchensink.mongo.relaxed-reads.max-staleness", defaultValue = "90S")
+        Duration maxStaleness
+    ) {
+        this.relaxed = relaxedPreference(readPreference, maxStaleness);
+    }
+
+    public ReadPreference preference(ReadProfile profile) {
+        return profile == ReadProfile.RELAXED ? relaxed : ReadPreference.primary();
+    }
+
+    static ReadPreference relaxedPreference(String mode, Duration maxStaleness) {
+        ReadPreference preference = ReadPreference.valueOf(mode);
+        // Zero means unbounded; the primary is never stale, so it takes no bound either
+        if (maxStaleness.isZero() || maxStaleness.isNegative() || preference.equals(ReadPreference.primary())) {
+            return preference;
+        }
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalArgumentException("kitchensink.mongo.relaxed-reads.max-staleness must be at least "
+                    + MIN_MAX_STALENESS.toSeconds() + "s, was " + maxStaleness.toSeconds() + "s");
+        }
+        return ReadPreference.valueOf(mode, List.of(), maxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+}
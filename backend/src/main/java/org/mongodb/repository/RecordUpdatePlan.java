@@ -0,0 +1,101 @@
+package org.mongodb.repository;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+
+import org.bson.Document;
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.conversions.Bson;
+
+/**
+ * Precompiled update plan for a record type. Record components are resolved once
+ * per type into method handles and field names, so building an update document
+ * only calls the accessors and appends the non-null values. Resolving the components
+ * is reflective: in a native image the record must be registered for reflection.
+ * Member writes do not come through here, see {@link MemberUpdates}.
+ */
+public final class RecordUpdatePlan {
+    private static final ClassValue<RecordUpdatePlan> PLANS = new ClassValue<>() {
+        @Override
+        protected RecordUpdatePlan computeValue(Class<?> type) {
+            return new RecordUpdatePlan(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String[] fieldNames;
+    private final MethodHandle[] accessors;
+    // Index of the @BsonId component, or -1; _id is immutable and never part of a $set
+    private final int idIndex;
+
+    private RecordUpdatePlan(Class<?> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type.getName() + " is not a record");
+        }
+
+        RecordComponent[] components = type.getRecordComponents();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        int id = -1;
+
+        fieldNames = new String[components.length];
+        accessors = new MethodHandle[components.length];
+        for (int i = 0; i < components.length; i++) {
+            RecordComponent component = components[i];
+            boolean isId = component.isAnnotationPresent(BsonId.class)
+                    || component.getAccessor().isAnnotationPresent(BsonId.class);
+            if (isId) {
+                id = i;
+            }
+            fieldNames[i] = isId ? "_id" : component.getName();
+            try {
+                accessors[i] = lookup.unreflect(component.getAccessor()).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("cannot access record component " + component.getName(), e);
+            }
+        }
+        idIndex = id;
+    }
+
+    public static RecordUpdatePlan forType(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Builds a {@code $set} of every non-null component except the id.
+     */
+    public Bson set(Object record) {
+        return build("$set", record, false);
+    }
+
+    /**
+     * Builds a {@code $setOnInsert} of every non-null component, including the id.
+     */
+    public Bson setOnInsert(Object record) {
+        return build("$setOnInsert", record, true);
+    }
+
+    private Bson build(String operator, Object record, boolean includeId) {
+        Document fields = new Document();
+        for (int i = 0; i < accessors.length; i++) {
+            if (i == idIndex && !includeId) {
+                continue;
+            }
+            Object value = get(i, record);
+            if (value != null) {
+                fields.append(fieldNames[i], value);
+            }
+        }
+        return fields.isEmpty() ? new Document() : new Document(operator, fields);
+    }
+
+    private Object get(int index, Object record) {
+        try {
+            return accessors[index].invokeExact(record);
+        } catch (Throwable e) {
+            throw new RuntimeException("error while building bson document to update", e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.mongodb.repository;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.bson.BSONException;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.ObjectId;
+
+/**
+ * Position in a paged member search: for each {@link SearchKey}, the key and {@code _id}
+ * of the last entry read from its index, or none if it was not read yet. Clients get it as
+ * an opaque URL safe token, which also records the prefix so it cannot be replayed
+ * against another search.
+ */
+public record SearchCursor(String prefix, Map<SearchKey, Position> positions) {
+    private static final String PREFIX = "q";
+    private static final String POSITIONS = "p";
+    private static final String KEY = "k";
+    private static final String ID = "i";
+
+    public record Position(String key, ObjectId id) {}
+
+    public SearchCursor {
+        positions = positions.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(positions));
+    }
+
+    public static SearchCursor start(String prefix) {
+        return new SearchCursor(prefix, Map.of());
+    }
+
+    public Position position(SearchKey key) {
+        return positions.get(key);
+    }
+
+    public String encode() {
+        BsonArray encoded = new BsonArray();
+        for (SearchKey key : SearchKey.values()) {
+            Position position = positions.get(key);
+            encoded.add(position == null
+                    ? BsonNull.VALUE
+                    : new BsonDocument(KEY, new BsonString(position.key())).append(ID, new BsonObjectId(position.id())));
+        }
+        BsonDocument document = new BsonDocument(PREFIX, new BsonString(prefix)).append(POSITIONS, encoded);
+        RawBsonDocument raw = new RawBsonDocument(document, new BsonDocumentCodec());
+        ByteBuffer bytes = raw.getByteBuffer().asNIO();
+        byte[] token = new byte[bytes.remaining()];
+        bytes.get(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()} for a search with the given normalized prefix.
+     *
+     * @throws IllegalArgumentException if the token is malformed or was issued for another prefix
+     */
+    public static SearchCursor decode(String token, String prefix) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        // Raw documents are only parsed as they are read, so malformed bytes surface here
+        try {
+            return parse(new RawBsonDocument(bytes).toBsonDocument(), prefix);
+        } catch (BSONException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static SearchCursor parse(BsonDocument document, String prefix) {
+        if (!document.isString(PREFIX) || !document.isArray(POSITIONS)
+                || document.getArray(POSITIONS).size() != SearchKey.values().length) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!document.getString(PREFIX).getValue().equals(prefix)) {
+            throw new IllegalArgumentException("Cursor was issued for search " + document.getString(PREFIX).getValue());
+        }
+
+        Map<SearchKey, Position> positions = new EnumMap<>(SearchKey.class);
+        BsonArray encoded = document.getArray(POSITIONS);
+        for (SearchKey key : SearchKey.values()) {
+            BsonValue value = encoded.get(key.ordinal());
+            if (value.isNull()) {
+                continue;
+            }
+            // A position outside the prefix range would page through other searches' matches
+            if (!value.isDocument() || !value.asDocument().isString(KEY) || !value.asDocument().isObjectId(ID)
+                    || !value.asDocument().getString(KEY).getValue().startsWith(prefix)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            positions.put(key, new Position(value.asDocument().getString(KEY).getValue(),
+                    value.asDocument().getObjectId(ID).getValue()));
+        }
+        return new SearchCursor(prefix, positions);
+    }
+}
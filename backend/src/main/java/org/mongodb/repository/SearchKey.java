@@ -0,0 +1,38 @@
+package org.mongodb.repository;
+
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberSearchRequest;
+
+/**
+ * The normalized member fields a search matches on, each with its own
+ * {@code (key, _id)} index, see {@link MemberSearchKeys}.
+ */
+public enum SearchKey {
+    FIRST_NAME(MemberSearchKeys.FIRST_NAME, MemberField.FIRST_NAME),
+    LAST_NAME(MemberSearchKeys.LAST_NAME, MemberField.LAST_NAME),
+    EMAIL(MemberSearchKeys.EMAIL, MemberField.EMAIL);
+
+    private final String path;
+    private final MemberField field;
+
+    SearchKey(String path, MemberField field) {
+        this.path = path;
+        this.field = field;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public MemberField field() {
+        return field;
+    }
+
+    /**
+     * The key as stored for the member, or null when the field is not set.
+     */
+    public String valueOf(Member member) {
+        return MemberSearchRequest.normalize((String) field.valueOf(member));
+    }
+}
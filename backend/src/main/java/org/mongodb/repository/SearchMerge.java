@@ -0,0 +1,179 @@
+package org.mongodb.repository;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.conversions.Bson;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+
+/**
+ * Builds one page of a member search from index ordered reads. Each {@link SearchKey}
+ * is read on its own in {@code (key, _id)} order, so the server walks its compound index
+ * and stops after {@link #batchSize()} entries, and the reads are merged here. A member
+ * matching on several keys is returned once, from the key that sorts first, so pages are
+ * ordered by that key and then by {@code _id}.
+ * <p>
+ * The repositories drive it: while {@link #next()} names a key, they run
+ * {@link #filter(SearchKey)} for it and hand the members to {@link #fill}; once it
+ * returns null, {@link #page()} is complete. Not thread safe, one instance per request.
+ */
+public final class SearchMerge {
+    // Orders entries like the indexes do; the key ordinal breaks ties between a member's own keys
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::value)
+            .thenComparing(entry -> entry.member().id())
+            .thenComparing(Entry::key);
+
+    private final String prefix;
+    private final int size;
+    private final MemberProjection projection;
+    private final Map<SearchKey, Branch> branches = new EnumMap<>(SearchKey.class);
+    private final List<Member> data;
+    private boolean hasNext;
+
+    public SearchMerge(MemberSearchRequest request) {
+        this.prefix = request.prefix();
+        this.size = request.size();
+        // The keys are always fetched: they position the cursor and tell which key a member is returned from
+        this.projection = request.projection()
+                .including(MemberField.ID)
+                .including(MemberField.FIRST_NAME)
+                .including(MemberField.LAST_NAME)
+                .including(MemberField.EMAIL);
+        this.data = new ArrayList<>(size);
+
+        String token = request.cursor();
+        SearchCursor cursor = token == null || token.isBlank()
+                ? SearchCursor.start(prefix)
+                : SearchCursor.decode(token, prefix);
+        for (SearchKey key : SearchKey.values()) {
+            branches.put(key, new Branch(cursor.position(key)));
+        }
+    }
+
+    /**
+     * Advances the merge as far as the members read so far allow.
+     *
+     * @return the key to read next, or null once the page is complete
+     */
+    public SearchKey next() {
+        while (true) {
+            Entry lowest = null;
+            for (Map.Entry<SearchKey, Branch> branch : branches.entrySet()) {
+                Branch state = branch.getValue();
+                if (state.buffer.isEmpty() && !state.exhausted) {
+                    return branch.getKey();
+                }
+                Entry head = state.buffer.peekFirst();
+                if (head != null && (lowest == null || ORDER.compare(head, lowest) < 0)) {
+                    lowest = head;
+                }
+            }
+            if (lowest == null) {
+                return null;
+            }
+
+            boolean returned = lowest.key() == returnedFrom(lowest.member());
+            if (returned && data.size() == size) {
+                // Left unread, so the next page starts with it
+                hasNext = true;
+                return null;
+            }
+            Branch branch = branches.get(lowest.key());
+            branch.buffer.removeFirst();
+            branch.position = new SearchCursor.Position(lowest.value(), lowest.member().id());
+            if (returned) {
+                data.add(lowest.member());
+            }
+        }
+    }
+
+    /**
+     * The rest of the key's prefix range, after what this page already read from it.
+     */
+    public Bson filter(SearchKey key) {
+        return MemberQueries.searchBranch(key, prefix, branches.get(key).position);
+    }
+
+    public Bson sort(SearchKey key) {
+        return MemberQueries.searchSort(key);
+    }
+
+    public MemberProjection projection() {
+        return projection;
+    }
+
+    // One more than the page size, so a full page never needs a second read of a key that has no more
+    public int batchSize() {
+        return size + 1;
+    }
+
+    public void fill(SearchKey key, List<Member> members) {
+        Branch branch = branches.get(key);
+        for (Member member : members) {
+            Entry entry = new Entry(key, key.valueOf(member), member);
+            // A key written outside MemberSearchKeys can disagree with the fields; such entries cannot be placed
+            if (entry.value() != null && entry.value().startsWith(prefix) && branch.isUnread(entry)) {
+                branch.buffer.addLast(entry);
+            }
+        }
+        // A short read is the end of the range, and a read that brought nothing new would only repeat itself
+        branch.exhausted = members.size() < batchSize() || branch.buffer.isEmpty();
+    }
+
+    public CursorPage<Member> page() {
+        if (!hasNext) {
+            return new CursorPage<>(data, null);
+        }
+        Map<SearchKey, SearchCursor.Position> positions = new EnumMap<>(SearchKey.class);
+        branches.forEach((key, branch) -> {
+            if (branch.position != null) {
+                positions.put(key, branch.position);
+            }
+        });
+        return new CursorPage<>(data, new SearchCursor(prefix, positions).encode());
+    }
+
+    // The matching key that sorts first; its entry is the one returned, the others are skipped
+    private SearchKey returnedFrom(Member member) {
+        SearchKey first = null;
+        String firstValue = null;
+        for (SearchKey key : SearchKey.values()) {
+            String value = key.valueOf(member);
+            if (value != null && value.startsWith(prefix) && (firstValue == null || value.compareTo(firstValue) < 0)) {
+                first = key;
+                firstValue = value;
+            }
+        }
+        return first;
+    }
+
+    private record Entry(SearchKey key, String value, Member member) {}
+
+    private static final class Branch {
+        private final Deque<Entry> buffer = new ArrayDeque<>();
+        private SearchCursor.Position position;
+        private boolean exhausted;
+
+        private Branch(SearchCursor.Position position) {
+            this.position = position;
+        }
+
+        // Entries at or before the position were already read from this key
+        private boolean isUnread(Entry entry) {
+            if (position == null) {
+                return true;
+            }
+            int order = entry.value().compareTo(position.key());
+            return order > 0 || order == 0 && entry.member().id().compareTo(position.id()) > 0;
+        }
+    }
+}
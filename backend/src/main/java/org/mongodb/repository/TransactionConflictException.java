@@ -0,0 +1,13 @@
+package org.mongodb.repository;
+
+/**
+ * Thrown when a transaction kept failing with transient errors, typically write
+ * conflicts, until the retry budget ran out.
+ */
+public class TransactionConflictException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public TransactionConflictException(int attempts, Throwable cause) {
+        super("Transaction failed after " + attempts + " attempts, rolled back", cause);
+    }
+}
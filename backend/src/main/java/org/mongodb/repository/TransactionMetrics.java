@@ -0,0 +1,71 @@
+package org.mongodb.repository;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Counters for transactions run by the transaction managers. The managers are
+ * request scoped, so the counts live here for the lifetime of the application.
+ */
+@ApplicationScoped
+public class TransactionMetrics {
+    private final LongAdder attempts = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder commitRetries = new LongAdder();
+    private final LongAdder aborts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    void attempt() {
+        attempts.increment();
+    }
+
+    void commit() {
+        commits.increment();
+    }
+
+    void conflict() {
+        conflicts.increment();
+    }
+
+    void commitRetry() {
+        commitRetries.increment();
+    }
+
+    void abort() {
+        aborts.increment();
+    }
+
+    void failure() {
+        failures.increment();
+    }
+
+    public TransactionStats stats() {
+        return new TransactionStats(
+            attempts.sum(),
+            commits.sum(),
+            conflicts.sum(),
+            commitRetries.sum(),
+            aborts.sum(),
+            failures.sum()
+        );
+    }
+
+    /**
+     * @param attempts      transaction attempts started, including retries
+     * @param commits       transactions committed
+     * @param conflicts     attempts failed with a TransientTransactionError, e.g. a write conflict
+     * @param commitRetries commits retried after an UnknownTransactionCommitResult
+     * @param aborts        attempts rolled back, whether or not they were retried
+     * @param failures      transactions given up on and rolled back
+     */
+    public record TransactionStats(
+        long attempts,
+        long commits,
+        long conflicts,
+        long commitRetries,
+        long aborts,
+        long failures
+    ) {}
+}
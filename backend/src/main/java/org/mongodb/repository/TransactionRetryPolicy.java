@@ -0,0 +1,93 @@
+package org.mongodb.repository;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.mongodb.MongoException;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Decides which transaction failures are worth retrying and how long to wait in
+ * between, following the driver's error labels: a {@code TransientTransactionError}
+ * retries the whole transaction, an {@code UnknownTransactionCommitResult} only the commit.
+ */
+@ApplicationScoped
+public class TransactionRetryPolicy {
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    @Inject
+    public TransactionRetryPolicy(
+        @ConfigProperty(name = "kitchensink.transaction.max-attempts", defaultValue = "5")
+        int maxAttempts,
+        @ConfigProperty(name = "kitchensink.transaction.initial-backoff", defaultValue = "10ms")
+        Duration initialBackoff,
+        @ConfigProperty(name = "kitchensink.transaction.max-backoff", defaultValue = "500ms")
+        Duration maxBackoff
+    ) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration initialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration maxBackoff() {
+        return maxBackoff;
+    }
+
+    public boolean isTransient(Throwable error) {
+        return hasLabel(error, MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+    }
+
+    public boolean isUnknownCommitResult(Throwable error) {
+        return hasLabel(error, MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+    }
+
+    /**
+     * Full jitter: a random wait between zero and the exponential backoff for the
+     * attempt that just failed, so concurrent conflicting writers spread out.
+     */
+    public Duration backoff(int failedAttempt) {
+        long ceiling = initialBackoff.toNanos() << Math.min(failedAttempt - 1, 20);
+        long bound = Math.min(ceiling, maxBackoff.toNanos());
+        if (bound <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(bound + 1));
+    }
+
+    void pause(int failedAttempt) {
+        Duration wait = backoff(failedAttempt);
+        if (wait.isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting to retry transaction", e);
+        }
+    }
+
+    private static boolean hasLabel(Throwable error, String label) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof MongoException mongoException && mongoException.hasErrorLabel(label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
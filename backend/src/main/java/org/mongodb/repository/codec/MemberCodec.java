@@ -0,0 +1,147 @@
+package org.mongodb.repository.codec;
+
+import org.bson.BsonObjectId;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberSearchRequest;
+
+/**
+ * Hand written codec for {@link Member}. Fields are read and written directly
+ * through the record accessors and canonical constructor, so encoding and
+ * decoding never go through the driver's reflective record/POJO codec.
+ * Null fields are omitted, matching what the reflective codec stored.
+ */
+public class MemberCodec implements CollectibleCodec<Member> {
+    static final String ID = "_id";
+    static final String USER_ID = "userId";
+    static final String USERNAME = "username";
+    static final String FIRST_NAME = "firstName";
+    static final String LAST_NAME = "lastName";
+    static final String EMAIL = "email";
+    static final String PHONE_NUMBER = "phoneNumber";
+    static final String SEARCH = "search";
+    static final String VERSION = "version";
+
+    @Override
+    public void encode(BsonWriter writer, Member member, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        if (member.id() != null) {
+            writer.writeObjectId(ID, member.id());
+        }
+        writeString(writer, USER_ID, member.userId());
+        writeString(writer, USERNAME, member.username());
+        writeString(writer, FIRST_NAME, member.firstName());
+        writeString(writer, LAST_NAME, member.lastName());
+        writeString(writer, EMAIL, member.email());
+        writeString(writer, PHONE_NUMBER, member.phoneNumber());
+        writeSearchKeys(writer, member);
+        if (member.version() != null) {
+            writer.writeInt64(VERSION, member.version());
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Member decode(BsonReader reader, DecoderContext decoderContext) {
+        ObjectId id = null;
+        String userId = null;
+        String username = null;
+        String firstName = null;
+        String lastName = null;
+        String email = null;
+        String phoneNumber = null;
+        Long version = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                continue;
+            }
+            switch (name) {
+                case ID -> id = reader.readObjectId();
+                case USER_ID -> userId = reader.readString();
+                case USERNAME -> username = reader.readString();
+                case FIRST_NAME -> firstName = reader.readString();
+                case LAST_NAME -> lastName = reader.readString();
+                case EMAIL -> email = reader.readString();
+                case PHONE_NUMBER -> phoneNumber = reader.readString();
+                case VERSION -> version = readLong(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return new Member(id, userId, username, firstName, lastName, email, phoneNumber, version);
+    }
+
+    @Override
+    public Class<Member> getEncoderClass() {
+        return Member.class;
+    }
+
+    @Override
+    public Member generateIdIfAbsentFromDocument(Member member) {
+        if (documentHasId(member)) {
+            return member;
+        }
+        return new Member(
+            new ObjectId(),
+            member.userId(),
+            member.username(),
+            member.firstName(),
+            member.lastName(),
+            member.email(),
+            member.phoneNumber(),
+            member.version()
+        );
+    }
+
+    @Override
+    public boolean documentHasId(Member member) {
+        return member.id() != null;
+    }
+
+    @Override
+    public BsonValue getDocumentId(Member member) {
+        if (!documentHasId(member)) {
+            throw new IllegalStateException("The member does not contain an _id");
+        }
+        return new BsonObjectId(member.id());
+    }
+
+    // Normalized copies for prefix search, see MemberSearchKeys; never decoded back
+    private static void writeSearchKeys(BsonWriter writer, Member member) {
+        if (member.firstName() == null && member.lastName() == null && member.email() == null) {
+            return;
+        }
+        writer.writeStartDocument(SEARCH);
+        writeString(writer, FIRST_NAME, MemberSearchRequest.normalize(member.firstName()));
+        writeString(writer, LAST_NAME, MemberSearchRequest.normalize(member.lastName()));
+        writeString(writer, EMAIL, MemberSearchRequest.normalize(member.email()));
+        writer.writeEndDocument();
+    }
+
+    // $inc keeps the numeric type it is given, so tolerate versions written as int32 or double
+    private static long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> reader.readInt64();
+        };
+    }
+
+    private static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+}
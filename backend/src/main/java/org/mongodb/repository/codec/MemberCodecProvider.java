@@ -0,0 +1,24 @@
+package org.mongodb.repository.codec;
+
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.mongodb.model.Member;
+
+/**
+ * Registers {@link MemberCodec} with the Quarkus Mongo client. Quarkus discovers
+ * {@link CodecProvider} implementations at build time and puts them ahead of the
+ * reflective POJO codec, so a single codec instance serves every collection handle.
+ */
+public class MemberCodecProvider implements CodecProvider {
+    private static final MemberCodec MEMBER_CODEC = new MemberCodec();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        if (clazz == Member.class) {
+            return (Codec<T>) MEMBER_CODEC;
+        }
+        return null;
+    }
+}
@@ -1,29 +1,51 @@
 package org.mongodb.repository.impl;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.model.CountMode;
 import org.mongodb.model.CursorPage;
 import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+import org.mongodb.model.MemberSort;
+import org.mongodb.repository.MemberQueries;
 import org.mongodb.repository.MemberRepo;
+import org.mongodb.repository.MemberUpdates;
+import org.mongodb.repository.MemberNotFoundException;
+import org.mongodb.repository.MemberVersionConflictException;
 import org.mongodb.repository.MongoCollectionOps;
+import org.mongodb.repository.PageCursor;
+import org.mongodb.repository.ReadProfile;
+import org.mongodb.repository.SearchKey;
+import org.mongodb.repository.SearchMerge;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.Sorts;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.result.UpdateResult;
 
+import io.micrometer.core.annotation.Timed;
 import io.quarkus.logging.Log;
-import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 
 @ApplicationScoped
-@RunOnVirtualThread
+@Timed(value = "kitchensink.repository", description = "Member repository operations")
 public class MongoMemberRepo implements MemberRepo {
     private final MongoClient mongoClient;
     private final MongoCollectionOps collectionOps;
@@ -34,6 +56,12 @@ public class MongoMemberRepo implements MemberRepo {
     @ConfigProperty(name = "mongodb.collection.members", defaultValue = "members")
     private String collectionName;
 
+    @ConfigProperty(name = "kitchensink.export.batch-size", defaultValue = "1000")
+    private int exportBatchSize;
+
+    // MongoCollection is thread safe and immutable, so one handle serves every request
+    private volatile MongoCollection<Member> collection;
+
     public MongoMemberRepo(MongoClient mongoClient, MongoCollectionOps collectionOps) {
         this.mongoClient = mongoClient;
         this.collectionOps = collectionOps;
@@ -41,6 +69,11 @@ public class MongoMemberRepo implements MemberRepo {
     
     @Override
     public Optional<Member> findById(String id) {
+        return findById(id, MemberProjection.ALL);
+    }
+
+    @Override
+    public Optional<Member> findById(String id, MemberProjection projection) {
         Log.info("Repo: Finding member by id: " + id);
         Objects.requireNonNull(id, "Member ID cannot be null");
         if (id.isBlank()) {
@@ -48,8 +81,10 @@ public class MongoMemberRepo implements MemberRepo {
             return Optional.empty();
         }
 
-        Bson filter = Filters.eq("_id", new ObjectId(id));
-        Member result = collectionOps.find(getCollection(), Optional.of(filter)).first();
+        Bson filter = MemberQueries.byId(new ObjectId(id));
+        Member result = collectionOps.find(getCollection(), Optional.of(filter))
+                .projection(projection.toBson())
+                .first();
         Log.info("Repo: Member found: " + (result != null));
         
         return Optional.ofNullable(result);
@@ -57,37 +92,130 @@ public class MongoMemberRepo implements MemberRepo {
 
     @Override
     public CursorPage<Member> listMembersPage(int size, String cursor) {
-        Log.info("Repo: Listing members page with size: " + size + ", cursor: " + cursor);
+        return listMembersPage(MemberPageRequest.of(size, cursor));
+    }
+
+    @Override
+    public CursorPage<Member> listMembersPage(MemberPageRequest request) {
+        int size = request.size();
+        String cursor = request.cursor();
+        MemberSort sort = request.sort();
+        Log.info("Repo: Listing members page with size: " + size + ", cursor: " + cursor + ", sort: " + sort.toParameter());
         if (size <= 0) {
             Log.info("Repo: Invalid size, returning empty page");
             return CursorPage.empty();
         }
 
         final Optional<Bson> filter = (cursor != null && !cursor.isBlank())
-                ? Optional.of(Filters.gt("_id", new ObjectId(cursor)))
+                ? Optional.of(MemberQueries.after(PageCursor.decode(cursor, sort)))
                 : Optional.empty();
-        
-        List<Member> members = collectionOps.find(getCollection(), filter)
-                .sort(Sorts.ascending("_id"))
-                .limit(size)
-                .into(new ArrayList<Member>());
 
-        String nextCursor = members.isEmpty() || members.size() < size 
-                ? null
-                : members.get(members.size() - 1).id().toString();
+        // One extra member tells whether a next page exists, and the sort key is always
+        // fetched because the next cursor is built from it. Listings tolerate staleness,
+        // so they may be served by a secondary
+        List<Member> members = collectionOps.find(getCollection(), filter, ReadProfile.RELAXED)
+                .projection(request.projection().including(sort.field()).toBson())
+                .sort(MemberQueries.listingSort(sort))
+                .limit(size + 1)
+                .into(new ArrayList<Member>(size + 1));
+        CursorPage<Member> page = PageCursor.page(members, size, sort);
+
+        Log.info("Repo: Found " + page.data().size() + " members, has next page: " + (page.nextCursor() != null));
+        return page;
+    }
+
+    @Override
+    public CursorPage<Member> searchMembers(MemberSearchRequest request) {
+        int size = request.size();
+        String cursor = request.cursor();
+        Log.info("Repo: Searching members with prefix: " + request.prefix() + ", size: " + size + ", cursor: " + cursor);
+        if (size <= 0) {
+            Log.info("Repo: Invalid size, returning empty page");
+            return CursorPage.empty();
+        }
+
+        // Each key is read in index order and the reads are merged, see SearchMerge
+        SearchMerge merge = new SearchMerge(request);
+        for (SearchKey key = merge.next(); key != null; key = merge.next()) {
+            merge.fill(key, collectionOps.find(getCollection(), Optional.of(merge.filter(key)), ReadProfile.RELAXED)
+                    .projection(merge.projection().toBson())
+                    .sort(merge.sort(key))
+                    .limit(merge.batchSize())
+                    .into(new ArrayList<Member>(merge.batchSize())));
+        }
+        CursorPage<Member> page = merge.page();
+
+        Log.info("Repo: Found " + page.data().size() + " matching members, has next page: " + (page.nextCursor() != null));
+        return page;
+    }
 
-        Log.info("Repo: Found " + members.size() + " members, nextCursor: " + nextCursor);
-        return new CursorPage<>(members, nextCursor);
+    @Override
+    public long countMembers(CountMode mode) {
+        Log.info("Repo: Counting members, mode: " + mode);
+        long count = switch (mode) {
+            case NONE -> 0;
+            case ESTIMATED -> collectionOps.estimatedDocumentCount(getCollection(), ReadProfile.RELAXED);
+            case EXACT -> collectionOps.countDocuments(getCollection(), Optional.empty(), ReadProfile.RELAXED);
+        };
+        Log.info("Repo: Counted " + count + " members");
+        return count;
+    }
+
+    @Override
+    public Stream<Member> streamAll() {
+        Log.info("Repo: Streaming all members with batch size: " + exportBatchSize);
+        // One server-side cursor for the whole export; the caller must close the stream
+        MongoCursor<Member> cursor = collectionOps.find(getCollection(), Optional.empty())
+                .batchSize(exportBatchSize)
+                .cursor();
+
+        Spliterator<Member> members = Spliterators.spliteratorUnknownSize(
+                cursor, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(members, false).onClose(cursor::close);
     }
 
     @Override
     public void register(Member member) {
         Log.info("Repo: Registering member: " + member.email());
         Objects.requireNonNull(member, "Member cannot be null");
-        collectionOps.insertOne(getCollection(), member);
+        collectionOps.insertOne(getCollection(), MemberUpdates.initial(member));
         Log.info("Repo: Member registered successfully");
     }
 
+    @Override
+    public boolean registerIfAbsent(Member member) {
+        Objects.requireNonNull(member, "Member cannot be null");
+        Objects.requireNonNull(member.email(), "Email cannot be null");
+        Log.info("Repo: Registering member if absent: " + member.email());
+
+        Bson filter = MemberQueries.byEmail(member.email());
+        boolean inserted = collectionOps.insertIfAbsent(getCollection(), filter, MemberUpdates.insert(member)).getUpsertedId() != null;
+        Log.info("Repo: Member inserted: " + inserted);
+        return inserted;
+    }
+
+    @Override
+    public Map<Integer, String> insertMany(List<Member> members) {
+        Objects.requireNonNull(members, "Members cannot be null");
+        if (members.isEmpty()) {
+            return Map.of();
+        }
+
+        // Unordered, so one bad document does not stop the rest of the batch
+        try {
+            collectionOps.insertMany(getCollection(), members.stream().map(MemberUpdates::initial).toList(), new InsertManyOptions().ordered(false));
+            Log.info("Repo: Inserted batch of " + members.size() + " members");
+            return Map.of();
+        } catch (MongoBulkWriteException e) {
+            Map<Integer, String> failures = new HashMap<>();
+            for (BulkWriteError error : e.getWriteErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+            Log.info("Repo: Inserted batch of " + members.size() + " members with " + failures.size() + " failures");
+            return failures;
+        }
+    }
+
     @Override
     public void deleteById(String id) {
         Log.info("Repo: Deleting member by id: " + id);
@@ -97,7 +225,7 @@ public class MongoMemberRepo implements MemberRepo {
             return;
         }
 
-        Bson filter = Filters.eq("_id", new ObjectId(id));
+        Bson filter = MemberQueries.byId(new ObjectId(id));
         collectionOps.deleteOne(getCollection(), filter);
         Log.info("Repo: Member deleted successfully");
     }
@@ -107,8 +235,20 @@ public class MongoMemberRepo implements MemberRepo {
         Log.info("Repo: Updating member: " + member.id());
         Objects.requireNonNull(member.id());
 
-        Bson filter = Filters.eq("_id", member.id());
-        collectionOps.updateOne(getCollection(), filter, member);
+        // With a version this is a compare-and-set: it only applies if nobody wrote in between
+        Long expected = member.version();
+        Bson filter = expected == null
+                ? MemberQueries.byId(member.id())
+                : MemberQueries.byIdAndVersion(member.id(), expected);
+        UpdateResult result = collectionOps.updateOne(getCollection(), filter, MemberUpdates.update(member));
+        if (result.getMatchedCount() == 0) {
+            if (expected != null && collectionOps.exists(getCollection(), MemberQueries.byId(member.id()))) {
+                Log.info("Repo: Member " + member.id() + " is no longer at version " + expected);
+                throw new MemberVersionConflictException(member.id().toHexString(), expected);
+            }
+            Log.info("Repo: Member " + member.id() + " not found");
+            throw new MemberNotFoundException(member.id().toHexString());
+        }
         Log.info("Repo: Member updated successfully");
     }
 
@@ -121,12 +261,25 @@ public class MongoMemberRepo implements MemberRepo {
             return Optional.empty();
         }
 
-        Bson filter = Filters.eq("email", email);
+        Bson filter = MemberQueries.byEmail(email);
         Member result = collectionOps.find(getCollection(), Optional.of(filter)).first();
         Log.info("Repo: Member found by email: " + (result != null));
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public boolean existsByEmail(String email) {
+        Objects.requireNonNull(email, "Email cannot be null");
+        if (email.isBlank()) {
+            return false;
+        }
+
+        Bson filter = MemberQueries.byEmail(email);
+        boolean exists = collectionOps.exists(getCollection(), filter, MemberQueries.EMAIL_ONLY);
+        Log.info("Repo: Member exists by email: " + exists);
+        return exists;
+    }
+
     @Override
     public Optional<Member> findByUserId(String userId) {
         Objects.requireNonNull(userId, "User ID cannot be null");
@@ -134,11 +287,16 @@ public class MongoMemberRepo implements MemberRepo {
             return Optional.empty();
         }
 
-        Bson filter = Filters.eq("userId", userId);
+        Bson filter = MemberQueries.byUserId(userId);
         return Optional.ofNullable(collectionOps.find(getCollection(), Optional.of(filter)).first());
     }
 
     private MongoCollection<Member> getCollection() {
-        return mongoClient.getDatabase(databaseName).getCollection(collectionName, Member.class);
+        MongoCollection<Member> result = collection;
+        if (result == null) {
+            result = mongoClient.getDatabase(databaseName).getCollection(collectionName, Member.class);
+            collection = result;
+        }
+        return result;
     }
 }
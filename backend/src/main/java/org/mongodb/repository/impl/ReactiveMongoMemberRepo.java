@@ -0,0 +1,266 @@
+package org.mongodb.repository.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.model.CountMode;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+import org.mongodb.model.MemberSort;
+import org.mongodb.repository.MemberQueries;
+import org.mongodb.repository.MemberUpdates;
+import org.mongodb.repository.MemberNotFoundException;
+import org.mongodb.repository.MemberVersionConflictException;
+import org.mongodb.repository.PageCursor;
+import org.mongodb.repository.ReactiveMemberRepo;
+import org.mongodb.repository.ReactiveMongoCollectionOps;
+import org.mongodb.repository.ReadProfile;
+import org.mongodb.repository.SearchKey;
+import org.mongodb.repository.SearchMerge;
+
+
+import io.quarkus.logging.Log;
+import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.reactive.ReactiveMongoClient;
+import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ReactiveMongoMemberRepo implements ReactiveMemberRepo {
+    private final ReactiveMongoClient mongoClient;
+    private final ReactiveMongoCollectionOps collectionOps;
+
+    @ConfigProperty(name = "mongodb.database")
+    private String databaseName;
+
+    @ConfigProperty(name = "mongodb.collection.members", defaultValue = "members")
+    private String collectionName;
+
+    @ConfigProperty(name = "kitchensink.export.batch-size", defaultValue = "1000")
+    private int exportBatchSize;
+
+    private volatile ReactiveMongoCollection<Member> collection;
+
+    public ReactiveMongoMemberRepo(ReactiveMongoClient mongoClient, ReactiveMongoCollectionOps collectionOps) {
+        this.mongoClient = mongoClient;
+        this.collectionOps = collectionOps;
+    }
+
+    @Override
+    public Uni<Member> findById(String id) {
+        return findById(id, MemberProjection.ALL);
+    }
+
+    @Override
+    public Uni<Member> findById(String id, MemberProjection projection) {
+        Log.info("Repo: Finding member by id: " + id);
+        Objects.requireNonNull(id, "Member ID cannot be null");
+        if (id.isBlank()) {
+            Log.info("Repo: Empty id provided");
+            return Uni.createFrom().nullItem();
+        }
+
+        Bson filter = MemberQueries.byId(new ObjectId(id));
+        return collectionOps.findFirst(getCollection(), filter, withProjection(new FindOptions(), projection))
+                .invoke(result -> Log.info("Repo: Member found: " + (result != null)));
+    }
+
+    @Override
+    public Uni<CursorPage<Member>> listMembersPage(int size, String cursor) {
+        return listMembersPage(MemberPageRequest.of(size, cursor));
+    }
+
+    @Override
+    public Uni<CursorPage<Member>> listMembersPage(MemberPageRequest request) {
+        int size = request.size();
+        String cursor = request.cursor();
+        MemberSort sort = request.sort();
+        Log.info("Repo: Listing members page with size: " + size + ", cursor: " + cursor + ", sort: " + sort.toParameter());
+        if (size <= 0) {
+            Log.info("Repo: Invalid size, returning empty page");
+            return Uni.createFrom().item(CursorPage.empty());
+        }
+
+        final Optional<Bson> filter = (cursor != null && !cursor.isBlank())
+                ? Optional.of(MemberQueries.after(PageCursor.decode(cursor, sort)))
+                : Optional.empty();
+        FindOptions options = withProjection(
+                new FindOptions().sort(MemberQueries.listingSort(sort)).limit(size + 1),
+                request.projection().including(sort.field()));
+
+        return collectionOps.find(getCollection(), filter, options, ReadProfile.RELAXED).map(members -> {
+            CursorPage<Member> page = PageCursor.page(members, size, sort);
+            Log.info("Repo: Found " + page.data().size() + " members, has next page: " + (page.nextCursor() != null));
+            return page;
+        });
+    }
+
+    @Override
+    public Uni<CursorPage<Member>> searchMembers(MemberSearchRequest request) {
+        int size = request.size();
+        String cursor = request.cursor();
+        Log.info("Repo: Searching members with prefix: " + request.prefix() + ", size: " + size + ", cursor: " + cursor);
+        if (size <= 0) {
+            Log.info("Repo: Invalid size, returning empty page");
+            return Uni.createFrom().item(CursorPage.empty());
+        }
+
+        // Each key is read in index order and the reads are merged, see SearchMerge
+        return readSearch(new SearchMerge(request)).invoke(page -> Log.info(
+                "Repo: Found " + page.data().size() + " matching members, has next page: " + (page.nextCursor() != null)));
+    }
+
+    private Uni<CursorPage<Member>> readSearch(SearchMerge merge) {
+        SearchKey key = merge.next();
+        if (key == null) {
+            return Uni.createFrom().item(merge.page());
+        }
+        FindOptions options = withProjection(
+                new FindOptions().sort(merge.sort(key)).limit(merge.batchSize()), merge.projection());
+        return collectionOps.find(getCollection(), Optional.of(merge.filter(key)), options, ReadProfile.RELAXED)
+                .invoke(members -> merge.fill(key, members))
+                .chain(() -> readSearch(merge));
+    }
+
+    @Override
+    public Uni<Long> countMembers(CountMode mode) {
+        Log.info("Repo: Counting members, mode: " + mode);
+        Uni<Long> count = switch (mode) {
+            case NONE -> Uni.createFrom().item(0L);
+            case ESTIMATED -> collectionOps.estimatedDocumentCount(getCollection(), ReadProfile.RELAXED);
+            case EXACT -> collectionOps.countDocuments(getCollection(), Optional.empty(), ReadProfile.RELAXED);
+        };
+        return count.invoke(result -> Log.info("Repo: Counted " + result + " members"));
+    }
+
+    @Override
+    public Multi<Member> streamAll() {
+        Log.info("Repo: Streaming all members with batch size: " + exportBatchSize);
+        return collectionOps.stream(getCollection(), Optional.empty(), new FindOptions().batchSize(exportBatchSize));
+    }
+
+    @Override
+    public Uni<Void> register(Member member) {
+        Objects.requireNonNull(member, "Member cannot be null");
+        Log.info("Repo: Registering member: " + member.email());
+        return collectionOps.insertOne(getCollection(), MemberUpdates.initial(member))
+                .invoke(() -> Log.info("Repo: Member registered successfully"))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Boolean> registerIfAbsent(Member member) {
+        Objects.requireNonNull(member, "Member cannot be null");
+        Objects.requireNonNull(member.email(), "Email cannot be null");
+        Log.info("Repo: Registering member if absent: " + member.email());
+
+        Bson filter = MemberQueries.byEmail(member.email());
+        return collectionOps.insertIfAbsent(getCollection(), filter, MemberUpdates.insert(member))
+                .map(result -> result.getUpsertedId() != null)
+                .invoke(inserted -> Log.info("Repo: Member inserted: " + inserted));
+    }
+
+    @Override
+    public Uni<Void> deleteById(String id) {
+        Log.info("Repo: Deleting member by id: " + id);
+        Objects.requireNonNull(id, "Member ID cannot be null");
+        if (id.isBlank()) {
+            Log.info("Repo: Empty id provided for deletion");
+            return Uni.createFrom().voidItem();
+        }
+
+        Bson filter = MemberQueries.byId(new ObjectId(id));
+        return collectionOps.deleteOne(getCollection(), filter)
+                .invoke(() -> Log.info("Repo: Member deleted successfully"))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> update(Member member) {
+        Log.info("Repo: Updating member: " + member.id());
+        Objects.requireNonNull(member.id());
+
+        // With a version this is a compare-and-set: it only applies if nobody wrote in between
+        Long expected = member.version();
+        Bson filter = expected == null
+                ? MemberQueries.byId(member.id())
+                : MemberQueries.byIdAndVersion(member.id(), expected);
+        return collectionOps.updateOne(getCollection(), filter, MemberUpdates.update(member))
+                .call(result -> {
+                    if (result.getMatchedCount() > 0) {
+                        return Uni.createFrom().voidItem();
+                    }
+                    Uni<Boolean> exists = expected == null
+                            ? Uni.createFrom().item(false)
+                            : collectionOps.exists(getCollection(), MemberQueries.byId(member.id()));
+                    return exists.invoke(atAnotherVersion -> {
+                        if (atAnotherVersion) {
+                            Log.info("Repo: Member " + member.id() + " is no longer at version " + expected);
+                            throw new MemberVersionConflictException(member.id().toHexString(), expected);
+                        }
+                        Log.info("Repo: Member " + member.id() + " not found");
+                        throw new MemberNotFoundException(member.id().toHexString());
+                    }).replaceWithVoid();
+                })
+                .invoke(() -> Log.info("Repo: Member updated successfully"))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Member> findByEmail(String email) {
+        Log.info("Repo: Finding member by email: " + email);
+        Objects.requireNonNull(email, "Email cannot be null");
+        if (email.isBlank()) {
+            Log.info("Repo: Empty email provided");
+            return Uni.createFrom().nullItem();
+        }
+
+        Bson filter = MemberQueries.byEmail(email);
+        return collectionOps.findFirst(getCollection(), filter)
+                .invoke(result -> Log.info("Repo: Member found by email: " + (result != null)));
+    }
+
+    @Override
+    public Uni<Boolean> existsByEmail(String email) {
+        Objects.requireNonNull(email, "Email cannot be null");
+        if (email.isBlank()) {
+            return Uni.createFrom().item(false);
+        }
+
+        Bson filter = MemberQueries.byEmail(email);
+        return collectionOps.exists(getCollection(), filter, MemberQueries.EMAIL_ONLY)
+                .invoke(exists -> Log.info("Repo: Member exists by email: " + exists));
+    }
+
+    @Override
+    public Uni<Member> findByUserId(String userId) {
+        Objects.requireNonNull(userId, "User ID cannot be null");
+        if (userId.isBlank()) {
+            return Uni.createFrom().nullItem();
+        }
+
+        Bson filter = MemberQueries.byUserId(userId);
+        return collectionOps.findFirst(getCollection(), filter);
+    }
+
+    private static FindOptions withProjection(FindOptions options, MemberProjection projection) {
+        return projection.isAll() ? options : options.projection(projection.toBson());
+    }
+
+    private ReactiveMongoCollection<Member> getCollection() {
+        ReactiveMongoCollection<Member> result = collection;
+        if (result == null) {
+            result = mongoClient.getDatabase(databaseName).getCollection(collectionName, Member.class);
+            collection = result;
+        }
+        return result;
+    }
+}
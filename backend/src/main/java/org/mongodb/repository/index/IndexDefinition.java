@@ -0,0 +1,9 @@
+package org.mongodb.repository.index;
+
+import org.bson.conversions.Bson;
+
+public record IndexDefinition(
+    String name,
+    Bson keys,
+    boolean unique
+) {}
@@ -0,0 +1,160 @@
+package org.mongodb.repository.index;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Verifies the members collection against {@link MemberIndexes}, creating missing indexes
+ * and warning about, or failing on, indexes that drifted. Runs as part of
+ * {@link org.mongodb.health.ConnectionWarmup}, so the instance is not ready before it has.
+ */
+@ApplicationScoped
+public class IndexManager {
+    private static final String DEFAULT_ID_INDEX = "_id_";
+
+    private final MongoClient mongoClient;
+    private final String databaseName;
+    private final String collectionName;
+    private final boolean createMissing;
+    private final DriftMode onDrift;
+
+    public enum DriftMode {
+        WARN,
+        FAIL
+    }
+
+    public IndexManager(
+        MongoClient mongoClient,
+        @ConfigProperty(name = "mongodb.database")
+        String databaseName,
+        @ConfigProperty(name = "mongodb.collection.members", defaultValue = "members")
+        String collectionName,
+        @ConfigProperty(name = "kitchensink.indexes.create-missing", defaultValue = "true")
+        boolean createMissing,
+        @ConfigProperty(name = "kitchensink.indexes.on-drift", defaultValue = "warn")
+        DriftMode onDrift
+    ) {
+        this.mongoClient = mongoClient;
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+        this.createMissing = createMissing;
+        this.onDrift = onDrift;
+    }
+
+    /**
+     * Compares the declared indexes with the ones on the collection without changing anything.
+     */
+    public List<IndexStatus> inspect() {
+        List<Document> existing = getCollection().listIndexes().into(new ArrayList<>());
+        Set<String> declared = new HashSet<>(Set.of(DEFAULT_ID_INDEX));
+        List<IndexStatus> statuses = new ArrayList<>();
+
+        for (IndexDefinition definition : MemberIndexes.ALL) {
+            List<String> keys = signature(definition.keys().toBsonDocument());
+            Document actual = existing.stream()
+                    .filter(index -> definition.name().equals(index.getString("name"))
+                            || keys.equals(signature(index.get("key", Document.class).toBsonDocument())))
+                    .findFirst()
+                    .orElse(null);
+
+            if (actual == null) {
+                statuses.add(status(definition, IndexStatus.State.MISSING));
+                continue;
+            }
+            declared.add(actual.getString("name"));
+            boolean matches = keys.equals(signature(actual.get("key", Document.class).toBsonDocument()))
+                    && definition.unique() == actual.getBoolean("unique", false);
+            statuses.add(status(definition, matches ? IndexStatus.State.PRESENT : IndexStatus.State.MISMATCHED));
+        }
+
+        for (Document index : existing) {
+            if (!declared.contains(index.getString("name"))) {
+                statuses.add(new IndexStatus(
+                    index.getString("name"),
+                    index.get("key", Document.class).toJson(),
+                    index.getBoolean("unique", false),
+                    IndexStatus.State.UNDECLARED
+                ));
+            }
+        }
+        return statuses;
+    }
+
+    /**
+     * Creates missing indexes when enabled, then applies the drift policy to whatever still differs.
+     */
+    public List<IndexStatus> verify() {
+        List<IndexStatus> statuses = new ArrayList<>();
+        for (IndexStatus status : inspect()) {
+            if (status.state() == IndexStatus.State.MISSING && createMissing) {
+                statuses.add(create(status));
+            } else {
+                statuses.add(status);
+            }
+        }
+
+        List<IndexStatus> drift = statuses.stream().filter(IndexStatus::isDrift).toList();
+        if (drift.isEmpty()) {
+            Log.info("Indexes: members collection matches " + MemberIndexes.ALL.size() + " declared indexes");
+            return statuses;
+        }
+
+        String message = "Indexes: members collection drifted from declared indexes: " + drift.stream()
+                .map(status -> status.name() + " " + status.keys() + " " + status.state())
+                .collect(Collectors.joining(", "));
+        if (onDrift == DriftMode.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        Log.warn(message);
+        return statuses;
+    }
+
+    private IndexStatus create(IndexStatus missing) {
+        IndexDefinition definition = MemberIndexes.ALL.stream()
+                .filter(candidate -> candidate.name().equals(missing.name()))
+                .findFirst()
+                .orElseThrow();
+        try {
+            getCollection().createIndex(definition.keys(), new IndexOptions()
+                    .name(definition.name())
+                    .unique(definition.unique()));
+            Log.info("Indexes: created " + definition.name() + " " + missing.keys());
+            return status(definition, IndexStatus.State.CREATED);
+        } catch (RuntimeException e) {
+            // e.g. existing duplicates prevent a unique index; left to the drift policy
+            Log.error("Indexes: could not create " + definition.name() + " " + missing.keys(), e);
+            return missing;
+        }
+    }
+
+    private static IndexStatus status(IndexDefinition definition, IndexStatus.State state) {
+        return new IndexStatus(definition.name(), definition.keys().toBsonDocument().toJson(), definition.unique(), state);
+    }
+
+    // Key order matters and the server may report 1 as 1.0, so compare "field:direction" pairs
+    private static List<String> signature(BsonDocument keys) {
+        return keys.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + (entry.getValue().isNumber()
+                        ? String.valueOf(entry.getValue().asNumber().intValue())
+                        : entry.getValue().asString().getValue()))
+                .toList();
+    }
+
+    private MongoCollection<Document> getCollection() {
+        return mongoClient.getDatabase(databaseName).getCollection(collectionName);
+    }
+}
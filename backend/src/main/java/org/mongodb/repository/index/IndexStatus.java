@@ -0,0 +1,20 @@
+package org.mongodb.repository.index;
+
+public record IndexStatus(
+    String name,
+    String keys,
+    boolean unique,
+    State state
+) {
+    public enum State {
+        PRESENT,
+        CREATED,
+        MISSING,
+        MISMATCHED,
+        UNDECLARED
+    }
+
+    public boolean isDrift() {
+        return state == State.MISSING || state == State.MISMATCHED || state == State.UNDECLARED;
+    }
+}
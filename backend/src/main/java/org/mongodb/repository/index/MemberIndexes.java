@@ -0,0 +1,26 @@
+package org.mongodb.repository.index;
+
+import java.util.List;
+
+import com.mongodb.client.model.Indexes;
+
+/**
+ * Indexes the members collection is expected to have, besides the default {@code _id_}.
+ * {@link IndexManager} creates missing ones at startup and reports any drift.
+ */
+public final class MemberIndexes {
+    public static final List<IndexDefinition> ALL = List.of(
+        // RegistrationCheckFilter, findByEmail and the registerIfAbsent upsert
+        new IndexDefinition("email_unique", Indexes.ascending("email"), true),
+        // findByUserId
+        new IndexDefinition("userId", Indexes.ascending("userId"), false),
+        // listMembersPage sorted by lastName, in either direction, with the _id tiebreak
+        new IndexDefinition("lastName_id", Indexes.ascending("lastName", "_id"), false),
+        // searchMembers, one range scan per normalized key, read in (key, _id) order
+        new IndexDefinition("search_firstName_id", Indexes.ascending("search.firstName", "_id"), false),
+        new IndexDefinition("search_lastName_id", Indexes.ascending("search.lastName", "_id"), false),
+        new IndexDefinition("search_email_id", Indexes.ascending("search.email", "_id"), false)
+    );
+
+    private MemberIndexes() {}
+}
@@ -0,0 +1,105 @@
+package org.mongodb.repository.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.repository.MemberQueries;
+import org.mongodb.repository.MemberQueries.QueryShape;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Runs {@code explain} for every repository query shape and summarises whether the
+ * winning plan uses an index, whether it is covered (answered without a FETCH) and
+ * whether it sorts in memory (a SORT stage) instead of reading an index in order.
+ */
+@ApplicationScoped
+public class QueryPlanInspector {
+    private final MongoClient mongoClient;
+    private final String databaseName;
+    private final String collectionName;
+
+    public QueryPlanInspector(
+        MongoClient mongoClient,
+        @ConfigProperty(name = "mongodb.database")
+        String databaseName,
+        @ConfigProperty(name = "mongodb.collection.members", defaultValue = "members")
+        String collectionName
+    ) {
+        this.mongoClient = mongoClient;
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+    }
+
+    public List<QueryPlanReport> explainAll() {
+        return MemberQueries.shapes().stream().map(this::explain).toList();
+    }
+
+    public QueryPlanReport explain(QueryShape shape) {
+        FindIterable<Document> find = getCollection().find(shape.filter()).limit(shape.limit());
+        if (shape.sort() != null) {
+            find = find.sort(shape.sort());
+        }
+        if (shape.projection() != null) {
+            find = find.projection(shape.projection());
+        }
+
+        Document explain = find.explain(ExplainVerbosity.EXECUTION_STATS);
+        Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        // Plans executed by the slot based engine nest the classic tree under queryPlan
+        if (winningPlan.containsKey("queryPlan")) {
+            winningPlan = winningPlan.get("queryPlan", Document.class);
+        }
+
+        List<String> stages = new ArrayList<>();
+        List<String> indexes = new ArrayList<>();
+        collect(winningPlan, stages, indexes);
+
+        Document stats = explain.get("executionStats", Document.class);
+        long keysExamined = stats == null ? 0 : stats.get("totalKeysExamined", Number.class).longValue();
+        long docsExamined = stats == null ? 0 : stats.get("totalDocsExamined", Number.class).longValue();
+
+        boolean indexed = stages.stream().noneMatch(stage -> stage.equals("COLLSCAN"));
+        boolean covered = indexed && stages.stream().noneMatch(stage -> stage.equals("FETCH") || stage.contains("IDHACK"))
+                && docsExamined == 0;
+        boolean sortedInMemory = stages.stream().anyMatch(stage -> stage.equals("SORT"));
+
+        return new QueryPlanReport(
+            shape.name(),
+            shape.filter().toBsonDocument().toJson(),
+            stages,
+            indexes,
+            indexed,
+            covered,
+            sortedInMemory,
+            keysExamined,
+            docsExamined
+        );
+    }
+
+    private static void collect(Document stage, List<String> stages, List<String> indexes) {
+        stages.add(stage.getString("stage"));
+        if (stage.containsKey("indexName")) {
+            indexes.add(stage.getString("indexName"));
+        }
+        if (stage.containsKey("inputStage")) {
+            collect(stage.get("inputStage", Document.class), stages, indexes);
+        }
+        if (stage.containsKey("inputStages")) {
+            for (Document input : stage.getList("inputStages", Document.class)) {
+                collect(input, stages, indexes);
+            }
+        }
+    }
+
+    private MongoCollection<Document> getCollection() {
+        return mongoClient.getDatabase(databaseName).getCollection(collectionName);
+    }
+}
@@ -0,0 +1,15 @@
+package org.mongodb.repository.index;
+
+import java.util.List;
+
+public record QueryPlanReport(
+    String query,
+    String filter,
+    List<String> stages,
+    List<String> indexes,
+    boolean indexed,
+    boolean covered,
+    boolean sortedInMemory,
+    long keysExamined,
+    long docsExamined
+) {}
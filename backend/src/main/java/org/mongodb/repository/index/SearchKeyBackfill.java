@@ -0,0 +1,141 @@
+package org.mongodb.repository.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.conversions.Bson;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.model.Member;
+import org.mongodb.repository.MemberQueries;
+import org.mongodb.repository.MemberSearchKeys;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+import io.quarkus.logging.Log;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+/**
+ * Adds the normalized search keys to members stored before search existed, so they
+ * show up in prefix search. Only documents without keys are touched, and a writer
+ * that stored keys in the meantime wins.
+ * <p>
+ * Finding those members scans the whole collection, since no index covers a missing
+ * {@code search} field, so this is a one-off migration: off by default, enabled for the
+ * deployment that introduces search, then disabled again. It runs in the background and
+ * retries with backoff while Mongo is unreachable, so it never delays or fails startup.
+ */
+@ApplicationScoped
+public class SearchKeyBackfill {
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final MongoClient mongoClient;
+    private final String databaseName;
+    private final String collectionName;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retryBackoff;
+
+    private volatile Thread worker;
+
+    public SearchKeyBackfill(
+        MongoClient mongoClient,
+        @ConfigProperty(name = "mongodb.database")
+        String databaseName,
+        @ConfigProperty(name = "mongodb.collection.members", defaultValue = "members")
+        String collectionName,
+        @ConfigProperty(name = "kitchensink.search.backfill-on-start", defaultValue = "false")
+        boolean enabled,
+        @ConfigProperty(name = "kitchensink.search.backfill-batch-size", defaultValue = "500")
+        int batchSize,
+        @ConfigProperty(name = "kitchensink.search.backfill-retry-backoff", defaultValue = "1S")
+        Duration retryBackoff
+    ) {
+        this.mongoClient = mongoClient;
+        this.databaseName = databaseName;
+        this.collectionName = collectionName;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.retryBackoff = retryBackoff;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (enabled) {
+            worker = Thread.ofVirtual().name("search-backfill").start(this::run);
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    void run() {
+        Duration backoff = retryBackoff;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                backfill();
+                return;
+            } catch (RuntimeException e) {
+                // Batches already written are skipped on the next attempt, they have keys now
+                if (e instanceof MongoException) {
+                    Log.warn("Indexes: search key backfill failed, retrying in " + backoff.toMillis() + "ms: " + e.getMessage());
+                } else {
+                    Log.warn("Indexes: search key backfill failed, retrying in " + backoff.toMillis() + "ms", e);
+                }
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * Returns how many members got search keys.
+     */
+    public long backfill() {
+        MongoCollection<Member> collection = mongoClient.getDatabase(databaseName).getCollection(collectionName, Member.class);
+        Bson missing = Filters.exists(MemberSearchKeys.FIELD, false);
+        List<WriteModel<Member>> batch = new ArrayList<>(batchSize);
+        long updated = 0;
+
+        try (MongoCursor<Member> members = collection.find(missing).batchSize(batchSize).cursor()) {
+            while (members.hasNext()) {
+                Member member = members.next();
+                batch.add(new UpdateOneModel<>(Filters.and(MemberQueries.byId(member.id()), missing), MemberSearchKeys.set(member)));
+                if (batch.size() == batchSize) {
+                    updated += flush(collection, batch);
+                }
+            }
+        }
+        updated += flush(collection, batch);
+
+        Log.info("Indexes: backfilled search keys for " + updated + " members");
+        return updated;
+    }
+
+    private static long flush(MongoCollection<Member> collection, List<WriteModel<Member>> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long modified = collection.bulkWrite(batch, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        batch.clear();
+        return modified;
+    }
+}
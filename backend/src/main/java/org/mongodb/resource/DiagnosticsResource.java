@@ -0,0 +1,49 @@
+package org.mongodb.resource;
+
+import org.mongodb.repository.TransactionMetrics;
+import org.mongodb.repository.index.IndexManager;
+import org.mongodb.repository.index.QueryPlanInspector;
+import org.mongodb.resource.viewmodel.IndexDiagnostics;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+@ApplicationScoped
+@Path("/api/admin/diagnostics")
+@Produces(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
+public class DiagnosticsResource {
+    private final IndexManager indexManager;
+    private final QueryPlanInspector queryPlanInspector;
+    private final TransactionMetrics transactionMetrics;
+
+    public DiagnosticsResource(
+        IndexManager indexManager,
+        QueryPlanInspector queryPlanInspector,
+        TransactionMetrics transactionMetrics
+    ) {
+        this.indexManager = indexManager;
+        this.queryPlanInspector = queryPlanInspector;
+        this.transactionMetrics = transactionMetrics;
+    }
+
+    @GET
+    @Path("/indexes")
+    @RolesAllowed("ADMIN")
+    public Response indexes() {
+        return Response.ok(new IndexDiagnostics(indexManager.inspect(), queryPlanInspector.explainAll())).build();
+    }
+
+    @GET
+    @Path("/transactions")
+    @RolesAllowed("ADMIN")
+    public Response transactions() {
+        return Response.ok(transactionMetrics.stats()).build();
+    }
+}
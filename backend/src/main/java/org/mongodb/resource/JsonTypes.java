@@ -0,0 +1,43 @@
+package org.mongodb.resource;
+
+import org.mongodb.model.CountedCursorPage;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.ImportError;
+import org.mongodb.model.ImportReport;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberView;
+import org.mongodb.model.RegistrationData;
+import org.mongodb.repository.TransactionMetrics.TransactionStats;
+import org.mongodb.repository.index.IndexStatus;
+import org.mongodb.repository.index.QueryPlanReport;
+import org.mongodb.resource.viewmodel.ImportMemberViewModel;
+import org.mongodb.resource.viewmodel.IndexDiagnostics;
+import org.mongodb.resource.viewmodel.KitchenSinkError;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Types Jackson reads or writes that Quarkus cannot see in an endpoint signature:
+ * bodies wrapped in a {@code Response}, the streamed export and the import parser.
+ * Quarkus registers endpoint parameter and return types for the native image itself;
+ * these are registered here at build time so the native build needs no reflection
+ * configuration files or tracing agent run.
+ */
+@RegisterForReflection(targets = {
+    Member.class,
+    MemberView.class,
+    CursorPage.class,
+    CountedCursorPage.class,
+    RegistrationData.class,
+    ImportReport.class,
+    ImportError.class,
+    ImportMemberViewModel.class,
+    KitchenSinkError.class,
+    IndexDiagnostics.class,
+    IndexStatus.class,
+    QueryPlanReport.class,
+    TransactionStats.class
+})
+final class JsonTypes {
+    private JsonTypes() {}
+}
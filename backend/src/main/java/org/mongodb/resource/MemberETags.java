@@ -0,0 +1,149 @@
+package org.mongodb.resource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberProjection;
+
+import jakarta.ws.rs.core.EntityTag;
+
+/**
+ * Strong ETags for member responses. They are built from ids and versions instead of
+ * the serialized body, so a projection of just {@code _id} and {@code version} is
+ * enough to tell whether a client's copy is current. The requested fields are part
+ * of the tag because they change the representation.
+ * <p>
+ * A single member's tag is its version and fields in the clear, e.g. {@code "3.7f"}, so
+ * it can come back as {@code If-Match} on an update and be used as the expected version.
+ */
+public final class MemberETags {
+    public static final long NO_COUNT = -1;
+
+    private static final int TAG_BYTES = 16;
+
+    private MemberETags() {}
+
+    public static EntityTag of(Member member, MemberProjection projection) {
+        return new EntityTag(member.versionOrZero() + "." + Integer.toHexString(mask(projection)));
+    }
+
+    /**
+     * The version a single member tag was issued for, or empty if the header holds anything else.
+     */
+    public static Optional<Long> version(String ifMatch) {
+        if (ifMatch == null) {
+            return Optional.empty();
+        }
+        String value = ifMatch.trim();
+        int separator = value.indexOf('.');
+        if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"' || separator < 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(value.substring(1, separator)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses an {@code If-Match} header, {@code *} or a comma separated list of entity tags.
+     * Empty when there is no header. A malformed header matches nothing.
+     */
+    public static Optional<IfMatch> ifMatch(String header) {
+        if (header == null || header.isBlank()) {
+            return Optional.empty();
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        boolean any = false;
+        int position = 0;
+        while (position < header.length()) {
+            char next = header.charAt(position);
+            if (next == ',' || next == ' ' || next == '\t') {
+                position++;
+                continue;
+            }
+            if (next == '*') {
+                any = true;
+                position++;
+                continue;
+            }
+            // Commas may appear inside a tag, so tags are read quote to quote rather than split
+            boolean weak = header.startsWith("W/", position);
+            int open = weak ? position + 2 : position;
+            int close = open < header.length() && header.charAt(open) == '"' ? header.indexOf('"', open + 1) : -1;
+            if (close < 0) {
+                return Optional.of(new IfMatch(false, List.of()));
+            }
+            // If-Match compares strongly, so a weak tag never matches
+            if (!weak) {
+                version(header.substring(open, close + 1)).ifPresent(versions::add);
+            }
+            position = close + 1;
+        }
+        return Optional.of(new IfMatch(any, List.copyOf(versions)));
+    }
+
+    /**
+     * A parsed {@code If-Match}: any current member ({@code *}), or one at any of the
+     * versions its member tags were issued for. Other tags can never match and are left out.
+     */
+    public record IfMatch(boolean any, List<Long> versions) {
+        public boolean matchesNothing() {
+            return !any && versions.isEmpty();
+        }
+    }
+
+    /**
+     * Tag of a page and the total count sent with it, or {@link #NO_COUNT}.
+     */
+    public static EntityTag of(CursorPage<Member> page, MemberProjection projection, long totalCount) {
+        MessageDigest digest = digest(projection);
+        page.data().forEach(member -> update(digest, member));
+        if (page.nextCursor() != null) {
+            digest.update(page.nextCursor().getBytes(StandardCharsets.US_ASCII));
+        }
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(totalCount).array());
+        return tag(digest);
+    }
+
+    private static MessageDigest digest(MemberProjection projection) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(mask(projection)).array());
+        return digest;
+    }
+
+    private static int mask(MemberProjection projection) {
+        int fields = 0;
+        for (MemberField field : projection.fields()) {
+            fields |= 1 << field.ordinal();
+        }
+        return fields;
+    }
+
+    private static void update(MessageDigest digest, Member member) {
+        digest.update(member.id().toByteArray());
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(member.versionOrZero()).array());
+    }
+
+    private static EntityTag tag(MessageDigest digest) {
+        byte[] hash = digest.digest();
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, TAG_BYTES)));
+    }
+}
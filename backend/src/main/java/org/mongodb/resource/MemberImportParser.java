@@ -0,0 +1,148 @@
+package org.mongodb.resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+import org.mongodb.model.ImportRow;
+import org.mongodb.model.Member;
+import org.mongodb.resource.viewmodel.ImportMemberViewModel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Lazily turns an import body into {@link ImportRow}s, one line at a time, so a
+ * large upload is never held in memory. Lines that cannot be parsed become error rows.
+ */
+final class MemberImportParser {
+    private static final List<String> CSV_COLUMNS = List.of("userId", "username", "firstName", "lastName", "email", "phoneNumber");
+
+    private MemberImportParser() {}
+
+    static Iterator<ImportRow> ndjson(InputStream body, ObjectMapper objectMapper) {
+        ObjectReader reader = objectMapper.readerFor(ImportMemberViewModel.class);
+        return new LineIterator(body, (line, text) -> {
+            try {
+                return ImportRow.parsed(line, toMember(reader.readValue(text)));
+            } catch (JsonProcessingException e) {
+                return ImportRow.failed(line, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        });
+    }
+
+    static Iterator<ImportRow> csv(InputStream body) {
+        Map<String, Integer> header = new HashMap<>();
+        return new LineIterator(body, (line, text) -> {
+            List<String> values = splitCsv(text);
+            if (header.isEmpty()) {
+                for (int i = 0; i < values.size(); i++) {
+                    header.put(values.get(i).trim(), i);
+                }
+                return null;
+            }
+            if (values.size() != header.size()) {
+                return ImportRow.failed(line, "Expected " + header.size() + " columns but found " + values.size());
+            }
+
+            String[] fields = new String[CSV_COLUMNS.size()];
+            for (int i = 0; i < fields.length; i++) {
+                Integer index = header.get(CSV_COLUMNS.get(i));
+                fields[i] = index == null || values.get(index).isEmpty() ? null : values.get(index);
+            }
+            return ImportRow.parsed(line, new Member(null, fields[0], fields[1], fields[2], fields[3], fields[4], fields[5]));
+        });
+    }
+
+    private static Member toMember(ImportMemberViewModel row) {
+        return new Member(null, row.userId(), row.username(), row.firstName(), row.lastName(), row.email(), row.phoneNumber());
+    }
+
+    // RFC 4180 style: quoted fields may contain commas and doubled quotes, but not line breaks
+    static List<String> splitCsv(String text) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Iterates over non-blank lines, mapping each to a row; a null mapping (e.g. a CSV header) is skipped.
+     */
+    private static final class LineIterator implements Iterator<ImportRow> {
+        private final BufferedReader reader;
+        private final BiFunction<Long, String, ImportRow> mapper;
+        private long line;
+        private ImportRow next;
+
+        private LineIterator(InputStream body, BiFunction<Long, String, ImportRow> mapper) {
+            this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                String text = readLine();
+                if (text == null) {
+                    return false;
+                }
+                line++;
+                if (!text.isBlank()) {
+                    next = mapper.apply(line, text);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ImportRow row = next;
+            next = null;
+            return row;
+        }
+
+        private String readLine() {
+            try {
+                return reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException("error while reading import body", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.mongodb.resource;
+
+import java.io.InputStream;
+
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.mongodb.model.ImportReport;
+import org.mongodb.service.MemberImportService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Bulk member import. Blocking on purpose: the body is read as a stream on a virtual
+ * thread (or a worker thread, see {@link MemberResource}) and written in unordered
+ * batches, in both the classic and reactive builds.
+ */
+@ApplicationScoped
+@Path("/api/members/import")
+@Produces(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
+public class MemberImportResource {
+    private static final String TEXT_CSV = "text/csv";
+
+    private final MemberImportService importService;
+    private final ObjectMapper objectMapper;
+
+    public MemberImportResource(MemberImportService importService, ObjectMapper objectMapper) {
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+    }
+
+    @POST
+    @Consumes(RestMediaType.APPLICATION_NDJSON)
+    @RolesAllowed("ADMIN")
+    public Response importNdjson(InputStream body) {
+        return toResponse(importService.importMembers(MemberImportParser.ndjson(body, objectMapper)));
+    }
+
+    @POST
+    @Consumes(TEXT_CSV)
+    @RolesAllowed("ADMIN")
+    public Response importCsv(InputStream body) {
+        return toResponse(importService.importMembers(MemberImportParser.csv(body)));
+    }
+
+    private Response toResponse(ImportReport report) {
+        // 200 even with row errors; the report says which lines were rejected and why
+        return Response.ok(report).build();
+    }
+}
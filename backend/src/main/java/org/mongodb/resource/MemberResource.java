@@ -1,17 +1,38 @@
 package org.mongodb.resource;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.bson.types.ObjectId;
 import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.mongodb.model.CountMode;
+import org.mongodb.model.CountedCursorPage;
 import org.mongodb.model.CursorPage;
 import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+import org.mongodb.model.MemberSort;
+import org.mongodb.model.MemberView;
+import org.mongodb.repository.MemberNotFoundException;
+import org.mongodb.repository.MemberVersionConflictException;
 import org.mongodb.resource.viewmodel.KitchenSinkError;
 import org.mongodb.resource.viewmodel.UpsertMemberViewModel;
+import org.mongodb.service.CurrentMember;
 import org.mongodb.service.MemberService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.quarkus.arc.properties.IfBuildProperty;
 import io.quarkus.logging.Log;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -20,36 +41,74 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 
+/**
+ * Blocking member endpoints. They run on virtual threads, or on the worker pool
+ * when {@code quarkus.virtual-threads.enabled=false}.
+ */
 @ApplicationScoped
 @Path("/api/members")
 @Produces(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
+@IfBuildProperty(name = "kitchensink.stack", stringValue = "classic", enableIfMissing = true)
 public class MemberResource {
     private final MemberService memberService;
     private final Provider<JsonWebToken> jwt;
     private final Provider<SecurityContext> securityContext;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter memberWriter;
+    private final CurrentMember currentMember;
 
-    public MemberResource(MemberService memberService, Provider<JsonWebToken> jwt, Provider<SecurityContext> securityContext) {
+    public MemberResource(MemberService memberService, Provider<JsonWebToken> jwt, Provider<SecurityContext> securityContext, ObjectMapper objectMapper, CurrentMember currentMember) {
         this.memberService = memberService;
+        this.currentMember = currentMember;
         this.jwt = jwt;
         this.securityContext = securityContext;
+        this.objectMapper = objectMapper;
+        this.memberWriter = objectMapper.writerFor(Member.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
     
     @GET
     @Path("/{id}")
     @RolesAllowed({"ADMIN", "USER"})
-    public Response getMemberById(String id) {
-        return memberService.findById(id)
-                .map(member -> Response.ok(member).build())
+    public Response getMemberById(
+        @PathParam("id") String id,
+        @QueryParam("fields") Optional<String> fields,
+        @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @Context Request request
+    ) {
+        MemberProjection projection = MemberProjection.parse(fields.orElse(null));
+        if (ifNoneMatch != null) {
+            // Only _id and version are read, so an unchanged member is neither decoded nor serialized
+            Optional<Member> current = memberService.findById(id, MemberProjection.VERSION);
+            if (current.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            ResponseBuilder notModified = request.evaluatePreconditions(MemberETags.of(current.get(), projection));
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
+
+        return memberService.findById(id, projection)
+                .map(member -> Response.ok(toBody(member, projection)).tag(MemberETags.of(member, projection)).build())
                 .orElse(Response.status(Response.Status.NOT_FOUND).build());
     }
 
@@ -57,10 +116,18 @@ public class MemberResource {
     @RolesAllowed({"ADMIN", "USER"})
     public Response listMembers(
         @QueryParam("size") Optional<Integer> size,
-        @QueryParam("cursor") Optional<String> cursor
+        @QueryParam("cursor") Optional<String> cursor,
+        @QueryParam("fields") Optional<String> fields,
+        @QueryParam("sort") Optional<String> sort,
+        @QueryParam("count") Optional<String> count,
+        @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @Context Request request
     ) {
         JsonWebToken token = jwt.get();
-        
+        MemberProjection projection = MemberProjection.parse(fields.orElse(null));
+        MemberSort memberSort = MemberSort.parse(sort.orElse(null));
+        CountMode countMode = CountMode.parse(count.orElse(null));
+
         // Check for ADMIN role using SecurityContext
         boolean isAdmin = securityContext.get().isUserInRole("ADMIN");
         String email = token.getClaim("email");
@@ -69,9 +136,13 @@ public class MemberResource {
         
         // If user is not ADMIN, return their own member data
         if (!isAdmin) {
-            return memberService.findByEmail(email)
+            return currentMember.resolve(email, memberService::findByEmail)
                     .map(member -> new CursorPage<Member>(List.of(member), null))
-                    .map(page -> Response.ok(page).build())
+                    .map(page -> {
+                        EntityTag tag = MemberETags.of(page, projection, MemberETags.NO_COUNT);
+                        ResponseBuilder notModified = request.evaluatePreconditions(tag);
+                        return notModified != null ? notModified.build() : Response.ok(toBody(page, projection)).tag(tag).build();
+                    })
                     .orElse(Response.status(Response.Status.NOT_FOUND).build());
         }
 
@@ -82,13 +153,76 @@ public class MemberResource {
                     .build();
         }
 
-        return Response.ok(memberService.findAll(pageSize, cursor.orElse(null))).build();
+        long total = countMode == CountMode.NONE ? MemberETags.NO_COUNT : memberService.countMembers(countMode);
+        if (ifNoneMatch != null) {
+            // Same page with only _id, version and the sort key, enough to rebuild the tag
+            CursorPage<Member> versions = memberService.findAll(
+                    new MemberPageRequest(pageSize, cursor.orElse(null), MemberProjection.VERSION, memberSort));
+            ResponseBuilder notModified = request.evaluatePreconditions(MemberETags.of(versions, projection, total));
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
+
+        CursorPage<Member> members = memberService.findAll(new MemberPageRequest(pageSize, cursor.orElse(null), projection, memberSort));
+        CursorPage<?> page = toBody(members, projection);
+        Object body = countMode == CountMode.NONE ? page : CountedCursorPage.of(page, total, pageSize);
+        return Response.ok(body).tag(MemberETags.of(members, projection, total)).build();
+    }
+
+    @GET
+    @Path("/search")
+    @RolesAllowed("ADMIN")
+    public Response searchMembers(
+        @QueryParam("q") String query,
+        @QueryParam("size") Optional<Integer> size,
+        @QueryParam("cursor") Optional<String> cursor,
+        @QueryParam("fields") Optional<String> fields
+    ) {
+        int pageSize = size.orElse(10);
+        if (pageSize <= 0) {
+            return Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Size must be greater than 0")
+                    .build();
+        }
+
+        MemberProjection projection = MemberProjection.parse(fields.orElse(null));
+        MemberSearchRequest request = new MemberSearchRequest(query, pageSize, cursor.orElse(null), projection);
+        return Response.ok(toBody(memberService.search(request), projection)).build();
     }
     
+    @GET
+    @Path("/export")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RolesAllowed("ADMIN")
+    public Response exportMembers() {
+        // Members are written one line at a time straight from the cursor, so memory stays flat
+        StreamingOutput body = output -> {
+            try (Stream<Member> members = memberService.exportAll();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                Iterator<Member> iterator = members.iterator();
+                boolean written = false;
+                while (iterator.hasNext()) {
+                    memberWriter.writeValue(generator, iterator.next());
+                    written = true;
+                }
+                if (written) {
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return Response.ok(body).build();
+    }
+
     @PUT
     @Path("/{id}")
     @RolesAllowed({"ADMIN", "USER"})
-    public Response updateMember(@Valid @NotNull UpsertMemberViewModel memberViewModel, @PathParam("id") String id) {
+    public Response updateMember(
+        @Valid @NotNull UpsertMemberViewModel memberViewModel,
+        @PathParam("id") String id,
+        @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch
+    ) {
         if (id == null || id.isBlank()) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity(new KitchenSinkError("id cannot be blank"))
@@ -106,8 +240,46 @@ public class MemberResource {
             memberViewModel.phoneNumber()
         );
 
-        memberService.update(member);
-        return Response.ok().build();
+        // An If-Match from a previous read turns the update into a compare-and-set on its version
+        Optional<MemberETags.IfMatch> precondition = MemberETags.ifMatch(ifMatch);
+        if (precondition.isPresent() && precondition.get().matchesNothing()) {
+            return preconditionFailed("If-Match must be an ETag of this member");
+        }
+
+        try {
+            if (precondition.isEmpty() || precondition.get().any()) {
+                memberService.update(member);
+                return Response.ok().build();
+            }
+            return updateAtVersion(member, precondition.get().versions());
+        } catch (MemberNotFoundException e) {
+            // Any If-Match, even *, fails when there is no member to match
+            if (precondition.isPresent()) {
+                return preconditionFailed(e.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    // Each listed version is tried in turn; a compare-and-set only applies at the version it names
+    private Response updateAtVersion(Member member, List<Long> versions) {
+        MemberVersionConflictException conflict = null;
+        for (long version : versions) {
+            try {
+                memberService.update(member.withVersion(version));
+                // The compare-and-set moved the member exactly one version forward
+                return Response.ok().tag(MemberETags.of(member.withVersion(version + 1), MemberProjection.ALL)).build();
+            } catch (MemberVersionConflictException e) {
+                conflict = e;
+            }
+        }
+        throw conflict;
+    }
+
+    private static Response preconditionFailed(String message) {
+        return Response.status(Response.Status.PRECONDITION_FAILED)
+                .entity(new KitchenSinkError(message))
+                .build();
     }
 
     @DELETE
@@ -122,4 +294,13 @@ public class MemberResource {
         memberService.deleteById(id);
         return Response.noContent().build();
     }
+
+    // Full reads keep the Member shape; projected reads only serialize the requested fields
+    private static Object toBody(Member member, MemberProjection projection) {
+        return projection.isAll() ? member : MemberView.of(member, projection);
+    }
+
+    private static CursorPage<?> toBody(CursorPage<Member> page, MemberProjection projection) {
+        return projection.isAll() ? page : page.map(member -> MemberView.of(member, projection));
+    }
 }
@@ -3,9 +3,13 @@ package org.mongodb.resource;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.mongodb.model.RegistrationData;
 import org.mongodb.resource.viewmodel.UpsertMemberViewModel;
+import org.mongodb.service.CurrentMember;
 import org.mongodb.service.MemberService;
 import org.mongodb.model.Member;
 
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Provider;
@@ -22,14 +26,18 @@ import jakarta.ws.rs.core.Response;
 @ApplicationScoped
 @Path("/api/registration")
 @Produces(MediaType.APPLICATION_JSON)
+@RunOnVirtualThread
+@IfBuildProperty(name = "kitchensink.stack", stringValue = "classic", enableIfMissing = true)
 public class RegistrationResource {
 
     private final Provider<JsonWebToken> jwtProvider;
     private final MemberService memberService;
+    private final CurrentMember currentMember;
 
-    public RegistrationResource(Provider<JsonWebToken> jwtProvider, MemberService memberService) {
+    public RegistrationResource(Provider<JsonWebToken> jwtProvider, MemberService memberService, CurrentMember currentMember) {
         this.jwtProvider = jwtProvider;
         this.memberService = memberService;
+        this.currentMember = currentMember;
     }
 
     @GET
@@ -46,7 +54,7 @@ public class RegistrationResource {
         String lastName = jwt.getClaim("family_name");
         String username = jwt.getClaim("preferred_username");
         
-        boolean isComplete = memberService.findByEmail(email).isPresent();
+        boolean isComplete = currentMember.resolve(email, memberService::findByEmail).isPresent();
         
         RegistrationData data = new RegistrationData(
             userId,
@@ -86,6 +94,7 @@ public class RegistrationResource {
         );
         
         memberService.register(member);
+        currentMember.clear();
         
         return Response.status(Response.Status.CREATED).build();
     }
@@ -0,0 +1,21 @@
+package org.mongodb.resource.exception;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import org.mongodb.repository.MemberNotFoundException;
+import org.mongodb.resource.viewmodel.KitchenSinkError;
+
+@Provider
+@Priority(1)
+public class MemberNotFoundExceptionMapper implements ExceptionMapper<MemberNotFoundException> {
+
+    @Override
+    public Response toResponse(MemberNotFoundException exception) {
+        return Response
+                .status(Response.Status.NOT_FOUND)
+                .entity(new KitchenSinkError(exception.getMessage()))
+                .build();
+    }
+}
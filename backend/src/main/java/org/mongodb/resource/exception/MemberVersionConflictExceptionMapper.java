@@ -0,0 +1,21 @@
+package org.mongodb.resource.exception;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import org.mongodb.repository.MemberVersionConflictException;
+import org.mongodb.resource.viewmodel.KitchenSinkError;
+
+@Provider
+@Priority(1)
+public class MemberVersionConflictExceptionMapper implements ExceptionMapper<MemberVersionConflictException> {
+
+    @Override
+    public Response toResponse(MemberVersionConflictException exception) {
+        return Response
+                .status(Response.Status.CONFLICT)
+                .entity(new KitchenSinkError(exception.getMessage()))
+                .build();
+    }
+}
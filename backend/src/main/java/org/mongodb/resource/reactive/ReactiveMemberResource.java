@@ -0,0 +1,283 @@
+package org.mongodb.resource.reactive;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+import org.mongodb.model.CountMode;
+import org.mongodb.model.CountedCursorPage;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+import org.mongodb.model.MemberSort;
+import org.mongodb.model.MemberView;
+import org.mongodb.repository.MemberNotFoundException;
+import org.mongodb.repository.MemberVersionConflictException;
+import org.mongodb.resource.MemberETags;
+import org.mongodb.resource.viewmodel.KitchenSinkError;
+import org.mongodb.resource.viewmodel.UpsertMemberViewModel;
+import org.mongodb.service.CurrentMember;
+import org.mongodb.service.ReactiveMemberService;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Provider;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
+import jakarta.ws.rs.core.SecurityContext;
+
+/**
+ * Non-blocking variant of {@code MemberResource}, served on the event loop when the
+ * application is built with {@code kitchensink.stack=reactive}.
+ */
+@ApplicationScoped
+@Path("/api/members")
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = "kitchensink.stack", stringValue = "reactive")
+public class ReactiveMemberResource {
+    private final ReactiveMemberService memberService;
+    private final Provider<JsonWebToken> jwt;
+    private final Provider<SecurityContext> securityContext;
+    private final CurrentMember currentMember;
+
+    public ReactiveMemberResource(ReactiveMemberService memberService, Provider<JsonWebToken> jwt, Provider<SecurityContext> securityContext, CurrentMember currentMember) {
+        this.memberService = memberService;
+        this.currentMember = currentMember;
+        this.jwt = jwt;
+        this.securityContext = securityContext;
+    }
+
+    @GET
+    @Path("/{id}")
+    @RolesAllowed({"ADMIN", "USER"})
+    public Uni<Response> getMemberById(
+        @PathParam("id") String id,
+        @QueryParam("fields") Optional<String> fields,
+        @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @Context Request request
+    ) {
+        MemberProjection projection = MemberProjection.parse(fields.orElse(null));
+        Uni<Response> full = memberService.findById(id, projection)
+                .map(member -> member != null
+                        ? Response.ok(toBody(member, projection)).tag(MemberETags.of(member, projection)).build()
+                        : Response.status(Response.Status.NOT_FOUND).build());
+        if (ifNoneMatch == null) {
+            return full;
+        }
+
+        // Only _id and version are read, so an unchanged member is neither decoded nor serialized
+        return memberService.findById(id, MemberProjection.VERSION).flatMap(current -> {
+            if (current == null) {
+                return Uni.createFrom().item(Response.status(Response.Status.NOT_FOUND).build());
+            }
+            ResponseBuilder notModified = request.evaluatePreconditions(MemberETags.of(current, projection));
+            return notModified != null ? Uni.createFrom().item(notModified.build()) : full;
+        });
+    }
+
+    @GET
+    @RolesAllowed({"ADMIN", "USER"})
+    public Uni<Response> listMembers(
+        @QueryParam("size") Optional<Integer> size,
+        @QueryParam("cursor") Optional<String> cursor,
+        @QueryParam("fields") Optional<String> fields,
+        @QueryParam("sort") Optional<String> sort,
+        @QueryParam("count") Optional<String> count,
+        @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @Context Request request
+    ) {
+        JsonWebToken token = jwt.get();
+        MemberProjection projection = MemberProjection.parse(fields.orElse(null));
+        MemberSort memberSort = MemberSort.parse(sort.orElse(null));
+        CountMode countMode = CountMode.parse(count.orElse(null));
+
+        // Check for ADMIN role using SecurityContext
+        boolean isAdmin = securityContext.get().isUserInRole("ADMIN");
+        String email = token.getClaim("email");
+
+        Log.info(String.format("User %s is %s", email, isAdmin ? "ADMIN" : "USER"));
+
+        // If user is not ADMIN, return their own member data
+        if (!isAdmin) {
+            return currentMember.resolveAsync(email, memberService::findByEmail)
+                    .map(member -> {
+                        if (member == null) {
+                            return Response.status(Response.Status.NOT_FOUND).build();
+                        }
+                        CursorPage<Member> page = new CursorPage<Member>(List.of(member), null);
+                        EntityTag tag = MemberETags.of(page, projection, MemberETags.NO_COUNT);
+                        ResponseBuilder notModified = request.evaluatePreconditions(tag);
+                        return notModified != null ? notModified.build() : Response.ok(toBody(page, projection)).tag(tag).build();
+                    });
+        }
+
+        int pageSize = size.orElse(10);
+        if (pageSize <= 0) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Size must be greater than 0")
+                    .build());
+        }
+
+        Uni<Long> total = countMode == CountMode.NONE
+                ? Uni.createFrom().item(MemberETags.NO_COUNT)
+                : memberService.countMembers(countMode);
+        // The page and the count are independent reads, so they run concurrently
+        Uni<Response> full = Uni.combine().all()
+                .unis(memberService.findAll(new MemberPageRequest(pageSize, cursor.orElse(null), projection, memberSort)), total)
+                .asTuple()
+                .map(result -> {
+                    CursorPage<?> page = toBody(result.getItem1(), projection);
+                    Object body = countMode == CountMode.NONE ? page : CountedCursorPage.of(page, result.getItem2(), pageSize);
+                    return Response.ok(body).tag(MemberETags.of(result.getItem1(), projection, result.getItem2())).build();
+                });
+        if (ifNoneMatch == null) {
+            return full;
+        }
+
+        // Same page with only _id, version and the sort key, enough to rebuild the tag
+        return Uni.combine().all()
+                .unis(memberService.findAll(new MemberPageRequest(pageSize, cursor.orElse(null), MemberProjection.VERSION, memberSort)), total)
+                .asTuple()
+                .flatMap(result -> {
+                    ResponseBuilder notModified = request.evaluatePreconditions(
+                            MemberETags.of(result.getItem1(), projection, result.getItem2()));
+                    return notModified != null ? Uni.createFrom().item(notModified.build()) : full;
+                });
+    }
+
+    @GET
+    @Path("/search")
+    @RolesAllowed("ADMIN")
+    public Uni<Response> searchMembers(
+        @QueryParam("q") String query,
+        @QueryParam("size") Optional<Integer> size,
+        @QueryParam("cursor") Optional<String> cursor,
+        @QueryParam("fields") Optional<String> fields
+    ) {
+        int pageSize = size.orElse(10);
+        if (pageSize <= 0) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity("Size must be greater than 0")
+                    .build());
+        }
+
+        MemberProjection projection = MemberProjection.parse(fields.orElse(null));
+        MemberSearchRequest request = new MemberSearchRequest(query, pageSize, cursor.orElse(null), projection);
+        return memberService.search(request)
+                .map(page -> Response.ok(toBody(page, projection)).build());
+    }
+
+    @GET
+    @Path("/export")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @RolesAllowed("ADMIN")
+    public Multi<Member> exportMembers() {
+        // Back-pressured by the HTTP response: batches are only fetched as lines are written
+        return memberService.exportAll();
+    }
+
+    @PUT
+    @Path("/{id}")
+    @RolesAllowed({"ADMIN", "USER"})
+    public Uni<Response> updateMember(
+        @Valid @NotNull UpsertMemberViewModel memberViewModel,
+        @PathParam("id") String id,
+        @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch
+    ) {
+        if (id == null || id.isBlank()) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new KitchenSinkError("id cannot be blank"))
+                    .build());
+        }
+
+        // Only allow updates to first name, last name, and phone number
+        Member fields = new Member(
+            new ObjectId(id),
+            null,
+            null,
+            memberViewModel.firstName(),
+            memberViewModel.lastName(),
+            null,
+            memberViewModel.phoneNumber()
+        );
+
+        // An If-Match from a previous read turns the update into a compare-and-set on its version
+        Optional<MemberETags.IfMatch> precondition = MemberETags.ifMatch(ifMatch);
+        if (precondition.isPresent() && precondition.get().matchesNothing()) {
+            return Uni.createFrom().item(preconditionFailed("If-Match must be an ETag of this member"));
+        }
+
+        Uni<Response> updated = precondition.isEmpty() || precondition.get().any()
+                ? memberService.update(fields).map(ignored -> Response.ok().build())
+                : updateAtVersion(fields, precondition.get().versions(), 0);
+        // Any If-Match, even *, fails when there is no member to match
+        return precondition.isEmpty()
+                ? updated
+                : updated.onFailure(MemberNotFoundException.class).recoverWithItem(e -> preconditionFailed(e.getMessage()));
+    }
+
+    // Each listed version is tried in turn; a compare-and-set only applies at the version it names
+    private Uni<Response> updateAtVersion(Member fields, List<Long> versions, int index) {
+        long version = versions.get(index);
+        Uni<Response> attempt = memberService.update(fields.withVersion(version))
+                // The compare-and-set moved the member exactly one version forward
+                .map(ignored -> Response.ok().tag(MemberETags.of(fields.withVersion(version + 1), MemberProjection.ALL)).build());
+        return index == versions.size() - 1
+                ? attempt
+                : attempt.onFailure(MemberVersionConflictException.class).recoverWithUni(() -> updateAtVersion(fields, versions, index + 1));
+    }
+
+    private static Response preconditionFailed(String message) {
+        return Response.status(Response.Status.PRECONDITION_FAILED)
+                .entity(new KitchenSinkError(message))
+                .build();
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    public Uni<Response> deleteMember(@PathParam("id") String id) {
+        if (id == null || id.isBlank()) {
+            return Uni.createFrom().item(Response.status(Response.Status.BAD_REQUEST)
+                    .entity(new KitchenSinkError("id cannot be blank"))
+                    .build());
+        }
+        return memberService.deleteById(id)
+                .map(ignored -> Response.noContent().build());
+    }
+
+    // Full reads keep the Member shape; projected reads only serialize the requested fields
+    private static Object toBody(Member member, MemberProjection projection) {
+        return projection.isAll() ? member : MemberView.of(member, projection);
+    }
+
+    private static CursorPage<?> toBody(CursorPage<Member> page, MemberProjection projection) {
+        return projection.isAll() ? page : page.map(member -> MemberView.of(member, projection));
+    }
+}
@@ -0,0 +1,102 @@
+package org.mongodb.resource.reactive;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.mongodb.model.Member;
+import org.mongodb.model.RegistrationData;
+import org.mongodb.resource.viewmodel.UpsertMemberViewModel;
+import org.mongodb.service.CurrentMember;
+import org.mongodb.service.ReactiveMemberService;
+
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Provider;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Non-blocking variant of {@code RegistrationResource}, active with {@code kitchensink.stack=reactive}.
+ */
+@ApplicationScoped
+@Path("/api/registration")
+@Produces(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = "kitchensink.stack", stringValue = "reactive")
+public class ReactiveRegistrationResource {
+
+    private final Provider<JsonWebToken> jwtProvider;
+    private final ReactiveMemberService memberService;
+    private final CurrentMember currentMember;
+
+    public ReactiveRegistrationResource(Provider<JsonWebToken> jwtProvider, ReactiveMemberService memberService, CurrentMember currentMember) {
+        this.jwtProvider = jwtProvider;
+        this.memberService = memberService;
+        this.currentMember = currentMember;
+    }
+
+    @GET
+    @RolesAllowed("USER")
+    public Uni<Response> getRegistrationData() {
+        JsonWebToken jwt = jwtProvider.get();
+        if (jwt == null) {
+            return Uni.createFrom().item(Response.status(Response.Status.UNAUTHORIZED).build());
+        }
+
+        String userId = jwt.getSubject();
+        String email = jwt.getClaim("email");
+        String firstName = jwt.getClaim("given_name");
+        String lastName = jwt.getClaim("family_name");
+        String username = jwt.getClaim("preferred_username");
+
+        return currentMember.resolveAsync(email, memberService::findByEmail).map(member -> {
+            RegistrationData data = new RegistrationData(
+                userId,
+                username != null ? username : email,
+                email,
+                firstName != null ? firstName : "",
+                lastName != null ? lastName : "",
+                java.time.Instant.now().toString(),
+                member != null
+            );
+
+            return Response.ok(data).build();
+        });
+    }
+
+    @PUT
+    @Path("/complete")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @RolesAllowed("USER")
+    public Uni<Response> completeRegistration(@Valid @NotNull UpsertMemberViewModel request) {
+        JsonWebToken jwt = jwtProvider.get();
+        if (jwt == null) {
+            return Uni.createFrom().item(Response.status(Response.Status.UNAUTHORIZED).build());
+        }
+
+        String userId = jwt.getSubject();
+        String email = jwt.getClaim("email");
+        String username = jwt.getClaim("preferred_username");
+
+        Member member = new Member(
+            null,
+            userId,
+            username,
+            request.firstName(),
+            request.lastName(),
+            email,
+            request.phoneNumber()
+        );
+
+        return memberService.register(member)
+                .invoke(currentMember::clear)
+                .map(ignored -> Response.status(Response.Status.CREATED).build());
+    }
+}
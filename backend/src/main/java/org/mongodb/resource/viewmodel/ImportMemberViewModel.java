@@ -0,0 +1,14 @@
+package org.mongodb.resource.viewmodel;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// Constraints are checked on the resulting Member, not here, so bad rows are reported instead of rejected
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ImportMemberViewModel(
+    String userId,
+    String username,
+    String firstName,
+    String lastName,
+    String email,
+    String phoneNumber
+) {}
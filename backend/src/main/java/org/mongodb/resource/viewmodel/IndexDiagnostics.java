@@ -0,0 +1,11 @@
+package org.mongodb.resource.viewmodel;
+
+import java.util.List;
+
+import org.mongodb.repository.index.IndexStatus;
+import org.mongodb.repository.index.QueryPlanReport;
+
+public record IndexDiagnostics(
+    List<IndexStatus> indexes,
+    List<QueryPlanReport> queries
+) {}
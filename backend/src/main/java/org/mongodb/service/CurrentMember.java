@@ -0,0 +1,60 @@
+package org.mongodb.service;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.mongodb.model.Member;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * The calling user's member for the current request, loaded lazily. Resources read it
+ * through {@link #resolve} or {@link #resolveAsync}, which only go to Mongo the first
+ * time, so a request loads the caller at most once and only if an endpoint needs it.
+ * {@code RegistrationCheckFilter} does not fill it: its existence check is covered by the
+ * email index and never reads a whole member, and a member it registers has no id yet.
+ */
+@RequestScoped
+public class CurrentMember {
+    private String email;
+    private boolean resolved;
+    private Member member;
+
+    /**
+     * Records the lookup result for the email; a null member means not registered.
+     */
+    public void resolved(String email, Member member) {
+        this.email = email;
+        this.member = member;
+        this.resolved = true;
+    }
+
+    /**
+     * Forgets the result, e.g. after the caller's member was created or changed.
+     */
+    public void clear() {
+        email = null;
+        member = null;
+        resolved = false;
+    }
+
+    public Optional<Member> resolve(String email, Function<String, Optional<Member>> lookup) {
+        if (!isResolved(email)) {
+            resolved(email, lookup.apply(email).orElse(null));
+        }
+        return Optional.ofNullable(member);
+    }
+
+    public Uni<Member> resolveAsync(String email, Function<String, Uni<Member>> lookup) {
+        if (isResolved(email)) {
+            return Uni.createFrom().item(member);
+        }
+        return lookup.apply(email).invoke(found -> resolved(email, found));
+    }
+
+    private boolean isResolved(String email) {
+        return resolved && Objects.equals(this.email, email);
+    }
+}
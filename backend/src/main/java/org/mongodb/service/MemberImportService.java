@@ -0,0 +1,10 @@
+package org.mongodb.service;
+
+import java.util.Iterator;
+
+import org.mongodb.model.ImportReport;
+import org.mongodb.model.ImportRow;
+
+public interface MemberImportService {
+    ImportReport importMembers(Iterator<ImportRow> rows);
+}
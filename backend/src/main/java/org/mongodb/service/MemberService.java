@@ -1,14 +1,25 @@
 package org.mongodb.service;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.mongodb.model.CountMode;
 import org.mongodb.model.CursorPage;
 import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
 public interface MemberService {
     Optional<Member> findById(String id);
+    Optional<Member> findById(String id, MemberProjection projection);
     Optional<Member> findByEmail(String email);
     CursorPage<Member> findAll(int size, String cursor);
+    CursorPage<Member> findAll(MemberPageRequest request);
+    CursorPage<Member> search(MemberSearchRequest request);
+    long countMembers(CountMode mode);
+    Stream<Member> exportAll();
     void register(Member member);
+    boolean registerIfAbsent(Member member);
     void update(Member member);
     void deleteById(String id);
 }
@@ -0,0 +1,27 @@
+package org.mongodb.service;
+
+import org.mongodb.model.CountMode;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+// Lookups emit a null item when no member matches
+public interface ReactiveMemberService {
+    Uni<Member> findById(String id);
+    Uni<Member> findById(String id, MemberProjection projection);
+    Uni<Member> findByEmail(String email);
+    Uni<CursorPage<Member>> findAll(int size, String cursor);
+    Uni<CursorPage<Member>> findAll(MemberPageRequest request);
+    Uni<CursorPage<Member>> search(MemberSearchRequest request);
+    Uni<Long> countMembers(CountMode mode);
+    Multi<Member> exportAll();
+    Uni<Void> register(Member member);
+    Uni<Boolean> registerIfAbsent(Member member);
+    Uni<Void> update(Member member);
+    Uni<Void> deleteById(String id);
+}
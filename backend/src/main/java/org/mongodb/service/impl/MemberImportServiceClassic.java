@@ -0,0 +1,130 @@
+package org.mongodb.service.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.mongodb.cache.MemberCountCache;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.model.ImportError;
+import org.mongodb.model.ImportReport;
+import org.mongodb.model.ImportRow;
+import org.mongodb.model.Member;
+import org.mongodb.repository.MemberRepo;
+import org.mongodb.service.MemberImportService;
+
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.logging.Log;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@ApplicationScoped
+@Timed(value = "kitchensink.service", description = "Member service operations")
+public class MemberImportServiceClassic implements MemberImportService {
+    private final MemberRepo memberRepo;
+    private final MemberExistenceCache existenceCache;
+    private final MemberCountCache countCache;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public MemberImportServiceClassic(
+        MemberRepo memberRepo,
+        MemberExistenceCache existenceCache,
+        MemberCountCache countCache,
+        Validator validator,
+        @ConfigProperty(name = "kitchensink.import.batch-size", defaultValue = "1000")
+        int batchSize,
+        @ConfigProperty(name = "kitchensink.import.max-reported-errors", defaultValue = "1000")
+        int maxReportedErrors
+    ) {
+        this.memberRepo = memberRepo;
+        this.existenceCache = existenceCache;
+        this.countCache = countCache;
+        this.validator = validator;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportReport importMembers(Iterator<ImportRow> rows) {
+        Log.info("Service: Importing members with batch size: " + batchSize);
+        Progress progress = new Progress();
+        List<Member> batch = new ArrayList<>(batchSize);
+        List<Long> batchLines = new ArrayList<>(batchSize);
+
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            progress.received++;
+
+            if (row.member() == null) {
+                progress.fail(row.line(), List.of(row.error()));
+                continue;
+            }
+
+            Set<ConstraintViolation<Member>> violations = validator.validate(row.member());
+            if (!violations.isEmpty()) {
+                progress.fail(row.line(), violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+                continue;
+            }
+
+            batch.add(row.member());
+            batchLines.add(row.line());
+            if (batch.size() == batchSize) {
+                flush(batch, batchLines, progress);
+            }
+        }
+        flush(batch, batchLines, progress);
+        if (progress.inserted > 0) {
+            countCache.invalidateAll();
+        }
+
+        Log.info("Service: Imported " + progress.inserted + " of " + progress.received + " members, " + progress.failed + " failed");
+        return new ImportReport(
+            progress.received,
+            progress.inserted,
+            progress.failed,
+            progress.errors,
+            progress.failed > progress.errors.size()
+        );
+    }
+
+    private void flush(List<Member> batch, List<Long> batchLines, Progress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, String> failures = memberRepo.insertMany(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            String failure = failures.get(i);
+            if (failure != null) {
+                progress.fail(batchLines.get(i), List.of(failure));
+            } else {
+                progress.inserted++;
+                // Drop any cached "not registered" answer for the new member
+                existenceCache.invalidate(batch.get(i).email());
+            }
+        }
+
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private final class Progress {
+        private long received;
+        private long inserted;
+        private long failed;
+        private final List<ImportError> errors = new ArrayList<>();
+
+        private void fail(long line, List<String> messages) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportError(line, messages));
+            }
+        }
+    }
+}
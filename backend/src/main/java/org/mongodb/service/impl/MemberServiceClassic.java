@@ -1,30 +1,57 @@
 package org.mongodb.service.impl;
 
-import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.bson.types.ObjectId;
+import org.mongodb.cache.MemberCountCache;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.cache.SingleFlight;
+import org.mongodb.model.CountMode;
 import org.mongodb.model.CursorPage;
 import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
 import org.mongodb.repository.MemberRepo;
-
+import org.mongodb.repository.MongoTransactionManager;
+import org.mongodb.repository.MongoTransactional;
 import org.mongodb.service.MemberService;
 
+import io.micrometer.core.annotation.Timed;
 import io.quarkus.logging.Log;
 import jakarta.enterprise.context.ApplicationScoped;
 
 @ApplicationScoped
+@Timed(value = "kitchensink.service", description = "Member service operations")
 public class MemberServiceClassic implements MemberService {
     private final MemberRepo memberRepo;
+    private final MemberExistenceCache existenceCache;
+    private final MemberCountCache countCache;
+    private final MongoTransactionManager transactionManager;
+    private final SingleFlight<String, Boolean> registrations = new SingleFlight<>();
+    private final SingleFlight<CountMode, Long> counts = new SingleFlight<>();
 
-    public MemberServiceClassic(MemberRepo memberRepo) {
+    public MemberServiceClassic(
+        MemberRepo memberRepo,
+        MemberExistenceCache existenceCache,
+        MemberCountCache countCache,
+        MongoTransactionManager transactionManager
+    ) {
         this.memberRepo = memberRepo;
+        this.existenceCache = existenceCache;
+        this.countCache = countCache;
+        this.transactionManager = transactionManager;
     }
 
     @Override
     public Optional<Member> findById(String id) {
+        return findById(id, MemberProjection.ALL);
+    }
+
+    @Override
+    public Optional<Member> findById(String id, MemberProjection projection) {
         Log.info("Service: Finding member by id: " + id);
-        Optional<Member> result = memberRepo.findById(id);
+        Optional<Member> result = memberRepo.findById(id, projection);
         Log.info("Service: Member found: " + result.isPresent());
         return result;
     }
@@ -39,23 +66,81 @@ public class MemberServiceClassic implements MemberService {
 
     @Override
     public CursorPage<Member> findAll(int size, String cursor) {
-        Log.info("Service: Finding all members with size: " + size + ", cursor: " + cursor);
-        CursorPage<Member> result = memberRepo.listMembersPage(size, cursor);
+        return findAll(MemberPageRequest.of(size, cursor));
+    }
+
+    @Override
+    public CursorPage<Member> findAll(MemberPageRequest request) {
+        Log.info("Service: Finding all members with size: " + request.size() + ", cursor: " + request.cursor());
+        CursorPage<Member> result = memberRepo.listMembersPage(request);
         Log.info("Service: Found " + result.data().size() + " members");
         return result;
     }
 
+    @Override
+    public CursorPage<Member> search(MemberSearchRequest request) {
+        Log.info("Service: Searching members with prefix: " + request.prefix() + ", size: " + request.size());
+        CursorPage<Member> result = memberRepo.searchMembers(request);
+        Log.info("Service: Found " + result.data().size() + " matching members");
+        return result;
+    }
+
+    @Override
+    public long countMembers(CountMode mode) {
+        if (mode == CountMode.NONE) {
+            return 0;
+        }
+        return countCache.lookup(mode).orElseGet(() -> counts.run(mode, () -> {
+            long count = memberRepo.countMembers(mode);
+            countCache.put(mode, count);
+            return count;
+        }));
+    }
+
+    @Override
+    public Stream<Member> exportAll() {
+        Log.info("Service: Exporting all members");
+        return memberRepo.streamAll();
+    }
+
     @Override
     public void register(Member member) {
         Log.info("Service: Registering member: " + member.email());
         memberRepo.register(member);
+        existenceCache.put(member.email(), true);
+        countCache.invalidateAll();
         Log.info("Service: Member registered successfully");
     }
 
     @Override
+    public boolean registerIfAbsent(Member member) {
+        Log.info("Service: Registering member if absent: " + member.email());
+        // Concurrent first-touch requests for the same email share one upsert
+        boolean inserted = registrations.run(member.email(), () -> {
+            boolean result = memberRepo.registerIfAbsent(member);
+            existenceCache.put(member.email(), true);
+            if (result) {
+                countCache.invalidateAll();
+            }
+            return result;
+        });
+        Log.info("Service: Member registered if absent, inserted: " + inserted);
+        return inserted;
+    }
+
+    @Override
+    @MongoTransactional
     public void deleteById(String id) {
         Log.info("Service: Deleting member by id: " + id);
+        // The cache is keyed by email, so resolve it before the document is gone.
+        // Lookup and delete share one transaction, so the email cannot change in between
+        Optional<Member> existing = memberRepo.findById(id);
         memberRepo.deleteById(id);
+        // Only once committed: a registration check in between would cache the member again
+        transactionManager.afterCommit(() -> {
+            existing.ifPresent(member -> existenceCache.invalidate(member.email()));
+            countCache.invalidateAll();
+        });
         Log.info("Service: Member deleted successfully");
     }
 
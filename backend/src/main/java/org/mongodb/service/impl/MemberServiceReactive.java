@@ -0,0 +1,149 @@
+package org.mongodb.service.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mongodb.cache.MemberCountCache;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.model.CountMode;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+import org.mongodb.repository.ReactiveMemberRepo;
+import org.mongodb.repository.ReactiveMongoTransactionManager;
+import org.mongodb.service.ReactiveMemberService;
+
+import io.quarkus.logging.Log;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class MemberServiceReactive implements ReactiveMemberService {
+    private final ReactiveMemberRepo memberRepo;
+    private final MemberExistenceCache existenceCache;
+    private final MemberCountCache countCache;
+    private final ReactiveMongoTransactionManager transactionManager;
+    private final Map<String, Uni<Boolean>> registrations = new ConcurrentHashMap<>();
+
+    public MemberServiceReactive(
+        ReactiveMemberRepo memberRepo,
+        MemberExistenceCache existenceCache,
+        MemberCountCache countCache,
+        ReactiveMongoTransactionManager transactionManager
+    ) {
+        this.memberRepo = memberRepo;
+        this.existenceCache = existenceCache;
+        this.countCache = countCache;
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public Uni<Member> findById(String id) {
+        return findById(id, MemberProjection.ALL);
+    }
+
+    @Override
+    public Uni<Member> findById(String id, MemberProjection projection) {
+        Log.info("Service: Finding member by id: " + id);
+        return memberRepo.findById(id, projection)
+                .invoke(result -> Log.info("Service: Member found: " + (result != null)));
+    }
+
+    @Override
+    public Uni<Member> findByEmail(String email) {
+        Log.info("Service: Finding member by email: " + email);
+        return memberRepo.findByEmail(email)
+                .invoke(result -> Log.info("Service: Member found by email: " + (result != null)));
+    }
+
+    @Override
+    public Uni<CursorPage<Member>> findAll(int size, String cursor) {
+        return findAll(MemberPageRequest.of(size, cursor));
+    }
+
+    @Override
+    public Uni<CursorPage<Member>> findAll(MemberPageRequest request) {
+        Log.info("Service: Finding all members with size: " + request.size() + ", cursor: " + request.cursor());
+        return memberRepo.listMembersPage(request)
+                .invoke(result -> Log.info("Service: Found " + result.data().size() + " members"));
+    }
+
+    @Override
+    public Uni<CursorPage<Member>> search(MemberSearchRequest request) {
+        Log.info("Service: Searching members with prefix: " + request.prefix() + ", size: " + request.size());
+        return memberRepo.searchMembers(request)
+                .invoke(result -> Log.info("Service: Found " + result.data().size() + " matching members"));
+    }
+
+    @Override
+    public Uni<Long> countMembers(CountMode mode) {
+        if (mode == CountMode.NONE) {
+            return Uni.createFrom().item(0L);
+        }
+        return countCache.lookup(mode)
+                .map(cached -> Uni.createFrom().item(cached))
+                .orElseGet(() -> memberRepo.countMembers(mode).invoke(count -> countCache.put(mode, count)));
+    }
+
+    @Override
+    public Multi<Member> exportAll() {
+        Log.info("Service: Exporting all members");
+        return memberRepo.streamAll();
+    }
+
+    @Override
+    public Uni<Void> register(Member member) {
+        Log.info("Service: Registering member: " + member.email());
+        return memberRepo.register(member)
+                .invoke(() -> existenceCache.put(member.email(), true))
+                .invoke(countCache::invalidateAll)
+                .invoke(() -> Log.info("Service: Member registered successfully"));
+    }
+
+    @Override
+    public Uni<Boolean> registerIfAbsent(Member member) {
+        Log.info("Service: Registering member if absent: " + member.email());
+        // Concurrent first-touch requests for the same email subscribe to one memoized upsert
+        String email = member.email();
+        Uni<Boolean> registration = registrations.computeIfAbsent(email, key -> memberRepo.registerIfAbsent(member)
+                .invoke(inserted -> {
+                    existenceCache.put(key, true);
+                    if (inserted) {
+                        countCache.invalidateAll();
+                    }
+                })
+                .onTermination().invoke(() -> registrations.remove(key))
+                .memoize().indefinitely());
+
+        return registration
+                .invoke(inserted -> Log.info("Service: Member registered if absent, inserted: " + inserted));
+    }
+
+    @Override
+    public Uni<Void> deleteById(String id) {
+        Log.info("Service: Deleting member by id: " + id);
+        // The cache is keyed by email, so resolve it before the document is gone.
+        // Lookup and delete share one transaction, so the email cannot change in between
+        return transactionManager.execute(session -> memberRepo.findById(id)
+                        .call(existing -> memberRepo.deleteById(id)))
+                // Only once committed: a registration check in between would cache the member again
+                .invoke(existing -> {
+                    if (existing != null) {
+                        existenceCache.invalidate(existing.email());
+                    }
+                    countCache.invalidateAll();
+                })
+                .invoke(() -> Log.info("Service: Member deleted successfully"))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> update(Member member) {
+        Log.info("Service: Updating member: " + member.id());
+        return memberRepo.update(member)
+                .invoke(() -> Log.info("Service: Member updated successfully"));
+    }
+}
@@ -0,0 +1,69 @@
+package org.mongodb.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.CountMode;
+
+class MemberCacheRegistryTest {
+
+    private MemberExistenceCache existenceCache;
+    private MemberCountCache countCache;
+    private MemberCacheRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        existenceCache = new MemberExistenceCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30), System::nanoTime);
+        countCache = new MemberCountCache(Duration.ofSeconds(5), System::nanoTime);
+        registry = new MemberCacheRegistry(existenceCache, countCache);
+        countCache.put(CountMode.EXACT, 2);
+    }
+
+    @Test
+    void testMemberInserted_CachesEmailAndDropsCounts() {
+        existenceCache.put("jane@example.com", false);
+
+        registry.memberInserted("jane@example.com");
+
+        assertEquals(Optional.of(true), existenceCache.lookup("jane@example.com"));
+        assertEquals(Optional.empty(), countCache.lookup(CountMode.EXACT));
+    }
+
+    @Test
+    void testEmailChanged_UnknownPreviousEmailDropsEveryAnswer() {
+        existenceCache.put("old@example.com", true);
+        existenceCache.put("other@example.com", true);
+
+        registry.emailChanged(null, "new@example.com");
+
+        assertEquals(Optional.empty(), existenceCache.lookup("old@example.com"));
+        assertEquals(Optional.empty(), existenceCache.lookup("other@example.com"));
+        assertEquals(Optional.of(true), existenceCache.lookup("new@example.com"));
+        assertEquals(Optional.of(2L), countCache.lookup(CountMode.EXACT));
+    }
+
+    @Test
+    void testEmailChanged_KnownPreviousEmailOnlyDropsIt() {
+        existenceCache.put("old@example.com", true);
+        existenceCache.put("other@example.com", true);
+
+        registry.emailChanged("old@example.com", "new@example.com");
+
+        assertEquals(Optional.empty(), existenceCache.lookup("old@example.com"));
+        assertEquals(Optional.of(true), existenceCache.lookup("other@example.com"));
+    }
+
+    @Test
+    void testMemberDeleted_DropsEmailAndCounts() {
+        existenceCache.put("jane@example.com", true);
+
+        registry.memberDeleted("jane@example.com");
+
+        assertEquals(Optional.empty(), existenceCache.lookup("jane@example.com"));
+        assertEquals(Optional.empty(), countCache.lookup(CountMode.EXACT));
+    }
+}
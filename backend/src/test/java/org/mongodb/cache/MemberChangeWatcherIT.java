@@ -0,0 +1,143 @@
+package org.mongodb.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+
+/**
+ * Runs the watcher against a real change stream. Dev Services start MongoDB as a
+ * single node replica set, so this needs Docker and runs with {@code mvn verify}.
+ */
+@QuarkusTest
+@TestProfile(MemberChangeWatcherIT.ReplicaSetProfile.class)
+class MemberChangeWatcherIT {
+    private static final String INSTANCE_ID = "it";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Inject
+    MongoClient mongoClient;
+
+    @Inject
+    MemberChangeWatcher watcher;
+
+    @Inject
+    MemberExistenceCache existenceCache;
+
+    @ConfigProperty(name = "mongodb.database")
+    String databaseName;
+
+    @BeforeEach
+    void setUp() {
+        watcher.start();
+        await("the change stream to open", () -> watcher.stats().connected());
+    }
+
+    @Test
+    void testFollow_AppliesInsertsAndDeletes() {
+        String email = "follow@example.com";
+        existenceCache.put(email, false);
+
+        members().insertOne(new Document("email", email));
+        await("the insert to be applied", () -> existenceCache.lookup(email).equals(Optional.of(true)));
+
+        members().deleteOne(Filters.eq("email", email));
+        await("the delete to be applied", () -> existenceCache.lookup(email).isEmpty());
+    }
+
+    @Test
+    void testRestart_ResumesFromCheckpoint() {
+        members().insertOne(new Document("email", "checkpoint@example.com"));
+        await("a checkpoint to be saved", () -> checkpoint() != null);
+
+        watcher.stop();
+        String email = "missed@example.com";
+        members().insertOne(new Document("email", email));
+        watcher.start();
+
+        // Only a stream resumed from the checkpoint sees the insert made while it was stopped
+        await("the insert made while stopped to be applied", () -> existenceCache.lookup(email).equals(Optional.of(true)));
+    }
+
+    @Test
+    void testInvalidate_DropsCachesAndReopens() {
+        String cached = "dropped@example.com";
+        existenceCache.put(cached, true);
+        long restarts = watcher.stats().restarts();
+
+        members().drop();
+        await("the caches to be dropped", () -> existenceCache.lookup(cached).isEmpty());
+
+        // The stream reopens from the current time, so keep inserting until one is seen
+        AtomicReference<String> probe = new AtomicReference<>();
+        await("the change stream to reopen", () -> {
+            if (probe.get() != null && existenceCache.lookup(probe.get()).equals(Optional.of(true))) {
+                return true;
+            }
+            probe.set("recreated-" + new ObjectId() + "@example.com");
+            members().insertOne(new Document("email", probe.get()));
+            return false;
+        });
+        // An invalidated stream is reopened without counting as a failure
+        assertEquals(restarts, watcher.stats().restarts());
+    }
+
+    private Document checkpoint() {
+        Document state = mongoClient.getDatabase(databaseName).getCollection("cache_state")
+                .find(Filters.eq("_id", MemberChangeWatcher.STATE_ID_PREFIX + INSTANCE_ID))
+                .first();
+        return state == null ? null : state.get(MemberChangeWatcher.TOKEN, Document.class);
+    }
+
+    private MongoCollection<Document> members() {
+        return mongoClient.getDatabase(databaseName).getCollection("members");
+    }
+
+    private static void await(String what, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting for " + what);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted waiting for " + what);
+            }
+        }
+    }
+
+    public static class ReplicaSetProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of(
+                    // An empty connection string counts as unset, so Dev Services start a replica set
+                    "quarkus.mongodb.connection-string", "",
+                    "quarkus.mongodb.devservices.enabled", "true",
+                    "mongodb.database", "kitchensink_coherence_it",
+                    "kitchensink.cache.coherence.enabled", "true",
+                    "kitchensink.cache.coherence.instance-id", INSTANCE_ID,
+                    "kitchensink.cache.coherence.checkpoint-interval", "100ms",
+                    "kitchensink.cache.coherence.retry-backoff", "100ms");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.mongodb.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+class MemberChangeWatcherTest {
+
+    private MemberCacheRegistry registry;
+    private MemberChangeWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(MemberCacheRegistry.class);
+        watcher = watcher(mock(MongoClient.class));
+    }
+
+    @Test
+    void testApply_InsertCachesNewEmail() {
+        ChangeStreamDocument<Document> event = event(OperationType.INSERT);
+        when(event.getFullDocument()).thenReturn(new Document("email", "jane@example.com"));
+
+        assertTrue(watcher.apply(event));
+
+        verify(registry).memberInserted("jane@example.com");
+    }
+
+    @Test
+    void testApply_UpdateOfEmailDropsUnknownPreviousEmail() {
+        ChangeStreamDocument<Document> event = event(OperationType.UPDATE);
+        when(event.getUpdateDescription()).thenReturn(new UpdateDescription(
+                List.of(), new BsonDocument("email", new BsonString("new@example.com"))));
+
+        watcher.apply(event);
+
+        verify(registry).emailChanged(null, "new@example.com");
+    }
+
+    @Test
+    void testApply_UpdateOfOtherFieldsLeavesCaches() {
+        ChangeStreamDocument<Document> event = event(OperationType.UPDATE);
+        when(event.getUpdateDescription()).thenReturn(new UpdateDescription(
+                List.of(), new BsonDocument("firstName", new BsonString("Jane"))));
+
+        watcher.apply(event);
+
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void testApply_DeleteDropsExistenceAndCounts() {
+        watcher.apply(event(OperationType.DELETE));
+
+        verify(registry).memberDeleted(null);
+    }
+
+    @Test
+    void testApply_DeleteWithPreImageOnlyDropsThatEmail() {
+        ChangeStreamDocument<Document> event = event(OperationType.DELETE);
+        when(event.getFullDocumentBeforeChange()).thenReturn(new Document("email", "old@example.com"));
+
+        watcher.apply(event);
+
+        verify(registry).memberDeleted("old@example.com");
+    }
+
+    @Test
+    void testApply_EmailUpdateWithPreImagePassesPreviousEmail() {
+        ChangeStreamDocument<Document> event = event(OperationType.UPDATE);
+        when(event.getUpdateDescription()).thenReturn(new UpdateDescription(
+                List.of(), new BsonDocument("email", new BsonString("new@example.com"))));
+        when(event.getFullDocumentBeforeChange()).thenReturn(new Document("email", "old@example.com"));
+
+        watcher.apply(event);
+
+        verify(registry).emailChanged("old@example.com", "new@example.com");
+    }
+
+    @Test
+    void testSupportsChangeStreams_FalseOnStandaloneServer() {
+        MongoClient mongoClient = mock(MongoClient.class);
+        MongoDatabase admin = mock(MongoDatabase.class);
+        when(mongoClient.getDatabase("admin")).thenReturn(admin);
+        when(admin.runCommand(any(Bson.class))).thenReturn(new Document("isWritablePrimary", true));
+
+        assertFalse(watcher(mongoClient).supportsChangeStreams());
+
+        when(admin.runCommand(any(Bson.class))).thenReturn(new Document("isWritablePrimary", true).append("setName", "rs0"));
+
+        assertTrue(watcher(mongoClient).supportsChangeStreams());
+    }
+
+    @Test
+    void testApply_InvalidateReopensStream() {
+        assertFalse(watcher.apply(event(OperationType.INVALIDATE)));
+
+        verify(registry).invalidateAll();
+    }
+
+    @Test
+    void testUpdateLag_FallsBackToTtlOncePerEpisode() {
+        watcher.updateLag(15_000);
+        watcher.updateLag(20_000);
+        watcher.updateLag(0);
+        watcher.updateLag(12_000);
+
+        verify(registry, times(2)).invalidateAll();
+        assertTrue(watcher.stats().lagging());
+    }
+
+    private MemberChangeWatcher watcher(MongoClient mongoClient) {
+        return new MemberChangeWatcher(mongoClient, registry, "testdb", "members", false, "cache_state", "node-1", true,
+                Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofSeconds(1), System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> event(OperationType type) {
+        ChangeStreamDocument<Document> event = mock(ChangeStreamDocument.class);
+        when(event.getOperationType()).thenReturn(type);
+        return event;
+    }
+}
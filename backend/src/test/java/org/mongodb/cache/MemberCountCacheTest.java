@@ -0,0 +1,55 @@
+package org.mongodb.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.CountMode;
+
+class MemberCountCacheTest {
+
+    private AtomicLong clock;
+    private MemberCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        cache = new MemberCountCache(Duration.ofSeconds(5), clock::get);
+    }
+
+    @Test
+    void testLookup_HitUntilTtlExpires() {
+        assertEquals(Optional.empty(), cache.lookup(CountMode.ESTIMATED));
+
+        cache.put(CountMode.ESTIMATED, 42);
+        assertEquals(Optional.of(42L), cache.lookup(CountMode.ESTIMATED));
+        assertEquals(Optional.empty(), cache.lookup(CountMode.EXACT));
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals(Optional.empty(), cache.lookup(CountMode.ESTIMATED));
+    }
+
+    @Test
+    void testInvalidateAll_DropsEveryMode() {
+        cache.put(CountMode.ESTIMATED, 42);
+        cache.put(CountMode.EXACT, 41);
+
+        cache.invalidateAll();
+
+        assertEquals(Optional.empty(), cache.lookup(CountMode.ESTIMATED));
+        assertEquals(Optional.empty(), cache.lookup(CountMode.EXACT));
+    }
+
+    @Test
+    void testZeroTtl_DisablesCaching() {
+        cache = new MemberCountCache(Duration.ZERO, clock::get);
+
+        cache.put(CountMode.EXACT, 42);
+
+        assertEquals(Optional.empty(), cache.lookup(CountMode.EXACT));
+    }
+}
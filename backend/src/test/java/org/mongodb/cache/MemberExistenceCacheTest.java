@@ -0,0 +1,87 @@
+package org.mongodb.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MemberExistenceCacheTest {
+
+    private AtomicLong clock;
+    private MemberExistenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        cache = new MemberExistenceCache(2, Duration.ofMinutes(10), Duration.ofSeconds(30), clock::get);
+    }
+
+    @Test
+    void testLookup_MissThenHit() {
+        assertEquals(Optional.empty(), cache.lookup("john@example.com"));
+
+        cache.put("john@example.com", true);
+
+        assertEquals(Optional.of(true), cache.lookup("john@example.com"));
+        assertEquals(1, cache.stats().positiveHits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void testNegativeEntry_ExpiresBeforePositive() {
+        cache.put("known@example.com", true);
+        cache.put("unknown@example.com", false);
+        assertEquals(Optional.of(false), cache.lookup("unknown@example.com"));
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertEquals(Optional.empty(), cache.lookup("unknown@example.com"));
+        assertEquals(Optional.of(true), cache.lookup("known@example.com"));
+        assertEquals(1, cache.stats().negativeHits());
+    }
+
+    @Test
+    void testPut_ReplacesOppositeAnswer() {
+        cache.put("john@example.com", false);
+        cache.put("john@example.com", true);
+
+        assertEquals(Optional.of(true), cache.lookup("john@example.com"));
+        assertEquals(0, cache.stats().negativeEntries());
+    }
+
+    @Test
+    void testPut_StaleNegativeAnswerKeepsConcurrentRegistration() {
+        // Given: a lookup missed, then the member registered before the lookup's answer was stored
+        cache.put("john@example.com", true);
+
+        // When
+        cache.put("john@example.com", false);
+
+        // Then
+        assertEquals(Optional.of(true), cache.lookup("john@example.com"));
+        assertEquals(0, cache.stats().negativeEntries());
+    }
+
+    @Test
+    void testInvalidate_RemovesEntry() {
+        cache.put("john@example.com", true);
+
+        cache.invalidate("john@example.com");
+
+        assertEquals(Optional.empty(), cache.lookup("john@example.com"));
+    }
+
+    @Test
+    void testPut_StaysWithinBound() {
+        cache.put("a@example.com", true);
+        cache.put("b@example.com", true);
+        cache.put("c@example.com", true);
+
+        assertEquals(2, cache.stats().positiveEntries());
+        assertEquals(Optional.of(true), cache.lookup("c@example.com"));
+    }
+}
@@ -0,0 +1,77 @@
+package org.mongodb.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    @Test
+    void testRun_ConcurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<Integer> leader = executor.submit(() -> singleFlight.run("key", () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<Integer> follower1 = executor.submit(() -> singleFlight.run("key", executions::incrementAndGet));
+            Future<Integer> follower2 = executor.submit(() -> singleFlight.run("key", executions::incrementAndGet));
+            // Give the followers time to attach to the in-flight call before releasing it
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+            assertEquals(1, follower1.get(5, TimeUnit.SECONDS));
+            assertEquals(1, follower2.get(5, TimeUnit.SECONDS));
+            assertEquals(1, executions.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRun_SequentialCallsExecuteAgain() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.run("key", executions::incrementAndGet);
+        singleFlight.run("key", executions::incrementAndGet);
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void testRun_FailureIsRethrownAndCleared() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.run("key", () -> {
+            throw new IllegalStateException("fail");
+        }));
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals(7, singleFlight.run("key", () -> 7));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
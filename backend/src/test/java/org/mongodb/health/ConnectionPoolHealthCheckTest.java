@@ -0,0 +1,46 @@
+package org.mongodb.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.Test;
+import org.mongodb.metrics.ConnectionPoolStats;
+import org.mongodb.metrics.ConnectionPoolStats.PoolStats;
+
+class ConnectionPoolHealthCheckTest {
+
+    @Test
+    void testCall_UpWhileAverageWaitBelowLimit() {
+        // Given
+        ConnectionPoolStats stats = mock(ConnectionPoolStats.class);
+        when(stats.snapshot()).thenReturn(
+                new PoolStats(10, 0, 0, 0, 0),
+                new PoolStats(10, 1, 100, 0, 100 * 1_000_000L));
+        ConnectionPoolHealthCheck check = new ConnectionPoolHealthCheck(stats, Duration.ofMillis(5));
+
+        // When
+        HealthCheckResponse response = check.call();
+
+        // Then
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
+        assertEquals(1L, response.getData().orElseThrow().get("waiting"));
+    }
+
+    @Test
+    void testCall_DownWhenAverageWaitSinceLastCallExceedsLimit() {
+        // Given
+        ConnectionPoolStats stats = mock(ConnectionPoolStats.class);
+        when(stats.snapshot()).thenReturn(
+                new PoolStats(10, 0, 100, 0, 100 * 1_000_000L),
+                new PoolStats(10, 25, 110, 0, 100 * 1_000_000L + 10 * 50_000_000L),
+                new PoolStats(10, 0, 110, 0, 100 * 1_000_000L + 10 * 50_000_000L));
+        ConnectionPoolHealthCheck check = new ConnectionPoolHealthCheck(stats, Duration.ofMillis(5));
+
+        // When / Then: 10 checkouts averaging 50ms since construction, none since
+        assertEquals(HealthCheckResponse.Status.DOWN, check.call().getStatus());
+        assertEquals(HealthCheckResponse.Status.UP, check.call().getStatus());
+    }
+}
@@ -0,0 +1,151 @@
+package org.mongodb.health;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mongodb.metrics.ConnectionPoolStats;
+import org.mongodb.metrics.ConnectionPoolStats.PoolStats;
+import org.mongodb.repository.index.IndexManager;
+
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+
+class ConnectionWarmupTest {
+
+    private MongoClient mongoClient;
+    private MongoDatabase database;
+    private MongoCollection<Document> collection;
+    private FindIterable<Document> findIterable;
+    private ConnectionPoolStats poolStats;
+    private IndexManager indexManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoClient = mock(MongoClient.class);
+        database = mock(MongoDatabase.class);
+        collection = mock(MongoCollection.class);
+        findIterable = mock(FindIterable.class);
+        poolStats = mock(ConnectionPoolStats.class);
+        indexManager = mock(IndexManager.class);
+        when(mongoClient.getDatabase("testdb")).thenReturn(database);
+        when(database.getCollection("members")).thenReturn(collection);
+        when(collection.find()).thenReturn(findIterable);
+        when(findIterable.limit(1)).thenReturn(findIterable);
+    }
+
+    @Test
+    void testWarmUp_PingsAndQueriesMembers() {
+        // Given
+        when(poolStats.snapshot()).thenReturn(new PoolStats(10, 0, 0, 0, 0));
+        ConnectionWarmup warmup = warmup(true, Duration.ofSeconds(30));
+
+        // When
+        warmup.warmUp();
+
+        // Then
+        InOrder order = inOrder(database, indexManager, findIterable);
+        order.verify(database).runCommand(any(Bson.class));
+        order.verify(indexManager).verify();
+        order.verify(findIterable).first();
+    }
+
+    @Test
+    void testWarmUp_ContinuesWhenPoolDoesNotFillInTime() {
+        when(poolStats.snapshot()).thenReturn(new PoolStats(2, 0, 0, 0, 0));
+        ConnectionWarmup warmup = warmup(true, Duration.ZERO);
+
+        assertDoesNotThrow(warmup::warmUp);
+    }
+
+    @Test
+    void testWarmUp_PropagatesUnreachableServer() {
+        when(database.runCommand(any(Bson.class))).thenThrow(new MongoTimeoutException("no server"));
+        ConnectionWarmup warmup = warmup(true, Duration.ofSeconds(30));
+
+        assertThrows(MongoTimeoutException.class, warmup::warmUp);
+        verifyNoInteractions(collection);
+    }
+
+    @Test
+    void testRun_RetriesUnexpectedFailuresUntilWarm() {
+        // Given
+        when(poolStats.snapshot()).thenReturn(new PoolStats(10, 0, 0, 0, 0));
+        when(database.runCommand(any(Bson.class)))
+                .thenThrow(new IllegalStateException("codec not ready"))
+                .thenReturn(new Document("ok", 1));
+        ConnectionWarmup warmup = new ConnectionWarmup(mongoClient, poolStats, indexManager, "testdb", "members", true, 10,
+                Duration.ofSeconds(30), Duration.ofMillis(1), System::currentTimeMillis);
+
+        // When
+        warmup.run();
+
+        // Then
+        assertTrue(warmup.isWarm());
+        assertNull(warmup.status().lastError());
+        verify(database, times(2)).runCommand(any(Bson.class));
+    }
+
+    @Test
+    void testRun_RetriesIndexVerificationBeforeQueryingMembers() {
+        // Given
+        when(poolStats.snapshot()).thenReturn(new PoolStats(10, 0, 0, 0, 0));
+        when(indexManager.verify())
+                .thenThrow(new IllegalStateException("Indexes: members collection drifted"))
+                .thenReturn(List.of());
+        ConnectionWarmup warmup = new ConnectionWarmup(mongoClient, poolStats, indexManager, "testdb", "members", true, 10,
+                Duration.ofSeconds(30), Duration.ofMillis(1), System::currentTimeMillis);
+
+        // When
+        warmup.run();
+
+        // Then
+        assertTrue(warmup.isWarm());
+        verify(indexManager, times(2)).verify();
+        verify(findIterable, times(1)).first();
+    }
+
+    @Test
+    void testReadiness_DownUntilWarmedUp() {
+        when(poolStats.snapshot()).thenReturn(new PoolStats(0, 0, 0, 0, 0));
+
+        HealthCheckResponse response = new WarmupReadinessCheck(warmup(true, Duration.ofSeconds(30))).call();
+
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+    }
+
+    @Test
+    void testReadiness_OnlyWaitsForIndexesWhenWarmupDisabled() {
+        // Given
+        when(poolStats.snapshot()).thenReturn(new PoolStats(0, 0, 0, 0, 0));
+        ConnectionWarmup warmup = warmup(false, Duration.ofSeconds(30));
+        WarmupReadinessCheck readiness = new WarmupReadinessCheck(warmup);
+        assertEquals(HealthCheckResponse.Status.DOWN, readiness.call().getStatus());
+
+        // When
+        warmup.run();
+
+        // Then
+        assertEquals(HealthCheckResponse.Status.UP, readiness.call().getStatus());
+        verify(indexManager).verify();
+        verifyNoInteractions(database);
+    }
+
+    private ConnectionWarmup warmup(boolean enabled, Duration timeout) {
+        return new ConnectionWarmup(mongoClient, poolStats, indexManager, "testdb", "members", enabled, 10, timeout,
+                Duration.ofSeconds(1), System::currentTimeMillis);
+    }
+}
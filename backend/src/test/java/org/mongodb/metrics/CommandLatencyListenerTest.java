@@ -0,0 +1,119 @@
+package org.mongodb.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mongodb.repository.index.QueryPlanInspector;
+
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.enterprise.inject.Instance;
+
+class CommandLatencyListenerTest {
+
+    private SimpleMeterRegistry registry;
+    private CommandLatencyListener listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        listener = new CommandLatencyListener(registry, mock(Instance.class), Duration.ofSeconds(1), false, 1);
+    }
+
+    @Test
+    void testCommandSucceeded_RecordsLatencyByShape() {
+        // When
+        run(1, "find", "{find: 'members', filter: {email: 'john@example.com'}}", 5);
+
+        // Then
+        Timer timer = registry.get(CommandLatencyListener.TIMER)
+                .tag("command", "find")
+                .tag("collection", "members")
+                .tag("shape", "{\"email\": \"?\"}")
+                .tag("outcome", "success")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(5, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void testCommandSucceeded_CapsDistinctShapes() {
+        run(1, "find", "{find: 'members', filter: {email: 'a'}}", 1);
+        run(2, "find", "{find: 'members', filter: {userId: 'b'}}", 1);
+
+        assertEquals(1, registry.get(CommandLatencyListener.TIMER)
+                .tag("shape", CommandLatencyListener.OTHER_SHAPE).timer().count());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCommandSucceeded_CapsDistinctShapesUnderConcurrency() throws Exception {
+        listener = new CommandLatencyListener(registry, mock(Instance.class), Duration.ofSeconds(1), false, 5);
+        List<Future<?>> commands = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 64; i++) {
+                int requestId = i;
+                commands.add(executor.submit(() ->
+                        run(requestId, "find", "{find: 'members', filter: {field" + requestId + ": 'x'}}", 1)));
+            }
+            for (Future<?> command : commands) {
+                command.get();
+            }
+        }
+
+        long shapes = registry.find(CommandLatencyListener.TIMER).timers().stream()
+                .map(timer -> timer.getId().getTag("shape"))
+                .filter(shape -> !CommandLatencyListener.OTHER_SHAPE.equals(shape))
+                .count();
+        assertEquals(5, shapes);
+        assertEquals(59, registry.get(CommandLatencyListener.TIMER)
+                .tag("shape", CommandLatencyListener.OTHER_SHAPE).timer().count());
+    }
+
+    @Test
+    void testCommandSucceeded_IgnoresHandshakes() {
+        run(1, "hello", "{hello: 1}", 1);
+
+        assertTrue(registry.find(CommandLatencyListener.TIMER).timers().isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSlowCommand_NotExplainedWhenDisabled() {
+        Instance<QueryPlanInspector> inspector = mock(Instance.class);
+        listener = new CommandLatencyListener(registry, inspector, Duration.ofMillis(1), false, 10);
+
+        run(1, "find", "{find: 'members', filter: {email: 'a'}}", 50);
+
+        verifyNoInteractions(inspector);
+    }
+
+    private void run(int requestId, String commandName, String command, long elapsedMillis) {
+        CommandStartedEvent started = mock(CommandStartedEvent.class);
+        when(started.getRequestId()).thenReturn(requestId);
+        when(started.getCommandName()).thenReturn(commandName);
+        when(started.getCommand()).thenReturn(BsonDocument.parse(command));
+
+        CommandSucceededEvent succeeded = mock(CommandSucceededEvent.class);
+        when(succeeded.getRequestId()).thenReturn(requestId);
+        when(succeeded.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+
+        listener.commandStarted(started);
+        listener.commandSucceeded(succeeded);
+    }
+}
@@ -0,0 +1,68 @@
+package org.mongodb.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+class CommandShapeTest {
+
+    @Test
+    void testOf_FindMasksFilterValues() {
+        // Given
+        BsonDocument command = BsonDocument.parse(
+            "{find: 'members', filter: {email: 'john@example.com'}, limit: 1, $db: 'kitchensink'}");
+
+        // When
+        CommandShape shape = CommandShape.of("find", command);
+
+        // Then
+        assertEquals("members", shape.collection());
+        assertEquals("{\"email\": \"?\"}", shape.shape());
+        assertEquals(1, shape.limit());
+        assertFalse(shape.shape().contains("john"));
+    }
+
+    @Test
+    void testOf_KeepsOperatorsAndLogicalBranches() {
+        BsonDocument command = BsonDocument.parse(
+            "{find: 'members', filter: {$or: [{_id: {$gt: {$oid: '689f3a9598292c14bf413125'}}}, {userId: {$exists: true}}]}}");
+
+        CommandShape shape = CommandShape.of("find", command);
+
+        assertEquals("{\"$or\": [{\"_id\": {\"$gt\": \"?\"}}, {\"userId\": {\"$exists\": true}}]}", shape.shape());
+    }
+
+    @Test
+    void testOf_UpdateUsesFirstStatementFilter() {
+        BsonDocument command = BsonDocument.parse(
+            "{update: 'members', updates: [{q: {_id: {$oid: '689f3a9598292c14bf413125'}}, u: {$set: {firstName: 'John'}}}]}");
+
+        CommandShape shape = CommandShape.of("update", command);
+
+        assertEquals("members", shape.collection());
+        assertEquals("{\"_id\": \"?\"}", shape.shape());
+        assertTrue(shape.hasFilter());
+    }
+
+    @Test
+    void testOf_AggregateMasksMatchStagesAndHidesOtherStages() {
+        BsonDocument command = BsonDocument.parse(
+            "{aggregate: 'members', pipeline: [{$match: {email: 'john@example.com'}}, {$count: 'total'}], cursor: {}}");
+
+        CommandShape shape = CommandShape.of("aggregate", command);
+
+        assertEquals("members", shape.collection());
+        assertEquals("{\"pipeline\": [{\"$match\": {\"email\": \"?\"}}, {\"$count\": \"?\"}]}", shape.shape());
+        assertFalse(shape.shape().contains("john"));
+    }
+
+    @Test
+    void testOf_CommandWithoutFilter() {
+        CommandShape shape = CommandShape.of("commitTransaction", BsonDocument.parse("{commitTransaction: 1}"));
+
+        assertEquals(CommandShape.NONE, shape.collection());
+        assertEquals(CommandShape.NONE, shape.shape());
+        assertFalse(shape.hasFilter());
+    }
+}
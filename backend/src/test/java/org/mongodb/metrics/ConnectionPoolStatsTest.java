@@ -0,0 +1,72 @@
+package org.mongodb.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mongodb.metrics.ConnectionPoolStats.PoolStats;
+
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.event.ConnectionReadyEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConnectionPoolStatsTest {
+
+    @Test
+    void testListener_TracksOpenConnectionsAndWaiters() {
+        // Given
+        ConnectionPoolStats stats = new ConnectionPoolStats(new SimpleMeterRegistry());
+        ConnectionPoolListener listener = stats.listener();
+
+        // When
+        listener.connectionReady(mock(ConnectionReadyEvent.class));
+        listener.connectionReady(mock(ConnectionReadyEvent.class));
+        listener.connectionClosed(mock(ConnectionClosedEvent.class));
+        listener.connectionCheckOutStarted(mock(ConnectionCheckOutStartedEvent.class));
+        listener.connectionCheckOutStarted(mock(ConnectionCheckOutStartedEvent.class));
+
+        // Then
+        PoolStats snapshot = stats.snapshot();
+        assertEquals(1, snapshot.openConnections());
+        assertEquals(2, snapshot.waiting());
+    }
+
+    @Test
+    void testCheckedOut_RecordsWaitTime() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConnectionPoolStats stats = new ConnectionPoolStats(registry);
+        ConnectionCheckedOutEvent event = mock(ConnectionCheckedOutEvent.class);
+        when(event.getElapsedTime(TimeUnit.NANOSECONDS)).thenReturn(TimeUnit.MILLISECONDS.toNanos(4));
+        stats.listener().connectionCheckOutStarted(mock(ConnectionCheckOutStartedEvent.class));
+
+        // When
+        stats.listener().connectionCheckedOut(event);
+
+        // Then
+        PoolStats snapshot = stats.snapshot();
+        assertEquals(0, snapshot.waiting());
+        assertEquals(1, snapshot.checkouts());
+        assertEquals(1, registry.get(ConnectionPoolStats.WAIT_TIMER).timer().count());
+        assertEquals(4.0, registry.get(ConnectionPoolStats.WAIT_TIMER).timer().totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testAverageWaitMillisSince_CountsOnlyNewCheckouts() {
+        ConnectionPoolStats stats = new ConnectionPoolStats(new SimpleMeterRegistry());
+        stats.checkedOut(TimeUnit.MILLISECONDS.toNanos(100));
+        PoolStats earlier = stats.snapshot();
+
+        stats.checkedOut(TimeUnit.MILLISECONDS.toNanos(2));
+        stats.checkOutFailed(TimeUnit.MILLISECONDS.toNanos(6));
+
+        assertEquals(4.0, stats.snapshot().averageWaitMillisSince(earlier), 0.001);
+        assertEquals(0.0, stats.snapshot().averageWaitMillisSince(stats.snapshot()));
+    }
+}
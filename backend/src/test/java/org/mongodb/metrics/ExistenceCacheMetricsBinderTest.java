@@ -0,0 +1,38 @@
+package org.mongodb.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.mongodb.cache.MemberExistenceCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExistenceCacheMetricsBinderTest {
+
+    @Test
+    void testBindTo_ReportsLookupsAndEntries() {
+        // Given
+        MemberExistenceCache cache = new MemberExistenceCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new ExistenceCacheMetricsBinder(cache).bindTo(registry);
+
+        // When
+        cache.put("john@example.com", true);
+        cache.lookup("john@example.com");
+        cache.lookup("jane@example.com");
+
+        // Then
+        assertEquals(1.0, registry.get(ExistenceCacheMetricsBinder.LOOKUPS).tag("result", "positive_hit").functionCounter().count());
+        assertEquals(1.0, registry.get(ExistenceCacheMetricsBinder.LOOKUPS).tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get(ExistenceCacheMetricsBinder.ENTRIES).tag("kind", "positive").gauge().value());
+    }
+
+    @Test
+    void testLatencyHistograms_OnlyApplyToEndpointAndApplicationTimers() {
+        assertTrue(LatencyHistograms.isLatency("http.server.requests"));
+        assertTrue(LatencyHistograms.isLatency("kitchensink.repository"));
+        assertFalse(LatencyHistograms.isLatency("mongodb.driver.pool.size"));
+    }
+}
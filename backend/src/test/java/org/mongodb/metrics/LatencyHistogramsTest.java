@@ -0,0 +1,55 @@
+package org.mongodb.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LatencyHistogramsTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new LatencyHistograms().enableLatencyHistograms());
+    }
+
+    @Test
+    void testApplicationTimer_PublishesPercentileHistogram() {
+        Meter.Id id = new Meter.Id("kitchensink.members.register", Tags.empty(), null, null, Meter.Type.TIMER);
+
+        DistributionStatisticConfig config = new LatencyHistograms().enableLatencyHistograms()
+                .configure(id, DistributionStatisticConfig.DEFAULT);
+
+        assertTrue(config.isPercentileHistogram());
+    }
+
+    @Test
+    void testCommandTimer_PublishesOnlyFixedBuckets() {
+        Timer timer = Timer.builder(CommandLatencyListener.TIMER).register(registry);
+        timer.record(Duration.ofMillis(3));
+
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+        assertEquals(LatencyHistograms.COMMAND_BUCKETS_NANOS.length, buckets.length);
+        assertEquals(5, buckets[1].bucket(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, buckets[1].count(), 0.001);
+    }
+
+    @Test
+    void testUnrelatedTimer_IsLeftAlone() {
+        Timer timer = Timer.builder("jvm.gc.pause").register(registry);
+
+        assertEquals(0, timer.takeSnapshot().histogramCounts().length);
+    }
+}
@@ -0,0 +1,53 @@
+package org.mongodb.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.EnumSet;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class MemberProjectionTest {
+
+    @Test
+    void testParse_BlankMeansAllFields() {
+        assertSame(MemberProjection.ALL, MemberProjection.parse(null));
+        assertSame(MemberProjection.ALL, MemberProjection.parse(" "));
+        assertNull(MemberProjection.ALL.toBson());
+    }
+
+    @Test
+    void testParse_SelectsRequestedFields() {
+        // When
+        MemberProjection projection = MemberProjection.parse("firstName, email");
+
+        // Then
+        assertEquals(EnumSet.of(MemberField.FIRST_NAME, MemberField.EMAIL), projection.fields());
+        assertFalse(projection.isAll());
+        Document bson = Document.parse(projection.toBson().toBsonDocument().toJson());
+        assertEquals(1, bson.get("firstName"));
+        assertEquals(1, bson.get("email"));
+        assertEquals(1, bson.get("version"));
+        assertFalse(bson.containsKey("phoneNumber"));
+    }
+
+    @Test
+    void testParse_UnknownFieldIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MemberProjection.parse("firstName,password"));
+    }
+
+    @Test
+    void testMemberView_OnlyKeepsRequestedFields() {
+        // Given
+        Member member = new Member(new ObjectId(), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+
+        // When
+        MemberView view = MemberView.of(member, MemberProjection.parse("email"));
+
+        // Then
+        assertEquals("john@example.com", view.email());
+        assertNull(view.id());
+        assertNull(view.firstName());
+    }
+}
@@ -0,0 +1,29 @@
+package org.mongodb.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class MemberSearchRequestTest {
+
+    @Test
+    void testNormalize_IgnoresCaseAccentsAndPadding() {
+        assertEquals("zoe", MemberSearchRequest.normalize(" Zo\u00eb "));
+        assertEquals("jose@example.com", MemberSearchRequest.normalize("Jos\u00e9@Example.com"));
+        assertNull(MemberSearchRequest.normalize(null));
+    }
+
+    @Test
+    void testPrefix_IsNormalized() {
+        MemberSearchRequest request = MemberSearchRequest.of("  JO ", 10, null);
+
+        assertEquals("jo", request.prefix());
+        assertSame(MemberProjection.ALL, request.projection());
+    }
+
+    @Test
+    void testPrefix_TooShortIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MemberSearchRequest.of("j", 10, null));
+        assertThrows(IllegalArgumentException.class, () -> MemberSearchRequest.of(null, 10, null));
+    }
+}
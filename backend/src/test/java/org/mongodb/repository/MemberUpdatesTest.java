@@ -0,0 +1,53 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.Member;
+
+import com.mongodb.MongoClientSettings;
+
+class MemberUpdatesTest {
+
+    @Test
+    void testUpdate_SetsChangedFieldsAndTheirKeysOnly() {
+        Member member = new Member(new ObjectId(), null, null, "Zo\u00eb", "Doe", null, "1234567890");
+
+        BsonDocument set = render(MemberUpdates.update(member)).getDocument("$set");
+
+        assertEquals("Zo\u00eb", set.getString("firstName").getValue());
+        assertEquals("zoe", set.getString(MemberSearchKeys.FIRST_NAME).getValue());
+        assertEquals("doe", set.getString(MemberSearchKeys.LAST_NAME).getValue());
+        assertFalse(set.containsKey(MemberSearchKeys.EMAIL));
+        assertEquals(5, set.size());
+    }
+
+    @Test
+    void testUpdate_IncrementsVersionInsteadOfSettingIt() {
+        Member member = new Member(new ObjectId(), null, null, "Jane", null, null, null).withVersion(7L);
+
+        BsonDocument update = render(MemberUpdates.update(member));
+
+        assertFalse(update.getDocument("$set").containsKey(MemberUpdates.VERSION));
+        assertEquals(1L, update.getDocument("$inc").getInt64(MemberUpdates.VERSION).getValue());
+    }
+
+    @Test
+    void testInsert_OnlyUsesSetOnInsert() {
+        Member member = new Member(null, "user-id", "johndoe", "John", "Doe", "John@Example.com", null);
+
+        BsonDocument update = render(MemberUpdates.insert(member));
+
+        assertEquals(1, update.size());
+        BsonDocument setOnInsert = update.getDocument("$setOnInsert");
+        assertEquals("john@example.com", setOnInsert.getString(MemberSearchKeys.EMAIL).getValue());
+        assertEquals(MemberUpdates.INITIAL_VERSION, setOnInsert.getInt64(MemberUpdates.VERSION).getValue());
+    }
+
+    private static BsonDocument render(Bson update) {
+        return update.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+}
@@ -0,0 +1,76 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+
+class MongoCollectionOpsTest {
+
+    private MongoTransactionManager transactionManager;
+    private ClientSession session;
+    private MongoCollection<Document> collection;
+    private MongoCollectionOps ops;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transactionManager = mock(MongoTransactionManager.class);
+        session = mock(ClientSession.class);
+        collection = mock(MongoCollection.class);
+        when(transactionManager.session()).thenReturn(session);
+        ops = new MongoCollectionOps(transactionManager, new ReadRouting("secondaryPreferred", Duration.ofSeconds(90)));
+    }
+
+    @Test
+    void testDeleteOne_OutsideTransactionRunsOnRequestSession() {
+        Bson filter = Filters.eq("email", "john@example.com");
+
+        ops.deleteOne(collection, filter);
+
+        verify(collection).deleteOne(session, filter);
+        verify(collection, never()).deleteOne(any(Bson.class));
+        verify(session, never()).startTransaction();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCountDocuments_RelaxedAfterWriteReadsMajorityOnSession() {
+        // Given: the request has already written through its session
+        MongoCollection<Document> secondary = mock(MongoCollection.class);
+        MongoCollection<Document> majority = mock(MongoCollection.class);
+        when(transactionManager.getClientSession()).thenReturn(Optional.of(session));
+        when(collection.withReadPreference(any(ReadPreference.class))).thenReturn(secondary);
+        when(secondary.withReadConcern(ReadConcern.MAJORITY)).thenReturn(majority);
+
+        // When
+        ops.countDocuments(collection, Optional.empty(), ReadProfile.RELAXED);
+
+        // Then
+        verify(majority).countDocuments(any(ClientSession.class), any(Bson.class));
+    }
+
+    @Test
+    void testCountDocuments_RelaxedWithoutSessionSkipsIt() {
+        when(transactionManager.getClientSession()).thenReturn(Optional.empty());
+        when(collection.withReadPreference(any(ReadPreference.class))).thenReturn(collection);
+
+        ops.countDocuments(collection, Optional.empty(), ReadProfile.RELAXED);
+
+        verify(collection).countDocuments(any(Bson.class));
+        verify(transactionManager, never()).session();
+    }
+}
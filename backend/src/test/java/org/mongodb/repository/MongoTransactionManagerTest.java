@@ -2,8 +2,14 @@ package org.mongodb.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
 import com.mongodb.TransactionOptions;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
@@ -15,13 +21,15 @@ class MongoTransactionManagerTest {
     private MongoClient mockMongoClient;
     private ClientSession mockSession;
     private MongoTransactionManager txManager;
+    private TransactionMetrics metrics;
 
     @BeforeEach
     void setUp() {
         mockMongoClient = mock(MongoClient.class);
         mockSession = mock(ClientSession.class);
-        when(mockMongoClient.startSession()).thenReturn(mockSession);
-        txManager = new MongoTransactionManager(mockMongoClient);
+        when(mockMongoClient.startSession(any(ClientSessionOptions.class))).thenReturn(mockSession);
+        metrics = new TransactionMetrics();
+        txManager = newManager(3);
     }
 
     @Test
@@ -42,7 +50,7 @@ class MongoTransactionManagerTest {
 
     @Test
     void testExecute_WithActiveTransaction_DoesNotStartOrCommit() {
-        txManager = new MongoTransactionManager(mockMongoClient);
+        txManager = newManager(3);
 
         Function<ClientSession, Integer> callback = session -> {
             when(mockSession.hasActiveTransaction()).thenReturn(true);
@@ -76,4 +84,123 @@ class MongoTransactionManagerTest {
         assertTrue(thrown.getMessage().contains("Transaction failed"));
         verify(mockSession).abortTransaction();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExecute_RetriesTransientErrorAndCommits() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<ClientSession, String> callback = session -> {
+            if (calls.incrementAndGet() == 1) {
+                throw labelled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+            }
+            return "success";
+        };
+
+        Optional<String> result = txManager.execute(callback);
+
+        assertEquals("success", result.get());
+        verify(mockSession, times(2)).startTransaction(any(TransactionOptions.class));
+        verify(mockSession).abortTransaction();
+        verify(mockSession).commitTransaction();
+        verify(mockMongoClient, times(1)).startSession(any(ClientSessionOptions.class));
+        assertEquals(new TransactionMetrics.TransactionStats(2, 1, 1, 0, 1, 0), metrics.stats());
+    }
+
+    @Test
+    void testExecute_GivesUpAfterMaxAttempts() {
+        Function<ClientSession, String> callback = session -> {
+            throw labelled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        };
+
+        assertThrows(TransactionConflictException.class, () -> txManager.execute(callback));
+
+        verify(mockSession, times(3)).startTransaction(any(TransactionOptions.class));
+        verify(mockSession, never()).commitTransaction();
+        assertEquals(new TransactionMetrics.TransactionStats(3, 0, 3, 0, 3, 1), metrics.stats());
+    }
+
+    @Test
+    void testExecute_DoesNotRetryNonTransientError() {
+        Function<ClientSession, String> callback = session -> {
+            throw new MongoException(11000, "duplicate key");
+        };
+
+        assertThrows(RuntimeException.class, () -> txManager.execute(callback));
+
+        verify(mockSession, times(1)).startTransaction(any(TransactionOptions.class));
+        assertEquals(1, metrics.stats().failures());
+    }
+
+    @Test
+    void testExecute_RetriesCommitWithUnknownResult() {
+        doThrow(labelled(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL))
+                .doNothing()
+                .when(mockSession).commitTransaction();
+
+        Optional<String> result = txManager.execute(session -> "success");
+
+        assertEquals("success", result.get());
+        verify(mockSession, times(1)).startTransaction(any(TransactionOptions.class));
+        verify(mockSession, times(2)).commitTransaction();
+        verify(mockSession, never()).abortTransaction();
+        assertEquals(1, metrics.stats().commitRetries());
+    }
+
+    @Test
+    void testAfterCommit_RunsOnceTheOutermostTransactionCommits() {
+        List<String> events = new ArrayList<>();
+        doAnswer(invocation -> events.add("commit")).when(mockSession).commitTransaction();
+
+        txManager.execute(session -> {
+            txManager.afterCommit(() -> events.add("after commit"));
+            when(mockSession.hasActiveTransaction()).thenReturn(true);
+            return txManager.execute(s -> {
+                txManager.afterCommit(() -> events.add("nested after commit"));
+                return "nested";
+            });
+        });
+
+        assertEquals(List.of("commit", "after commit", "nested after commit"), events);
+    }
+
+    @Test
+    void testAfterCommit_DropsActionsOfRolledBackAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger actions = new AtomicInteger();
+        Function<ClientSession, String> callback = session -> {
+            txManager.afterCommit(actions::incrementAndGet);
+            if (calls.incrementAndGet() == 1) {
+                throw labelled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+            }
+            return "success";
+        };
+
+        txManager.execute(callback);
+
+        assertEquals(2, calls.get());
+        assertEquals(1, actions.get());
+    }
+
+    @Test
+    void testAfterCommit_NeverRunsWhenTheTransactionFails() {
+        AtomicInteger actions = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> txManager.execute(session -> {
+            txManager.afterCommit(actions::incrementAndGet);
+            throw new MongoException(11000, "duplicate key");
+        }));
+        txManager.afterCommit(actions::incrementAndGet);
+
+        assertEquals(1, actions.get());
+    }
+
+    private MongoTransactionManager newManager(int maxAttempts) {
+        TransactionRetryPolicy retryPolicy = new TransactionRetryPolicy(maxAttempts, Duration.ZERO, Duration.ZERO);
+        return new MongoTransactionManager(mockMongoClient, retryPolicy, metrics);
+    }
+
+    private static MongoException labelled(String label) {
+        MongoException exception = new MongoException(112, "WriteConflict");
+        exception.addLabel(label);
+        return exception;
+    }
+}
@@ -0,0 +1,93 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
+import com.mongodb.TransactionOptions;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+
+import jakarta.interceptor.InvocationContext;
+
+class MongoTransactionalInterceptorTest {
+
+    private ClientSession session;
+    private MongoTransactionManager transactionManager;
+    private MongoTransactionalInterceptor interceptor;
+    private InvocationContext context;
+
+    @BeforeEach
+    void setUp() {
+        MongoClient mongoClient = mock(MongoClient.class);
+        session = mock(ClientSession.class);
+        when(mongoClient.startSession(any(ClientSessionOptions.class))).thenReturn(session);
+        TransactionRetryPolicy retryPolicy = new TransactionRetryPolicy(3, Duration.ZERO, Duration.ZERO);
+        transactionManager = new MongoTransactionManager(mongoClient, retryPolicy, new TransactionMetrics());
+        interceptor = new MongoTransactionalInterceptor(transactionManager);
+        context = mock(InvocationContext.class);
+    }
+
+    @Test
+    void testInTransaction_CommitsOnceAroundTheMethod() throws Exception {
+        // Given
+        when(context.proceed()).thenAnswer(invocation -> {
+            // Writes made by the method see the interceptor's session
+            assertTrue(transactionManager.getClientSession().isPresent());
+            return "done";
+        });
+
+        // When
+        Object result = interceptor.inTransaction(context);
+
+        // Then
+        assertEquals("done", result);
+        verify(session).startTransaction(any(TransactionOptions.class));
+        verify(session).commitTransaction();
+    }
+
+    @Test
+    void testInTransaction_VoidMethodReturnsNull() throws Exception {
+        when(context.proceed()).thenReturn(null);
+
+        assertNull(interceptor.inTransaction(context));
+        verify(session).commitTransaction();
+    }
+
+    @Test
+    void testInTransaction_RethrowsWhatTheMethodThrew() throws Exception {
+        // Given
+        IllegalArgumentException failure = new IllegalArgumentException("bad id");
+        when(context.proceed()).thenThrow(failure);
+
+        // When
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> interceptor.inTransaction(context));
+
+        // Then
+        assertSame(failure, thrown);
+        verify(session).abortTransaction();
+        verify(session, never()).commitTransaction();
+    }
+
+    @Test
+    void testInTransaction_RerunsMethodOnTransientError() throws Exception {
+        // Given
+        MongoException conflict = new MongoException(112, "WriteConflict");
+        conflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        when(context.proceed()).thenThrow(conflict).thenReturn("done");
+
+        // When
+        Object result = interceptor.inTransaction(context);
+
+        // Then
+        assertEquals("done", result);
+        verify(context, times(2)).proceed();
+        verify(session).commitTransaction();
+    }
+}
@@ -0,0 +1,198 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberSort;
+
+class PageCursorTest {
+    private static final MemberSort BY_LAST_NAME = new MemberSort(MemberField.LAST_NAME, false);
+
+    @Test
+    void testEncodeDecode_RoundTrips() {
+        // Given
+        Member last = new Member(new ObjectId(), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        PageCursor cursor = PageCursor.after(last, BY_LAST_NAME);
+
+        // When
+        String token = cursor.encode();
+        PageCursor decoded = PageCursor.decode(token, BY_LAST_NAME);
+
+        // Then
+        assertEquals(cursor, decoded);
+        assertEquals(new BsonString("Doe"), decoded.value());
+        assertFalse(token.contains("Doe"));
+    }
+
+    @Test
+    void testDecode_RejectsCursorForAnotherSort() {
+        Member last = new Member(new ObjectId(), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        String token = PageCursor.after(last, BY_LAST_NAME).encode();
+
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(token, MemberSort.parse("-lastName")));
+    }
+
+    @Test
+    void testDecode_RejectsGarbage() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor", MemberSort.DEFAULT));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("AAAA", BY_LAST_NAME));
+    }
+
+    @Test
+    void testDecode_AcceptsLegacyObjectIdForDefaultSort() {
+        ObjectId id = new ObjectId();
+
+        assertEquals(id, PageCursor.decode(id.toHexString(), MemberSort.DEFAULT).id());
+    }
+
+    @Test
+    void testPage_UsesExtraMemberOnlyToDetectNextPage() {
+        // Given
+        Member first = new Member(new ObjectId(), "u1", "a", "Ann", "Able", "ann@example.com", "1234567890");
+        Member second = new Member(new ObjectId(), "u2", "b", "Bob", "Baker", "bob@example.com", "1234567890");
+
+        // When
+        CursorPage<Member> full = PageCursor.page(List.of(first, second), 1, BY_LAST_NAME);
+        CursorPage<Member> last = PageCursor.page(List.of(first), 1, BY_LAST_NAME);
+
+        // Then
+        assertEquals(List.of(first), full.data());
+        assertEquals(first.id(), PageCursor.decode(full.nextCursor(), BY_LAST_NAME).id());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void testAfter_TiebreaksOnIdForNonUniqueKeys() {
+        PageCursor cursor = new PageCursor(BY_LAST_NAME, new BsonString("Doe"), new ObjectId("689f3a9598292c14bf413125"));
+
+        BsonDocument filter = MemberQueries.after(cursor).toBsonDocument();
+
+        assertEquals(BsonDocument.parse(
+            "{$or: [{lastName: {$gt: 'Doe'}}, {$and: [{lastName: 'Doe'}, {_id: {$gt: {$oid: '689f3a9598292c14bf413125'}}}]}]}"),
+            filter);
+    }
+
+    @Test
+    void testAfter_NullValueAscendingContinuesIntoMembersWithTheKey() {
+        PageCursor cursor = new PageCursor(BY_LAST_NAME, BsonNull.VALUE, new ObjectId("689f3a9598292c14bf413125"));
+
+        BsonDocument filter = MemberQueries.after(cursor).toBsonDocument();
+
+        assertEquals(BsonDocument.parse(
+            "{$or: [{$and: [{lastName: null}, {_id: {$gt: {$oid: '689f3a9598292c14bf413125'}}}]}, {lastName: {$ne: null}}]}"),
+            filter);
+    }
+
+    @Test
+    void testPaging_AscendingWalksMembersWithoutSortKey() {
+        assertWalksEveryMember(BY_LAST_NAME);
+    }
+
+    @Test
+    void testPaging_DescendingWalksMembersWithoutSortKey() {
+        assertWalksEveryMember(MemberSort.parse("-lastName"));
+    }
+
+    // Pages through members, some without a last name, the way the repository does, with 2 per page
+    private static void assertWalksEveryMember(MemberSort sort) {
+        List<Member> members = new ArrayList<>();
+        for (String lastName : new String[] {null, "Doe", null, "Able", "Doe", null, "Zed"}) {
+            members.add(new Member(new ObjectId(), "u", "user", "First", lastName, new ObjectId() + "@example.com", "1234567890"));
+        }
+        Comparator<Member> order = Comparator
+                .comparing(Member::lastName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+                .thenComparing(Member::id);
+        if (sort.descending()) {
+            order = order.reversed();
+        }
+        List<Member> expected = members.stream().sorted(order).toList();
+
+        List<Member> walked = new ArrayList<>();
+        String token = null;
+        do {
+            PageCursor cursor = token == null ? null : PageCursor.decode(token, sort);
+            List<Member> fetched = members.stream()
+                    .filter(member -> cursor == null || matches(document(member), MemberQueries.after(cursor).toBsonDocument()))
+                    .sorted(order)
+                    .limit(3)
+                    .toList();
+            CursorPage<Member> page = PageCursor.page(fetched, 2, sort);
+            walked.addAll(page.data());
+            token = page.nextCursor();
+        } while (token != null);
+
+        assertEquals(expected, walked);
+    }
+
+    private static BsonDocument document(Member member) {
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(member.id()));
+        if (member.lastName() != null) {
+            document.append("lastName", new BsonString(member.lastName()));
+        }
+        return document;
+    }
+
+    // Just the operators MemberQueries#after uses, with the server's null and type bracketing rules
+    private static boolean matches(BsonDocument document, BsonDocument filter) {
+        for (Map.Entry<String, BsonValue> clause : filter.entrySet()) {
+            String key = clause.getKey();
+            BsonValue condition = clause.getValue();
+            boolean matched = switch (key) {
+                case "$or" -> condition.asArray().stream().anyMatch(branch -> matches(document, branch.asDocument()));
+                case "$and" -> condition.asArray().stream().allMatch(branch -> matches(document, branch.asDocument()));
+                default -> matchesField(document.get(key), condition);
+            };
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesField(BsonValue value, BsonValue condition) {
+        if (!condition.isDocument() || !condition.asDocument().getFirstKey().startsWith("$")) {
+            return isEqual(value, condition);
+        }
+        for (Map.Entry<String, BsonValue> operator : condition.asDocument().entrySet()) {
+            BsonValue operand = operator.getValue();
+            boolean comparable = value != null && value.getBsonType() == operand.getBsonType();
+            boolean matched = switch (operator.getKey()) {
+                case "$gt" -> comparable && compare(value, operand) > 0;
+                case "$lt" -> comparable && compare(value, operand) < 0;
+                case "$ne" -> !isEqual(value, operand);
+                default -> throw new IllegalArgumentException("unsupported operator " + operator.getKey());
+            };
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEqual(BsonValue value, BsonValue expected) {
+        if (expected.isNull()) {
+            return value == null || value.isNull();
+        }
+        return expected.equals(value);
+    }
+
+    private static int compare(BsonValue value, BsonValue operand) {
+        return value.isObjectId()
+                ? value.asObjectId().getValue().compareTo(operand.asObjectId().getValue())
+                : value.asString().getValue().compareTo(operand.asString().getValue());
+    }
+}
@@ -0,0 +1,166 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoException;
+import com.mongodb.TransactionOptions;
+import com.mongodb.reactivestreams.client.ClientSession;
+import io.quarkus.mongodb.reactive.ReactiveMongoClient;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReactiveMongoTransactionManagerTest {
+
+    private ReactiveMongoClient mockMongoClient;
+    private ClientSession mockSession;
+    private ReactiveMongoTransactionManager txManager;
+    private TransactionMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        mockMongoClient = mock(ReactiveMongoClient.class);
+        mockSession = mock(ClientSession.class);
+        when(mockMongoClient.startSession(any(ClientSessionOptions.class))).thenReturn(Uni.createFrom().item(mockSession));
+        when(mockSession.commitTransaction()).thenAnswer(invocation -> completed());
+        when(mockSession.abortTransaction()).thenAnswer(invocation -> completed());
+        metrics = new TransactionMetrics();
+        txManager = newManager(3);
+    }
+
+    @Test
+    void testExecute_CommitsTransactionAndReturnsResult() {
+        Function<ClientSession, Uni<String>> callback = session -> Uni.createFrom().item("success");
+        String result = txManager.execute(callback).await().indefinitely();
+
+        assertEquals("success", result);
+        verify(mockSession).startTransaction(any(TransactionOptions.class));
+        verify(mockSession).commitTransaction();
+        verify(mockSession, never()).abortTransaction();
+    }
+
+    @Test
+    void testExecute_WithActiveTransaction_DoesNotStartOrCommit() {
+        Function<ClientSession, Uni<Integer>> callback = session -> {
+            when(mockSession.hasActiveTransaction()).thenReturn(true);
+            return txManager.execute(s -> Uni.createFrom().item("test"))
+                    .invoke(nested -> assertEquals("test", nested))
+                    .replaceWith(42);
+        };
+        Integer result = txManager.execute(callback).await().indefinitely();
+
+        assertEquals(42, result);
+        verify(mockSession, times(1)).startTransaction(any(TransactionOptions.class));
+        verify(mockSession, times(1)).commitTransaction();
+    }
+
+    @Test
+    void testExecute_WhenCallbackFails_AbortsTransactionAndFails() {
+        Function<ClientSession, Uni<String>> callback = session -> Uni.createFrom().failure(new RuntimeException("fail"));
+
+        RuntimeException thrown = assertThrows(RuntimeException.class,
+                () -> txManager.execute(callback).await().indefinitely());
+
+        assertTrue(thrown.getMessage().contains("Transaction failed"));
+        verify(mockSession).abortTransaction();
+        verify(mockSession, never()).commitTransaction();
+    }
+
+    @Test
+    void testExecute_RetriesTransientErrorAndCommits() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<ClientSession, Uni<String>> callback = session -> calls.incrementAndGet() == 1
+                ? Uni.createFrom().failure(labelled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL))
+                : Uni.createFrom().item("success");
+
+        String result = txManager.execute(callback).await().indefinitely();
+
+        assertEquals("success", result);
+        verify(mockSession, times(2)).startTransaction(any(TransactionOptions.class));
+        verify(mockSession).abortTransaction();
+        verify(mockSession).commitTransaction();
+        verify(mockMongoClient, times(1)).startSession(any(ClientSessionOptions.class));
+        assertEquals(new TransactionMetrics.TransactionStats(2, 1, 1, 0, 1, 0), metrics.stats());
+    }
+
+    @Test
+    void testExecute_GivesUpAfterMaxAttempts() {
+        Function<ClientSession, Uni<String>> callback = session ->
+                Uni.createFrom().failure(labelled(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL));
+
+        assertThrows(TransactionConflictException.class, () -> txManager.execute(callback).await().indefinitely());
+
+        verify(mockSession, times(3)).startTransaction(any(TransactionOptions.class));
+        verify(mockSession, never()).commitTransaction();
+        assertEquals(new TransactionMetrics.TransactionStats(3, 0, 3, 0, 3, 1), metrics.stats());
+    }
+
+    @Test
+    void testExecute_DoesNotRetryNonTransientError() {
+        Function<ClientSession, Uni<String>> callback = session ->
+                Uni.createFrom().failure(new MongoException(11000, "duplicate key"));
+
+        assertThrows(RuntimeException.class, () -> txManager.execute(callback).await().indefinitely());
+
+        verify(mockSession, times(1)).startTransaction(any(TransactionOptions.class));
+        assertEquals(1, metrics.stats().failures());
+    }
+
+    @Test
+    void testExecute_RetriesCommitWithUnknownResult() {
+        AtomicInteger commits = new AtomicInteger();
+        when(mockSession.commitTransaction()).thenAnswer(invocation -> commits.incrementAndGet() == 1
+                ? failed(labelled(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL))
+                : completed());
+
+        String result = txManager.execute(session -> Uni.createFrom().item("success")).await().indefinitely();
+
+        assertEquals("success", result);
+        verify(mockSession, times(1)).startTransaction(any(TransactionOptions.class));
+        assertEquals(2, commits.get());
+        verify(mockSession, never()).abortTransaction();
+        assertEquals(1, metrics.stats().commitRetries());
+    }
+
+    private ReactiveMongoTransactionManager newManager(int maxAttempts) {
+        // Mutiny rejects a zero backoff, so the smallest positive one keeps retries immediate
+        TransactionRetryPolicy retryPolicy = new TransactionRetryPolicy(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(1));
+        return new ReactiveMongoTransactionManager(mockMongoClient, retryPolicy, metrics);
+    }
+
+    private static MongoException labelled(String label) {
+        MongoException exception = new MongoException(112, "WriteConflict");
+        exception.addLabel(label);
+        return exception;
+    }
+
+    private static Publisher<Void> completed() {
+        return subscriber -> {
+            subscriber.onSubscribe(NO_DEMAND);
+            subscriber.onComplete();
+        };
+    }
+
+    private static Publisher<Void> failed(Throwable failure) {
+        return subscriber -> {
+            subscriber.onSubscribe(NO_DEMAND);
+            subscriber.onError(failure);
+        };
+    }
+
+    private static final Subscription NO_DEMAND = new Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+}
@@ -0,0 +1,49 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+
+class ReadRoutingTest {
+
+    @Test
+    void testPreference_PrimaryProfileAlwaysReadsPrimary() {
+        ReadRouting routing = new ReadRouting("secondary", Duration.ofSeconds(120));
+
+        assertEquals(ReadPreference.primary(), routing.preference(ReadProfile.PRIMARY));
+    }
+
+    @Test
+    void testPreference_RelaxedProfileIsBoundedByMaxStaleness() {
+        ReadRouting routing = new ReadRouting("secondaryPreferred", Duration.ofSeconds(120));
+
+        ReadPreference relaxed = routing.preference(ReadProfile.RELAXED);
+
+        assertEquals(ReadPreference.secondaryPreferred().getName(), relaxed.getName());
+        assertEquals(120L, ((TaggableReadPreference) relaxed).getMaxStaleness(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testRelaxedPreference_ZeroStalenessIsUnbounded() {
+        ReadPreference relaxed = ReadRouting.relaxedPreference("nearest", Duration.ZERO);
+
+        assertEquals(ReadPreference.nearest(), relaxed);
+    }
+
+    @Test
+    void testRelaxedPreference_PrimaryTakesNoBound() {
+        assertEquals(ReadPreference.primary(), ReadRouting.relaxedPreference("primary", Duration.ofSeconds(120)));
+    }
+
+    @Test
+    void testRelaxedPreference_RejectsStalenessBelowServerMinimum() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ReadRouting.relaxedPreference("secondaryPreferred", Duration.ofSeconds(30)));
+    }
+}
@@ -0,0 +1,62 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.Member;
+
+import com.mongodb.MongoClientSettings;
+
+class RecordUpdatePlanTest {
+
+    @Test
+    void testSet_SkipsNullFieldsAndId() {
+        Member member = new Member(new ObjectId(), null, null, "John", "Doe", null, "1234567890");
+
+        BsonDocument update = render(RecordUpdatePlan.forType(Member.class).set(member));
+
+        BsonDocument set = update.getDocument("$set");
+        assertEquals(3, set.size());
+        assertEquals("John", set.getString("firstName").getValue());
+        assertEquals("Doe", set.getString("lastName").getValue());
+        assertEquals("1234567890", set.getString("phoneNumber").getValue());
+        assertFalse(set.containsKey("_id"));
+        assertFalse(set.containsKey("id"));
+    }
+
+    @Test
+    void testSetOnInsert_IncludesIdAsUnderscoreId() {
+        ObjectId id = new ObjectId();
+        Member member = new Member(id, "user-id", "johndoe", "John", "Doe", "john@example.com", null);
+
+        BsonDocument update = render(RecordUpdatePlan.forType(Member.class).setOnInsert(member));
+
+        BsonDocument setOnInsert = update.getDocument("$setOnInsert");
+        assertEquals(id, setOnInsert.getObjectId("_id").getValue());
+        assertEquals(6, setOnInsert.size());
+    }
+
+    @Test
+    void testSet_AllNullFieldsProducesEmptyUpdate() {
+        Member member = new Member(new ObjectId(), null, null, null, null, null, null);
+
+        assertTrue(render(RecordUpdatePlan.forType(Member.class).set(member)).isEmpty());
+    }
+
+    @Test
+    void testForType_IsCachedPerType() {
+        assertSame(RecordUpdatePlan.forType(Member.class), RecordUpdatePlan.forType(Member.class));
+    }
+
+    @Test
+    void testForType_RejectsNonRecord() {
+        assertThrows(IllegalArgumentException.class, () -> RecordUpdatePlan.forType(String.class));
+    }
+
+    private static BsonDocument render(Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
+}
@@ -0,0 +1,100 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberSearchRequest;
+
+class SearchMergeTest {
+    // Created in this order, so their ids ascend; a and b are found first by email, c by last name
+    private final Member a = member("Ann", "Joa", "jo@a.org");
+    private final Member b = member("Bea", "Job", "jo@b.org");
+    private final Member c = member("Cy", "Joc", "c@x.org");
+
+    @Test
+    void testNext_ReturnsAMemberMatchingOnSeveralKeysOnce() {
+        // Given
+        Member john = member("John", "Johnson", "john@example.com");
+        SearchMerge merge = new SearchMerge(MemberSearchRequest.of("jo", 10, null));
+
+        // When
+        assertEquals(SearchKey.FIRST_NAME, merge.next());
+        merge.fill(SearchKey.FIRST_NAME, List.of(john));
+        assertEquals(SearchKey.LAST_NAME, merge.next());
+        merge.fill(SearchKey.LAST_NAME, List.of(a, b, c, john));
+        assertEquals(SearchKey.EMAIL, merge.next());
+        merge.fill(SearchKey.EMAIL, List.of(a, b, john));
+
+        // Then
+        assertNull(merge.next());
+        CursorPage<Member> page = merge.page();
+        assertEquals(List.of(a, b, c, john), page.data());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testNext_StopsAtTheFirstMemberOfTheNextPage() {
+        // Given
+        SearchMerge merge = new SearchMerge(MemberSearchRequest.of("jo", 1, null));
+
+        // When
+        fillAll(merge, List.of(), List.of(a, b), List.of(a, b));
+
+        // Then
+        assertNull(merge.next());
+        CursorPage<Member> page = merge.page();
+        assertEquals(List.of(a), page.data());
+        SearchCursor cursor = SearchCursor.decode(page.nextCursor(), "jo");
+        assertEquals(new SearchCursor.Position("jo@a.org", a.id()), cursor.position(SearchKey.EMAIL));
+        assertNull(cursor.position(SearchKey.LAST_NAME));
+    }
+
+    @Test
+    void testNext_RereadsAKeyFromItsPositionOnceItRunsOut() {
+        // Given
+        String token = new SearchCursor("jo", Map.of(
+                SearchKey.EMAIL, new SearchCursor.Position("jo@a.org", a.id()))).encode();
+        SearchMerge merge = new SearchMerge(MemberSearchRequest.of("jo", 1, token));
+        fillAll(merge, List.of(), List.of(a, b), List.of(b));
+
+        // When
+        // Both last name entries were already returned by email, so a full read brought nothing for the page
+        assertEquals(SearchKey.LAST_NAME, merge.next());
+
+        // Then
+        assertEquals(MemberQueries.searchBranch(SearchKey.LAST_NAME, "jo", new SearchCursor.Position("job", b.id())),
+                merge.filter(SearchKey.LAST_NAME));
+        merge.fill(SearchKey.LAST_NAME, List.of(c));
+        assertNull(merge.next());
+        CursorPage<Member> page = merge.page();
+        assertEquals(List.of(b), page.data());
+        assertNotNull(page.nextCursor());
+    }
+
+    @Test
+    void testNew_RejectsCursorOfAnotherSearch() {
+        String token = SearchCursor.start("jo").encode();
+
+        assertThrows(IllegalArgumentException.class, () -> new SearchMerge(MemberSearchRequest.of("ja", 1, token)));
+        assertThrows(IllegalArgumentException.class, () -> new SearchMerge(MemberSearchRequest.of("jo", 1, "garbage")));
+    }
+
+    private static void fillAll(SearchMerge merge, List<Member> byFirstName, List<Member> byLastName, List<Member> byEmail) {
+        assertEquals(SearchKey.FIRST_NAME, merge.next());
+        merge.fill(SearchKey.FIRST_NAME, byFirstName);
+        assertEquals(SearchKey.LAST_NAME, merge.next());
+        merge.fill(SearchKey.LAST_NAME, byLastName);
+        assertEquals(SearchKey.EMAIL, merge.next());
+        merge.fill(SearchKey.EMAIL, byEmail);
+    }
+
+    private static Member member(String firstName, String lastName, String email) {
+        return new Member(new ObjectId(), "user-id", "username", firstName, lastName, email, "1234567890");
+    }
+}
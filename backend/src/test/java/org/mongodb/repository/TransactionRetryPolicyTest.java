@@ -0,0 +1,40 @@
+package org.mongodb.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.MongoException;
+
+class TransactionRetryPolicyTest {
+
+    private final TransactionRetryPolicy policy =
+            new TransactionRetryPolicy(5, Duration.ofMillis(10), Duration.ofMillis(100));
+
+    @Test
+    void testIsTransient_FindsLabelInCauseChain() {
+        MongoException conflict = new MongoException(112, "WriteConflict");
+        conflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+
+        assertTrue(policy.isTransient(new RuntimeException("wrapped", conflict)));
+        assertFalse(policy.isUnknownCommitResult(conflict));
+        assertFalse(policy.isTransient(new MongoException(11000, "duplicate key")));
+    }
+
+    @Test
+    void testBackoff_StaysWithinExponentialCeilingAndMax() {
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(policy.backoff(1).compareTo(Duration.ofMillis(10)) <= 0);
+            assertTrue(policy.backoff(3).compareTo(Duration.ofMillis(40)) <= 0);
+            assertTrue(policy.backoff(30).compareTo(Duration.ofMillis(100)) <= 0);
+            assertFalse(policy.backoff(2).isNegative());
+        }
+    }
+
+    @Test
+    void testMaxAttempts_IsAtLeastOne() {
+        assertEquals(1, new TransactionRetryPolicy(0, Duration.ZERO, Duration.ZERO).maxAttempts());
+    }
+}
@@ -0,0 +1,103 @@
+package org.mongodb.repository.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.Member;
+
+class MemberCodecTest {
+
+    private final MemberCodec codec = new MemberCodec();
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        Member member = new Member(new ObjectId(), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+
+        BsonDocument document = encode(member);
+
+        assertEquals(new BsonObjectId(member.id()), document.get("_id"));
+        assertEquals(new BsonString("john@example.com"), document.get("email"));
+        assertEquals(member, decode(document));
+    }
+
+    @Test
+    void testEncode_SkipsNullFields() {
+        Member member = new Member(null, "user-id", "johndoe", "John", "Doe", "john@example.com", null);
+
+        BsonDocument document = encode(member);
+
+        assertFalse(document.containsKey("_id"));
+        assertFalse(document.containsKey("phoneNumber"));
+        // five fields plus the search keys
+        assertEquals(6, document.size());
+    }
+
+    @Test
+    void testEncode_WritesNormalizedSearchKeys() {
+        Member member = new Member(null, "user-id", "zoe", "Zo\u00eb", "O'Brien", "Zoe@Example.com", null);
+
+        BsonDocument search = encode(member).getDocument("search");
+
+        assertEquals(new BsonString("zoe"), search.get("firstName"));
+        assertEquals(new BsonString("o'brien"), search.get("lastName"));
+        assertEquals(new BsonString("zoe@example.com"), search.get("email"));
+    }
+
+    @Test
+    void testDecode_IgnoresUnknownAndNullFields() {
+        ObjectId id = new ObjectId();
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(id))
+                .append("email", new BsonString("john@example.com"))
+                .append("phoneNumber", BsonNull.VALUE)
+                .append("legacyField", new BsonInt32(1));
+
+        Member member = decode(document);
+
+        assertEquals(new Member(id, null, null, null, null, "john@example.com", null), member);
+    }
+
+    @Test
+    void testVersion_RoundTripsAndAcceptsInt32() {
+        Member member = new Member(new ObjectId(), "user-id", "johndoe", "John", "Doe", "john@example.com", null).withVersion(3L);
+
+        BsonDocument document = encode(member);
+
+        assertEquals(new BsonInt64(3), document.get("version"));
+        assertEquals(member, decode(document));
+        document.put("version", new BsonInt32(4));
+        assertEquals(4L, decode(document).version());
+    }
+
+    @Test
+    void testGenerateIdIfAbsent() {
+        Member member = new Member(null, "user-id", "johndoe", "John", "Doe", "john@example.com", null);
+
+        assertFalse(codec.documentHasId(member));
+        Member withId = codec.generateIdIfAbsentFromDocument(member);
+
+        assertNotNull(withId.id());
+        assertEquals(new BsonObjectId(withId.id()), codec.getDocumentId(withId));
+        assertSame(withId, codec.generateIdIfAbsentFromDocument(withId));
+    }
+
+    private BsonDocument encode(Member member) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), member, EncoderContext.builder().build());
+        return document;
+    }
+
+    private Member decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
@@ -3,17 +3,36 @@ package org.mongodb.repository.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bson.BsonObjectId;
 import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mongodb.model.Member;
+import org.mongodb.model.CountMode;
 import org.mongodb.model.CursorPage;
+import org.mongodb.model.MemberField;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.model.MemberSearchRequest;
+import org.mongodb.model.MemberSort;
+import org.mongodb.repository.MemberQueries;
+import org.mongodb.repository.MemberUpdates;
+import org.mongodb.repository.MemberNotFoundException;
+import org.mongodb.repository.MemberVersionConflictException;
 import org.mongodb.repository.MongoCollectionOps;
+import org.mongodb.repository.PageCursor;
+import org.mongodb.repository.ReadProfile;
+import org.mongodb.repository.SearchCursor;
+import org.mongodb.repository.SearchKey;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.result.UpdateResult;
 
 public class MongoMemberRepoTest {
 
@@ -37,8 +56,10 @@ public class MongoMemberRepoTest {
         when(mongoDatabase.getCollection(anyString(), eq(Member.class))).thenReturn(collection);
         when(findIterable.sort(any())).thenReturn(findIterable);
         when(findIterable.limit(anyInt())).thenReturn(findIterable);
+        when(findIterable.projection(any())).thenReturn(findIterable);
         // Using doReturn for generic return type
         doReturn(findIterable).when(collectionOps).find(any(), any());
+        doReturn(findIterable).when(collectionOps).find(any(), any(), any(ReadProfile.class));
 
         repo = new MongoMemberRepo(mongoClient, collectionOps);
 
@@ -81,10 +102,12 @@ public class MongoMemberRepoTest {
         ObjectId id1 = new ObjectId();
         ObjectId id2 = new ObjectId();
         
-        List<Member> members = Arrays.asList(
+        // One more than the page size comes back, so there is a next page
+        List<Member> members = new ArrayList<>(Arrays.asList(
             new Member(id1, "user1", "johndoe", "John", "Doe", "john@example.com", "1234567890"),
-            new Member(id2, "user2", "janedoe", "Jane", "Doe", "jane@example.com", "0987654321")
-        );
+            new Member(id2, "user2", "janedoe", "Jane", "Doe", "jane@example.com", "0987654321"),
+            new Member(new ObjectId(), "user3", "jimdoe", "Jim", "Doe", "jim@example.com", "1112223333")
+        ));
 
         // findIterable setup is done in setUp()
         when(findIterable.into(any())).thenReturn(members);
@@ -95,8 +118,165 @@ public class MongoMemberRepoTest {
         // Then
         assertNotNull(result);
         assertEquals(2, result.data().size());
-        assertEquals(id2.toString(), result.nextCursor());
-        verify(collectionOps).find(eq(collection), any());
+        assertEquals(id2, PageCursor.decode(result.nextCursor(), MemberSort.DEFAULT).id());
+        verify(findIterable).limit(pageSize + 1);
+        verify(collectionOps).find(eq(collection), any(), eq(ReadProfile.RELAXED));
+    }
+
+    @Test
+    void testListMembersPage_LastPageHasNoCursor() {
+        // Given
+        List<Member> members = new ArrayList<>(List.of(
+            new Member(new ObjectId(), "user1", "johndoe", "John", "Doe", "john@example.com", "1234567890"),
+            new Member(new ObjectId(), "user2", "janedoe", "Jane", "Doe", "jane@example.com", "0987654321")
+        ));
+        when(findIterable.into(any())).thenReturn(members);
+
+        // When
+        CursorPage<Member> result = repo.listMembersPage(2, null);
+
+        // Then
+        assertEquals(2, result.data().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void testListMembersPage_SortsByLastNameWithIdTiebreak() {
+        // Given
+        MemberSort sort = MemberSort.parse("-lastName");
+        when(findIterable.into(any())).thenReturn(new ArrayList<>());
+
+        // When
+        repo.listMembersPage(new MemberPageRequest(10, null, MemberProjection.ALL, sort));
+
+        // Then
+        verify(findIterable).sort(MemberQueries.listingSort(sort));
+    }
+
+    @Test
+    void testListMembersPage_PushesProjectionDown() {
+        // Given
+        MemberProjection projection = MemberProjection.parse("email");
+        when(findIterable.into(any())).thenReturn(new ArrayList<>());
+
+        // When
+        repo.listMembersPage(new MemberPageRequest(2, null, projection, MemberSort.DEFAULT));
+
+        // Then
+        verify(findIterable).projection(projection.including(MemberField.ID).toBson());
+    }
+
+    @Test
+    void testSearchMembers_ReadsEachKeyInIndexOrder() {
+        // Given
+        ObjectId id1 = new ObjectId();
+        ObjectId id2 = new ObjectId();
+        Member john = new Member(id1, "user1", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        Member jodie = new Member(id2, "user2", "jodie", "Jodie", "Foster", "jodie@example.com", "0987654321");
+        when(findIterable.into(any()))
+            .thenReturn(new ArrayList<>(List.of(jodie, john)))
+            .thenReturn(new ArrayList<>())
+            .thenReturn(new ArrayList<>(List.of(jodie, john)));
+
+        // When
+        CursorPage<Member> result = repo.searchMembers(MemberSearchRequest.of(" JO", 1, null));
+
+        // Then
+        assertEquals(List.of(jodie), result.data());
+        assertEquals(new SearchCursor.Position("jodie", id2), SearchCursor.decode(result.nextCursor(), "jo").position(SearchKey.FIRST_NAME));
+        for (SearchKey key : SearchKey.values()) {
+            verify(collectionOps).find(eq(collection), eq(Optional.of(MemberQueries.searchBranch(key, "jo", null))), eq(ReadProfile.RELAXED));
+            verify(findIterable).sort(MemberQueries.searchSort(key));
+        }
+        verify(findIterable, times(3)).limit(2);
+    }
+
+    @Test
+    void testExistsByEmail_ProjectsOnlyTheIndexedEmail() {
+        // Given
+        when(collectionOps.exists(collection, MemberQueries.byEmail("john@example.com"), MemberQueries.EMAIL_ONLY))
+                .thenReturn(true);
+
+        // When / Then
+        assertTrue(repo.existsByEmail("john@example.com"));
+    }
+
+    @Test
+    void testCountMembers_ReadsRelaxed() {
+        // Given
+        when(collectionOps.countDocuments(collection, Optional.empty(), ReadProfile.RELAXED)).thenReturn(42L);
+
+        // When / Then
+        assertEquals(42L, repo.countMembers(CountMode.EXACT));
+        verify(collectionOps, never()).countDocuments(any(), any());
+    }
+
+    @Test
+    void testUpdate_AlsoUpdatesSearchKeys() {
+        // Given
+        Member member = new Member(new ObjectId(), null, null, "Jane", "Doe", null, null);
+        when(collectionOps.updateOne(eq(collection), any(Bson.class), any(Bson.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // When
+        repo.update(member);
+
+        // Then
+        verify(collectionOps).updateOne(eq(collection), eq(MemberQueries.byId(member.id())), eq(MemberUpdates.update(member)));
+    }
+
+    @Test
+    void testUpdate_WithVersionIsCompareAndSet() {
+        // Given
+        Member member = new Member(new ObjectId(), null, null, "Jane", "Doe", null, null).withVersion(3L);
+        Bson filter = MemberQueries.byIdAndVersion(member.id(), 3L);
+        when(collectionOps.updateOne(eq(collection), eq(filter), any(Bson.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // When
+        repo.update(member);
+
+        // Then
+        verify(collectionOps).updateOne(eq(collection), eq(filter), eq(MemberUpdates.update(member)));
+        verify(collectionOps, never()).exists(any(), any());
+    }
+
+    @Test
+    void testUpdate_StaleVersionConflicts() {
+        // Given
+        Member member = new Member(new ObjectId(), null, null, "Jane", "Doe", null, null).withVersion(3L);
+        when(collectionOps.updateOne(eq(collection), any(Bson.class), any(Bson.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(collectionOps.exists(collection, MemberQueries.byId(member.id()))).thenReturn(true);
+
+        // When / Then
+        MemberVersionConflictException thrown = assertThrows(MemberVersionConflictException.class, () -> repo.update(member));
+        assertEquals(3L, thrown.expectedVersion());
+    }
+
+    @Test
+    void testUpdate_MissingMemberIsNotFoundRatherThanAConflict() {
+        // Given
+        Member member = new Member(new ObjectId(), null, null, "Jane", "Doe", null, null).withVersion(3L);
+        when(collectionOps.updateOne(eq(collection), any(Bson.class), any(Bson.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        when(collectionOps.exists(collection, MemberQueries.byId(member.id()))).thenReturn(false);
+
+        // When / Then
+        MemberNotFoundException thrown = assertThrows(MemberNotFoundException.class, () -> repo.update(member));
+        assertEquals(member.id().toHexString(), thrown.id());
+    }
+
+    @Test
+    void testUpdate_UnversionedUpdateOfMissingMemberIsNotFound() {
+        // Given
+        Member member = new Member(new ObjectId(), null, null, "Jane", "Doe", null, null);
+        when(collectionOps.updateOne(eq(collection), any(Bson.class), any(Bson.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        // When / Then
+        assertThrows(MemberNotFoundException.class, () -> repo.update(member));
+        verify(collectionOps, never()).exists(any(), any());
     }
 
     @Test
@@ -109,6 +289,30 @@ public class MongoMemberRepoTest {
         assertNull(result.nextCursor());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamAll_ClosesCursorWithStream() {
+        // Given
+        Member member = new Member(new ObjectId(), "user1", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        MongoCursor<Member> cursor = mock(MongoCursor.class);
+        when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+        when(findIterable.cursor()).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(member);
+        // The stream drains the cursor through this default method, which a mock would skip; it also closes the cursor
+        doCallRealMethod().when(cursor).forEachRemaining(any());
+
+        // When
+        List<Member> result;
+        try (Stream<Member> members = repo.streamAll()) {
+            result = members.collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(List.of(member), result);
+        verify(cursor, atLeastOnce()).close();
+    }
+
     @Test
     void testSave() {
         // Given
@@ -119,7 +323,36 @@ public class MongoMemberRepoTest {
         repo.register(member);
 
         // Then
-        verify(collectionOps).insertOne(eq(collection), eq(member));
+        verify(collectionOps).insertOne(eq(collection), eq(MemberUpdates.initial(member)));
+    }
+
+    @Test
+    void testRegisterIfAbsent() {
+        // Given
+        Member member = new Member(null, "user-id", "johndoe", "John", "Doe", "john@example.com", null);
+        when(collectionOps.insertIfAbsent(eq(collection), any(Bson.class), eq(MemberUpdates.insert(member))))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, new BsonObjectId(new ObjectId())));
+
+        // When
+        boolean inserted = repo.registerIfAbsent(member);
+
+        // Then
+        assertTrue(inserted);
+        verify(collectionOps).insertIfAbsent(eq(collection), any(Bson.class), eq(MemberUpdates.insert(member)));
+    }
+
+    @Test
+    void testRegisterIfAbsent_AlreadyRegistered() {
+        // Given
+        Member member = new Member(null, "user-id", "johndoe", "John", "Doe", "john@example.com", null);
+        when(collectionOps.insertIfAbsent(eq(collection), any(Bson.class), eq(MemberUpdates.insert(member))))
+                .thenReturn(UpdateResult.acknowledged(1, 0L, null));
+
+        // When
+        boolean inserted = repo.registerIfAbsent(member);
+
+        // Then
+        assertFalse(inserted);
     }
 
     @Test
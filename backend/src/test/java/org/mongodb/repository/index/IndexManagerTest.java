@@ -0,0 +1,116 @@
+package org.mongodb.repository.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.client.ListIndexesIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexOptions;
+
+class IndexManagerTest {
+
+    private MongoClient mongoClient;
+    private MongoCollection<Document> collection;
+    private ListIndexesIterable<Document> listIndexes;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoClient = mock(MongoClient.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        collection = mock(MongoCollection.class);
+        listIndexes = mock(ListIndexesIterable.class);
+
+        when(mongoClient.getDatabase("testdb")).thenReturn(database);
+        when(database.getCollection("members")).thenReturn(collection);
+        when(collection.listIndexes()).thenReturn(listIndexes);
+    }
+
+    @Test
+    void testVerify_CreatesMissingIndexes() {
+        existingIndexes(index("_id_", new Document("_id", 1), false));
+
+        List<IndexStatus> statuses = manager(IndexManager.DriftMode.FAIL).verify();
+
+        assertTrue(statuses.stream().allMatch(status -> status.state() == IndexStatus.State.CREATED));
+        verify(collection, times(MemberIndexes.ALL.size())).createIndex(any(Bson.class), any(IndexOptions.class));
+    }
+
+    @Test
+    void testInspect_AcceptsDoubleKeysAndOtherNames() {
+        existingIndexes(
+            index("_id_", new Document("_id", 1), false),
+            index("email_1", new Document("email", 1.0), true),
+            index("userId", new Document("userId", 1), false),
+            index("lastName_1__id_1", new Document("lastName", 1).append("_id", 1), false),
+            index("search.firstName_1__id_1", new Document("search.firstName", 1).append("_id", 1), false),
+            index("search.lastName_1__id_1", new Document("search.lastName", 1).append("_id", 1), false),
+            index("search.email_1__id_1", new Document("search.email", 1).append("_id", 1), false)
+        );
+
+        List<IndexStatus> statuses = manager(IndexManager.DriftMode.FAIL).inspect();
+
+        assertEquals(6, statuses.size());
+        assertTrue(statuses.stream().allMatch(status -> status.state() == IndexStatus.State.PRESENT));
+    }
+
+    @Test
+    void testVerify_FailsOnDriftWhenConfigured() {
+        existingIndexes(
+            index("_id_", new Document("_id", 1), false),
+            index("email_unique", new Document("email", 1), false),
+            index("userId", new Document("userId", 1), false),
+            index("lastName_id", new Document("lastName", 1).append("_id", 1), false),
+            index("search_firstName_id", new Document("search.firstName", 1).append("_id", 1), false),
+            index("search_lastName_id", new Document("search.lastName", 1).append("_id", 1), false),
+            index("search_email_id", new Document("search.email", 1).append("_id", 1), false),
+            index("legacy", new Document("username", 1), false)
+        );
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> manager(IndexManager.DriftMode.FAIL).verify());
+        assertTrue(thrown.getMessage().contains("email_unique"));
+        assertTrue(thrown.getMessage().contains("legacy"));
+        verify(collection, never()).createIndex(any(Bson.class), any(IndexOptions.class));
+    }
+
+    @Test
+    void testVerify_WarnsOnDriftByDefault() {
+        existingIndexes(
+            index("_id_", new Document("_id", 1), false),
+            index("email_unique", new Document("email", 1), true),
+            index("userId", new Document("userId", -1), false)
+        );
+
+        List<IndexStatus> statuses = manager(IndexManager.DriftMode.WARN).verify();
+
+        assertEquals(IndexStatus.State.MISMATCHED, statuses.get(1).state());
+    }
+
+    private IndexManager manager(IndexManager.DriftMode mode) {
+        return new IndexManager(mongoClient, "testdb", "members", true, mode);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void existingIndexes(Document... indexes) {
+        when(listIndexes.into(anyList())).thenAnswer(invocation -> {
+            List<Document> target = invocation.getArgument(0);
+            target.addAll(List.of(indexes));
+            return target;
+        });
+    }
+
+    private static Document index(String name, Document keys, boolean unique) {
+        Document index = new Document("v", 2).append("key", keys).append("name", name);
+        return unique ? index.append("unique", true) : index;
+    }
+}
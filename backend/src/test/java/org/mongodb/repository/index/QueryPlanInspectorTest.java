@@ -0,0 +1,115 @@
+package org.mongodb.repository.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mongodb.repository.MemberQueries;
+import org.mongodb.repository.MemberQueries.QueryShape;
+import org.mongodb.repository.SearchKey;
+
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+
+class QueryPlanInspectorTest {
+
+    private MongoCollection<Document> collection;
+    private FindIterable<Document> find;
+    private QueryPlanInspector inspector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoClient mongoClient = mock(MongoClient.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        collection = mock(MongoCollection.class);
+        find = mock(FindIterable.class);
+
+        when(mongoClient.getDatabase("testdb")).thenReturn(database);
+        when(database.getCollection("members")).thenReturn(collection);
+        when(collection.find(any(Bson.class))).thenReturn(find);
+        when(find.limit(anyInt())).thenReturn(find);
+        when(find.sort(any())).thenReturn(find);
+        when(find.projection(any())).thenReturn(find);
+
+        inspector = new QueryPlanInspector(mongoClient, "testdb", "members");
+    }
+
+    @Test
+    void testExplain_SearchReadsEachKeyIndexInOrder() {
+        // Given
+        QueryShape search = shape("searchMembersByEmail");
+        explainReturns(stage("LIMIT", stage("FETCH", indexScan("search_email_id"))), 11, 11);
+
+        // When
+        QueryPlanReport report = inspector.explain(search);
+
+        // Then
+        verify(find).sort(MemberQueries.searchSort(SearchKey.EMAIL));
+        assertTrue(report.indexed());
+        assertEquals(List.of("search_email_id"), report.indexes());
+        assertFalse(report.sortedInMemory());
+        assertFalse(report.covered());
+    }
+
+    @Test
+    void testExplain_ListingReadsIdIndexInOrder() {
+        // Given
+        QueryShape listing = shape("listMembersPage");
+        explainReturns(stage("LIMIT", stage("FETCH", indexScan("_id_"))), 11, 11);
+
+        // When
+        QueryPlanReport report = inspector.explain(listing);
+
+        // Then
+        assertTrue(report.indexed());
+        assertEquals(List.of("_id_"), report.indexes());
+        assertFalse(report.sortedInMemory());
+    }
+
+    @Test
+    void testExplain_ExistsByEmailIsCoveredByTheEmailIndex() {
+        // Given
+        QueryShape exists = shape("existsByEmail");
+        explainReturns(stage("LIMIT", stage("PROJECTION_COVERED", indexScan("email_unique"))), 1, 0);
+
+        // When
+        QueryPlanReport report = inspector.explain(exists);
+
+        // Then
+        verify(find).projection(MemberQueries.EMAIL_ONLY);
+        assertTrue(report.covered());
+        assertEquals(List.of("email_unique"), report.indexes());
+    }
+
+    private static QueryShape shape(String name) {
+        return MemberQueries.shapes().stream().filter(shape -> shape.name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private void explainReturns(Document winningPlan, int keysExamined, int docsExamined) {
+        when(find.explain(ExplainVerbosity.EXECUTION_STATS)).thenReturn(new Document()
+            .append("queryPlanner", new Document("winningPlan", winningPlan))
+            .append("executionStats", new Document("totalKeysExamined", keysExamined)
+                .append("totalDocsExamined", docsExamined)));
+    }
+
+    private static Document stage(String name, Document input) {
+        return new Document("stage", name).append("inputStage", input);
+    }
+
+    private static Document stage(String name, Document... inputs) {
+        return new Document("stage", name).append("inputStages", List.of(inputs));
+    }
+
+    private static Document indexScan(String indexName) {
+        return new Document("stage", "IXSCAN").append("indexName", indexName);
+    }
+}
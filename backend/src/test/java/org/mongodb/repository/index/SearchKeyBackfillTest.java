@@ -0,0 +1,86 @@
+package org.mongodb.repository.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.Member;
+
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+
+class SearchKeyBackfillTest {
+
+    private MongoCollection<Member> collection;
+    private FindIterable<Member> find;
+    private MongoCursor<Member> cursor;
+    private SearchKeyBackfill backfill;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        MongoClient mongoClient = mock(MongoClient.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        collection = mock(MongoCollection.class);
+        find = mock(FindIterable.class);
+        cursor = mock(MongoCursor.class);
+
+        when(mongoClient.getDatabase("testdb")).thenReturn(database);
+        when(database.getCollection("members", Member.class)).thenReturn(collection);
+        when(find.batchSize(anyInt())).thenReturn(find);
+        when(find.cursor()).thenReturn(cursor);
+
+        backfill = new SearchKeyBackfill(mongoClient, "testdb", "members", true, 2, Duration.ofMillis(1));
+    }
+
+    @Test
+    void testBackfill_WritesKeysInBatches() {
+        // Given
+        when(collection.find(any(Bson.class))).thenReturn(find);
+        when(cursor.hasNext()).thenReturn(true, true, true, false);
+        when(cursor.next()).thenReturn(member("John"), member("Jane"), member("Jo"));
+        BulkWriteResult result = mock(BulkWriteResult.class);
+        when(result.getModifiedCount()).thenReturn(2, 1);
+        when(collection.bulkWrite(anyList(), any(BulkWriteOptions.class))).thenReturn(result);
+
+        // When
+        long updated = backfill.backfill();
+
+        // Then
+        assertEquals(3, updated);
+        verify(collection, times(2)).bulkWrite(anyList(), any(BulkWriteOptions.class));
+        verify(cursor).close();
+    }
+
+    @Test
+    void testRun_RetriesWhileMongoIsUnreachable() {
+        // Given
+        when(collection.find(any(Bson.class)))
+                .thenThrow(new MongoTimeoutException("no server"))
+                .thenReturn(find);
+        when(cursor.hasNext()).thenReturn(false);
+
+        // When
+        backfill.run();
+
+        // Then
+        verify(collection, times(2)).find(any(Bson.class));
+        verify(collection, never()).bulkWrite(anyList(), any(BulkWriteOptions.class));
+    }
+
+    private static Member member(String firstName) {
+        return new Member(new ObjectId(), "user-id", "username", firstName, "Doe", firstName.toLowerCase() + "@example.com", "1234567890");
+    }
+}
@@ -0,0 +1,73 @@
+package org.mongodb.resource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberProjection;
+
+import jakarta.ws.rs.core.EntityTag;
+
+class MemberETagsTest {
+
+    private final Member member = new Member(new ObjectId(), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890")
+            .withVersion(2L);
+
+    @Test
+    void testMemberTag_OnlyDependsOnVersionAndFields() {
+        Member versionOnly = new Member(member.id(), null, null, null, null, null, null, 2L);
+
+        assertEquals(MemberETags.of(member, MemberProjection.ALL), MemberETags.of(versionOnly, MemberProjection.ALL));
+        assertNotEquals(MemberETags.of(member, MemberProjection.ALL), MemberETags.of(member.withVersion(3L), MemberProjection.ALL));
+        assertNotEquals(MemberETags.of(member, MemberProjection.ALL), MemberETags.of(member, MemberProjection.parse("email")));
+        assertFalse(MemberETags.of(member, MemberProjection.ALL).isWeak());
+    }
+
+    @Test
+    void testVersion_ReadBackFromMemberTagOnly() {
+        String header = header(MemberETags.of(member, MemberProjection.parse("email")));
+        CursorPage<Member> page = new CursorPage<>(List.of(member), null);
+
+        assertEquals(Optional.of(2L), MemberETags.version(header));
+        assertEquals(Optional.empty(), MemberETags.version(header(MemberETags.of(page, MemberProjection.ALL, MemberETags.NO_COUNT))));
+        assertEquals(Optional.empty(), MemberETags.version("2.7f"));
+        assertEquals(Optional.empty(), MemberETags.version(null));
+    }
+
+    @Test
+    void testIfMatch_ParsesTagListsAndWildcard() {
+        assertEquals(Optional.empty(), MemberETags.ifMatch(null));
+        assertEquals(Optional.empty(), MemberETags.ifMatch(" "));
+        assertEquals(Optional.of(new MemberETags.IfMatch(true, List.of())), MemberETags.ifMatch("*"));
+        assertEquals(Optional.of(new MemberETags.IfMatch(false, List.of(2L, 5L))),
+                MemberETags.ifMatch("\"2.7f\", \"x,y\" ,\"5.1\",\"2.3\""));
+    }
+
+    @Test
+    void testIfMatch_WeakForeignAndMalformedTagsMatchNothing() {
+        assertTrue(MemberETags.ifMatch("W/\"2.7f\"").orElseThrow().matchesNothing());
+        assertTrue(MemberETags.ifMatch("\"not-a-member-tag\"").orElseThrow().matchesNothing());
+        assertTrue(MemberETags.ifMatch("\"2.7f").orElseThrow().matchesNothing());
+        assertTrue(MemberETags.ifMatch("2.7f").orElseThrow().matchesNothing());
+    }
+
+    @Test
+    void testPageTag_CoversCursorAndCount() {
+        CursorPage<Member> page = new CursorPage<>(List.of(member), null);
+        CursorPage<Member> withNext = new CursorPage<>(List.of(member), "next");
+
+        assertNotEquals(MemberETags.of(page, MemberProjection.ALL, MemberETags.NO_COUNT), MemberETags.of(withNext, MemberProjection.ALL, MemberETags.NO_COUNT));
+        assertNotEquals(MemberETags.of(page, MemberProjection.ALL, MemberETags.NO_COUNT), MemberETags.of(page, MemberProjection.ALL, 1));
+        assertNotEquals(MemberETags.of(page, MemberProjection.ALL, MemberETags.NO_COUNT), MemberETags.of(member, MemberProjection.ALL));
+    }
+
+    // EntityTag.toString() is deprecated; this is the header form for the tags built here
+    private static String header(EntityTag tag) {
+        return (tag.isWeak() ? "W/" : "") + '"' + tag.getValue() + '"';
+    }
+}
@@ -0,0 +1,68 @@
+package org.mongodb.resource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.ImportRow;
+import org.mongodb.model.Member;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class MemberImportParserTest {
+
+    @Test
+    void testNdjson_ParsesLinesAndReportsMalformedOnes() {
+        String body = """
+            {"userId":"u1","username":"john","firstName":"John","lastName":"Doe","email":"john@example.com","phoneNumber":"1234567890"}
+
+            {"userId":"u2",
+            """;
+
+        List<ImportRow> rows = collect(MemberImportParser.ndjson(stream(body), new ObjectMapper()));
+
+        assertEquals(2, rows.size());
+        assertEquals(new Member(null, "u1", "john", "John", "Doe", "john@example.com", "1234567890"), rows.get(0).member());
+        assertEquals(1, rows.get(0).line());
+        assertNull(rows.get(1).member());
+        assertEquals(3, rows.get(1).line());
+        assertTrue(rows.get(1).error().startsWith("Malformed JSON"));
+    }
+
+    @Test
+    void testCsv_MapsColumnsByHeader() {
+        String body = """
+            email,firstName,lastName,userId,username,phoneNumber
+            john@example.com,John,"Doe, Jr.",u1,john,1234567890
+            jane@example.com,Jane
+            """;
+
+        List<ImportRow> rows = collect(MemberImportParser.csv(stream(body)));
+
+        assertEquals(2, rows.size());
+        assertEquals(new Member(null, "u1", "john", "John", "Doe, Jr.", "john@example.com", "1234567890"), rows.get(0).member());
+        assertEquals(2, rows.get(0).line());
+        assertEquals("Expected 6 columns but found 2", rows.get(1).error());
+    }
+
+    @Test
+    void testSplitCsv_HandlesEscapedQuotes() {
+        assertEquals(List.of("a", "say \"hi\"", ""), MemberImportParser.splitCsv("a,\"say \"\"hi\"\"\","));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<ImportRow> collect(Iterator<ImportRow> rows) {
+        List<ImportRow> result = new ArrayList<>();
+        rows.forEachRemaining(result::add);
+        return result;
+    }
+}
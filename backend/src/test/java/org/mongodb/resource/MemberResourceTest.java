@@ -6,6 +6,7 @@ import io.quarkus.test.security.jwt.JwtSecurity;
 import io.quarkus.test.security.TestSecurity;
 import io.quarkus.test.security.SecurityAttribute;
 import io.restassured.http.ContentType;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
 import static io.restassured.RestAssured.given;
@@ -45,6 +46,30 @@ class MemberResourceTest {
             .body(equalTo("Size must be greater than 0"));
     }
 
+    @Test
+    @TestSecurity(user = "admin", roles = {"ADMIN"})
+    void testListMembersNotModifiedWhenETagMatches() {
+        String etag = given()
+            .when().get("/api/members")
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .extract().header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+            .when().get("/api/members")
+            .then()
+            .statusCode(304);
+
+        given()
+            .header("If-None-Match", etag)
+            .queryParam("fields", "email")
+            .when().get("/api/members")
+            .then()
+            .statusCode(200);
+    }
+
     @Test
     @TestSecurity(user = "admin", roles = {"ADMIN"})
     void testGetMemberByIdNotFound() {
@@ -70,7 +95,68 @@ class MemberResourceTest {
             .body(memberJson)
             .when().put("/api/members/507f1f77bcf86cd799439011")
             .then()
-            .statusCode(200);
+            .statusCode(anyOf(is(200), is(404)));
+    }
+
+    @Test
+    @TestSecurity(user = "admin", roles = {"ADMIN"})
+    void testUpdateMissingMember() {
+        String memberJson = """
+            {
+                "firstName": "John",
+                "lastName": "Doe",
+                "phoneNumber": "1234567890"
+            }
+            """;
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(memberJson)
+            .when().put("/api/members/" + new ObjectId().toHexString())
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    @TestSecurity(user = "admin", roles = {"ADMIN"})
+    void testUpdateMissingMemberWithIfMatch() {
+        String memberJson = """
+            {
+                "firstName": "John",
+                "lastName": "Doe",
+                "phoneNumber": "1234567890"
+            }
+            """;
+
+        for (String ifMatch : new String[] {"*", "\"0.7f\"", "\"0.7f\", \"1.7f\""}) {
+            given()
+                .contentType(ContentType.JSON)
+                .header("If-Match", ifMatch)
+                .body(memberJson)
+                .when().put("/api/members/" + new ObjectId().toHexString())
+                .then()
+                .statusCode(412);
+        }
+    }
+
+    @Test
+    @TestSecurity(user = "admin", roles = {"ADMIN"})
+    void testUpdateMemberWithForeignIfMatch() {
+        String memberJson = """
+            {
+                "firstName": "John",
+                "lastName": "Doe",
+                "phoneNumber": "1234567890"
+            }
+            """;
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", "\"not-a-member-tag\"")
+            .body(memberJson)
+            .when().put("/api/members/507f1f77bcf86cd799439011")
+            .then()
+            .statusCode(412);
     }
 
     @Test
@@ -138,6 +224,15 @@ class MemberResourceTest {
             .statusCode(403);
     }
 
+    @Test
+    @TestSecurity(user = "user", roles = {"USER"})
+    void testExportMembersAsUserForbidden() {
+        given()
+            .when().get("/api/members/export")
+            .then()
+            .statusCode(403);
+    }
+
     @Test
     void testEndpointsRequireAuthentication() {
         given()
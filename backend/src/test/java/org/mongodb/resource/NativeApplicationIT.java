@@ -0,0 +1,33 @@
+package org.mongodb.resource;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Runs against the packaged application, the native executable with {@code -Dnative}.
+ * Authenticated endpoints are covered by the in-JVM tests, which can fake security.
+ */
+@QuarkusIntegrationTest
+class NativeApplicationIT {
+
+    @Test
+    void testMetricsBindersStart() {
+        given()
+            .when().get("/q/metrics")
+            .then()
+            .statusCode(200)
+            .body(containsString("kitchensink_cache_member_existence_entries"))
+            .body(containsString("kitchensink_transactions_total"));
+    }
+
+    @Test
+    void testMembersRequireAuthentication() {
+        given()
+            .when().get("/api/members")
+            .then()
+            .statusCode(401);
+    }
+}
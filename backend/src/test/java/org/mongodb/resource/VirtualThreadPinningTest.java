@@ -0,0 +1,53 @@
+package org.mongodb.resource;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import io.quarkus.test.security.TestSecurity;
+import io.quarkus.test.security.jwt.Claim;
+import io.quarkus.test.security.jwt.JwtSecurity;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Fails when a virtual thread gets pinned to its carrier while serving a blocking
+ * endpoint, e.g. by a synchronized block around driver I/O. Pinning is read from
+ * the JFR {@code jdk.VirtualThreadPinned} events of the whole test JVM.
+ */
+@QuarkusTest
+@VirtualThreadUnit
+@ShouldNotPin
+class VirtualThreadPinningTest {
+
+    @Test
+    @TestSecurity(user = "admin", roles = {"ADMIN"})
+    void testListMembersAsAdmin() {
+        given()
+            .queryParam("count", "exact")
+            .when().get("/api/members")
+            .then()
+            .statusCode(200);
+    }
+
+    @Test
+    @TestSecurity(user = "user", roles = {"USER"})
+    @JwtSecurity(claims = {@Claim(key = "email", value = "test@asdf.com")})
+    void testRegistrationCheckAndOwnMember() {
+        given()
+            .when().get("/api/members")
+            .then()
+            .statusCode(anyOf(is(200), is(404)));
+    }
+
+    @Test
+    @TestSecurity(user = "user", roles = {"USER"})
+    @JwtSecurity(claims = {@Claim(key = "email", value = "test@asdf.com")})
+    void testRegistrationData() {
+        given()
+            .when().get("/api/registration")
+            .then()
+            .statusCode(200);
+    }
+}
@@ -0,0 +1,69 @@
+package org.mongodb.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mongodb.model.Member;
+
+import io.smallrye.mutiny.Uni;
+
+class CurrentMemberTest {
+
+    private final Member member = new Member(new ObjectId(), "user-id", "janedoe", "Jane", "Doe", "jane@example.com", null);
+    private final CurrentMember currentMember = new CurrentMember();
+
+    @Test
+    void testResolve_LooksUpOncePerRequest() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        currentMember.resolve("jane@example.com", email -> {
+            lookups.incrementAndGet();
+            return Optional.of(member);
+        });
+        Optional<Member> again = currentMember.resolve("jane@example.com", email -> {
+            lookups.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(Optional.of(member), again);
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void testResolve_RemembersUnregisteredCaller() {
+        currentMember.resolved("jane@example.com", null);
+
+        assertEquals(Optional.empty(), currentMember.resolve("jane@example.com", email -> fail("looked up again")));
+    }
+
+    @Test
+    void testResolve_OtherEmailOrClearLooksUpAgain() {
+        currentMember.resolved("john@example.com", null);
+
+        assertEquals(Optional.of(member), currentMember.resolve("jane@example.com", email -> Optional.of(member)));
+
+        currentMember.clear();
+        assertEquals(Optional.empty(), currentMember.resolve("jane@example.com", email -> Optional.empty()));
+    }
+
+    @Test
+    void testResolveAsync_ReusesFilterResult() {
+        currentMember.resolved("jane@example.com", member);
+
+        Member result = currentMember.resolveAsync("jane@example.com", email -> fail("looked up again"))
+                .await().indefinitely();
+
+        assertEquals(member, result);
+    }
+
+    @Test
+    void testResolveAsync_StoresLookupResult() {
+        currentMember.resolveAsync("jane@example.com", email -> Uni.createFrom().item(member)).await().indefinitely();
+
+        assertEquals(Optional.of(member), currentMember.resolve("jane@example.com", email -> Optional.empty()));
+    }
+}
@@ -0,0 +1,94 @@
+package org.mongodb.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mongodb.cache.MemberCountCache;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.model.ImportReport;
+import org.mongodb.model.ImportRow;
+import org.mongodb.model.Member;
+import org.mongodb.repository.MemberRepo;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberImportServiceClassicTest {
+
+    private MemberRepo memberRepo;
+    private MemberExistenceCache existenceCache;
+    private MemberCountCache countCache;
+    private Validator validator;
+    private MemberImportServiceClassic importService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepo = mock(MemberRepo.class);
+        existenceCache = mock(MemberExistenceCache.class);
+        countCache = mock(MemberCountCache.class);
+        validator = mock(Validator.class);
+        when(validator.validate(any(Member.class))).thenReturn(Set.of());
+        when(memberRepo.insertMany(anyList())).thenReturn(Map.of());
+        importService = new MemberImportServiceClassic(memberRepo, existenceCache, countCache, validator, 2, 10);
+    }
+
+    @Test
+    void testImportWritesInBatches() {
+        // Given
+        List<ImportRow> rows = List.of(
+            ImportRow.parsed(1, member("a@example.com")),
+            ImportRow.parsed(2, member("b@example.com")),
+            ImportRow.parsed(3, member("c@example.com"))
+        );
+
+        // When
+        ImportReport report = importService.importMembers(rows.iterator());
+
+        // Then
+        assertEquals(3, report.received());
+        assertEquals(3, report.inserted());
+        assertEquals(0, report.failed());
+        verify(memberRepo, times(2)).insertMany(anyList());
+        verify(existenceCache).invalidate("c@example.com");
+        verify(countCache).invalidateAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportReportsParseValidationAndWriteErrors() {
+        // Given
+        Member invalid = member("invalid");
+        ConstraintViolation<Member> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Email should be valid");
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        when(memberRepo.insertMany(anyList())).thenReturn(Map.of(1, "E11000 duplicate key error"));
+
+        List<ImportRow> rows = List.of(
+            ImportRow.failed(1, "Malformed JSON: unexpected end-of-input"),
+            ImportRow.parsed(2, invalid),
+            ImportRow.parsed(3, member("a@example.com")),
+            ImportRow.parsed(4, member("dup@example.com"))
+        );
+
+        // When
+        ImportReport report = importService.importMembers(rows.iterator());
+
+        // Then
+        assertEquals(4, report.received());
+        assertEquals(1, report.inserted());
+        assertEquals(3, report.failed());
+        assertEquals(List.of(1L, 2L, 4L), report.errors().stream().map(e -> e.line()).toList());
+        assertEquals(List.of("Email should be valid"), report.errors().get(1).errors());
+        assertFalse(report.errorsTruncated());
+        verify(existenceCache, never()).invalidate("dup@example.com");
+    }
+
+    private static Member member(String email) {
+        return new Member(null, "user-id", "johndoe", "John", "Doe", email, "1234567890");
+    }
+}
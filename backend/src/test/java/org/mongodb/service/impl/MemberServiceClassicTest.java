@@ -3,11 +3,19 @@ package org.mongodb.service.impl;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mongodb.cache.MemberCountCache;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.model.CountMode;
 import org.mongodb.model.CursorPage;
 import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
 import org.mongodb.repository.MemberRepo;
+import org.mongodb.repository.MongoTransactionManager;
+import org.mockito.ArgumentCaptor;
 import org.mongodb.resource.viewmodel.UpsertMemberViewModel;
 import java.util.Arrays;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import static org.mockito.Mockito.*;
@@ -16,19 +24,25 @@ import static org.junit.jupiter.api.Assertions.*;
 class MemberServiceClassicTest {
 
     private MemberRepo memberRepo;
+    private MemberExistenceCache existenceCache;
+    private MemberCountCache countCache;
+    private MongoTransactionManager transactionManager;
     private MemberServiceClassic memberService;
 
     @BeforeEach
     void setUp() {
         memberRepo = mock(MemberRepo.class);
-        memberService = new MemberServiceClassic(memberRepo);
+        existenceCache = mock(MemberExistenceCache.class);
+        countCache = new MemberCountCache(Duration.ofSeconds(5));
+        transactionManager = mock(MongoTransactionManager.class);
+        memberService = new MemberServiceClassic(memberRepo, existenceCache, countCache, transactionManager);
     }
 
     @Test
     void testFindByIdReturnsMember() {
         // Given
         Member member = new Member(new ObjectId("689f3a9598292c14bf413125"), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
-        when(memberRepo.findById("123")).thenReturn(Optional.of(member));
+        when(memberRepo.findById("123", MemberProjection.ALL)).thenReturn(Optional.of(member));
 
         // When
         Optional<Member> result = memberService.findById("123");
@@ -36,20 +50,20 @@ class MemberServiceClassicTest {
         // Then
         assertTrue(result.isPresent());
         assertEquals(member, result.get());
-        verify(memberRepo).findById("123");
+        verify(memberRepo).findById("123", MemberProjection.ALL);
     }
 
     @Test
     void testFindByIdReturnsEmpty() {
         // Given
-        when(memberRepo.findById("notfound")).thenReturn(Optional.empty());
+        when(memberRepo.findById("notfound", MemberProjection.ALL)).thenReturn(Optional.empty());
 
         // When
         Optional<Member> result = memberService.findById("notfound");
 
         // Then
         assertFalse(result.isPresent());
-        verify(memberRepo).findById("notfound");
+        verify(memberRepo).findById("notfound", MemberProjection.ALL);
     }
 
     @Test
@@ -61,7 +75,7 @@ class MemberServiceClassicTest {
         String nextCursor = "234";
         CursorPage<Member> page = new CursorPage<>(members, nextCursor);
         
-        when(memberRepo.listMembersPage(10, "123")).thenReturn(page);
+        when(memberRepo.listMembersPage(MemberPageRequest.of(10, "123"))).thenReturn(page);
 
         // When
         CursorPage<Member> result = memberService.findAll(10, "123");
@@ -69,7 +83,7 @@ class MemberServiceClassicTest {
         // Then
         assertEquals(2, result.data().size());
         assertEquals(nextCursor, result.nextCursor());
-        verify(memberRepo).listMembersPage(10, "123");
+        verify(memberRepo).listMembersPage(MemberPageRequest.of(10, "123"));
     }
 
     @Test
@@ -98,6 +112,50 @@ class MemberServiceClassicTest {
             savedMember.email().equals("john@example.com") &&
             savedMember.phoneNumber().equals("1234567890")
         ));
+        verify(existenceCache).put("john@example.com", true);
+    }
+
+    @Test
+    void testRegisterIfAbsentMarksMemberAsExisting() {
+        // Given
+        Member member = new Member(null, "test-id", "johndoe", "John", "Doe", "john@example.com", null);
+        when(memberRepo.registerIfAbsent(member)).thenReturn(true);
+
+        // When
+        boolean inserted = memberService.registerIfAbsent(member);
+
+        // Then
+        assertTrue(inserted);
+        verify(memberRepo).registerIfAbsent(member);
+        verify(existenceCache).put("john@example.com", true);
+    }
+
+    @Test
+    void testCountMembersIsCachedUntilRegister() {
+        // Given
+        when(memberRepo.countMembers(CountMode.ESTIMATED)).thenReturn(2L, 3L);
+
+        // When
+        long first = memberService.countMembers(CountMode.ESTIMATED);
+        long cached = memberService.countMembers(CountMode.ESTIMATED);
+        memberService.register(new Member(null, "test-id", "johndoe", "John", "Doe", "john@example.com", null));
+        long refreshed = memberService.countMembers(CountMode.ESTIMATED);
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(2, cached);
+        assertEquals(3, refreshed);
+        verify(memberRepo, times(2)).countMembers(CountMode.ESTIMATED);
+    }
+
+    @Test
+    void testCountMembersNoneSkipsRepo() {
+        // When
+        long count = memberService.countMembers(CountMode.NONE);
+
+        // Then
+        assertEquals(0, count);
+        verify(memberRepo, never()).countMembers(any());
     }
 
     @Test
@@ -140,4 +198,23 @@ class MemberServiceClassicTest {
         // Then
         verify(memberRepo).deleteById(id);
     }
+
+    @Test
+    void testDeleteByIdInvalidatesExistenceCache() {
+        // Given
+        String id = "689f3a9598292c14bf413125";
+        Member member = new Member(new ObjectId(id), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        when(memberRepo.findById(id)).thenReturn(Optional.of(member));
+
+        // When
+        memberService.deleteById(id);
+
+        // Then
+        verify(memberRepo).deleteById(id);
+        ArgumentCaptor<Runnable> afterCommit = ArgumentCaptor.forClass(Runnable.class);
+        verify(transactionManager).afterCommit(afterCommit.capture());
+        verify(existenceCache, never()).invalidate(any());
+        afterCommit.getValue().run();
+        verify(existenceCache).invalidate("john@example.com");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package org.mongodb.service.impl;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mongodb.cache.MemberCountCache;
+import org.mongodb.cache.MemberExistenceCache;
+import org.mongodb.model.CountMode;
+import org.mongodb.model.CursorPage;
+import org.mongodb.model.Member;
+import org.mongodb.model.MemberPageRequest;
+import org.mongodb.model.MemberProjection;
+import org.mongodb.repository.ReactiveMemberRepo;
+import org.mongodb.repository.ReactiveMongoTransactionManager;
+
+import com.mongodb.reactivestreams.client.ClientSession;
+
+import io.smallrye.mutiny.Uni;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberServiceReactiveTest {
+
+    private ReactiveMemberRepo memberRepo;
+    private MemberExistenceCache existenceCache;
+    private MemberCountCache countCache;
+    private ReactiveMongoTransactionManager transactionManager;
+    private MemberServiceReactive memberService;
+
+    @BeforeEach
+    void setUp() {
+        memberRepo = mock(ReactiveMemberRepo.class);
+        existenceCache = mock(MemberExistenceCache.class);
+        countCache = new MemberCountCache(Duration.ofSeconds(5));
+        transactionManager = mock(ReactiveMongoTransactionManager.class);
+        // Runs the callback as if in a transaction that commits when its Uni completes
+        when(transactionManager.execute(any())).thenAnswer(invocation -> {
+            Function<ClientSession, Uni<Object>> callback = invocation.getArgument(0);
+            return callback.apply(mock(ClientSession.class));
+        });
+        memberService = new MemberServiceReactive(memberRepo, existenceCache, countCache, transactionManager);
+    }
+
+    @Test
+    void testFindByIdReturnsMember() {
+        // Given
+        Member member = new Member(new ObjectId("689f3a9598292c14bf413125"), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        when(memberRepo.findById("123", MemberProjection.ALL)).thenReturn(Uni.createFrom().item(member));
+
+        // When
+        Member result = memberService.findById("123").await().indefinitely();
+
+        // Then
+        assertEquals(member, result);
+    }
+
+    @Test
+    void testFindAllReturnsPage() {
+        // Given
+        Member member = new Member(new ObjectId("689f3a9598292c14bf413125"), "user1", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        when(memberRepo.listMembersPage(MemberPageRequest.of(10, null))).thenReturn(Uni.createFrom().item(new CursorPage<>(List.of(member), null)));
+
+        // When
+        CursorPage<Member> result = memberService.findAll(10, null).await().indefinitely();
+
+        // Then
+        assertEquals(1, result.data().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void testRegisterMarksMemberAsExisting() {
+        // Given
+        Member member = new Member(null, "test-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        when(memberRepo.register(member)).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        memberService.register(member).await().indefinitely();
+
+        // Then
+        verify(memberRepo).register(member);
+        verify(existenceCache).put("john@example.com", true);
+    }
+
+    @Test
+    void testRegisterIfAbsentSharesPendingUpsert() {
+        // Given
+        Member member = new Member(null, "test-id", "johndoe", "John", "Doe", "john@example.com", null);
+        AtomicInteger subscriptions = new AtomicInteger();
+        when(memberRepo.registerIfAbsent(member)).thenReturn(Uni.createFrom().item(() -> {
+            subscriptions.incrementAndGet();
+            return true;
+        }));
+
+        // When
+        Uni<Boolean> first = memberService.registerIfAbsent(member);
+        Uni<Boolean> second = memberService.registerIfAbsent(member);
+
+        // Then
+        assertTrue(first.await().indefinitely());
+        assertTrue(second.await().indefinitely());
+        assertEquals(1, subscriptions.get());
+        verify(memberRepo, times(1)).registerIfAbsent(member);
+        verify(existenceCache).put("john@example.com", true);
+    }
+
+    @Test
+    void testCountMembersIsCachedUntilDelete() {
+        // Given
+        String id = "689f3a9598292c14bf413125";
+        when(memberRepo.countMembers(CountMode.EXACT))
+                .thenReturn(Uni.createFrom().item(2L))
+                .thenReturn(Uni.createFrom().item(1L));
+        when(memberRepo.findById(id)).thenReturn(Uni.createFrom().nullItem());
+        when(memberRepo.deleteById(id)).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        long first = memberService.countMembers(CountMode.EXACT).await().indefinitely();
+        long cached = memberService.countMembers(CountMode.EXACT).await().indefinitely();
+        memberService.deleteById(id).await().indefinitely();
+        long refreshed = memberService.countMembers(CountMode.EXACT).await().indefinitely();
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(2, cached);
+        assertEquals(1, refreshed);
+        verify(memberRepo, times(2)).countMembers(CountMode.EXACT);
+    }
+
+    @Test
+    void testDeleteByIdInvalidatesExistenceCache() {
+        // Given
+        String id = "689f3a9598292c14bf413125";
+        Member member = new Member(new ObjectId(id), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        when(memberRepo.findById(id)).thenReturn(Uni.createFrom().item(member));
+        when(memberRepo.deleteById(id)).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        memberService.deleteById(id).await().indefinitely();
+
+        // Then
+        verify(memberRepo).deleteById(id);
+        verify(existenceCache).invalidate("john@example.com");
+    }
+
+    @Test
+    void testDeleteByIdInvalidatesOnlyAfterTheTransactionCommits() {
+        // Given
+        String id = "689f3a9598292c14bf413125";
+        Member member = new Member(new ObjectId(id), "user-id", "johndoe", "John", "Doe", "john@example.com", "1234567890");
+        when(memberRepo.findById(id)).thenReturn(Uni.createFrom().item(member));
+        when(memberRepo.deleteById(id)).thenReturn(Uni.createFrom().voidItem());
+        doAnswer(invocation -> {
+            Function<ClientSession, Uni<Object>> callback = invocation.getArgument(0);
+            return callback.apply(mock(ClientSession.class))
+                    // The commit: nothing may be invalidated before it
+                    .invoke(() -> verify(existenceCache, never()).invalidate(any()));
+        }).when(transactionManager).execute(any());
+
+        // When
+        memberService.deleteById(id).await().indefinitely();
+
+        // Then
+        verify(transactionManager).execute(any());
+        verify(memberRepo).findById(id);
+        verify(memberRepo).deleteById(id);
+        verify(existenceCache).invalidate("john@example.com");
+    }
+}